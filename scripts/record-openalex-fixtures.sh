@@ -0,0 +1,40 @@
+#!/usr/bin/env bash
+set -euo pipefail
+
+# JMH 벤치마크용 OpenAlex works 응답(페이지당 200건)을 그대로 저장합니다.
+# - 앱의 기본 select(OpenAlexJsonMapper.CONSUMED_FIELDS)와 같은 필드로 요청하므로 수집 때 받는 응답과 같은 모양입니다.
+# - 저장 위치: src/jmh/resources/openalex/recorded/ (pages.txt에 파일 목록)
+# - 사용: OPENALEX_MAILTO=me@example.org scripts/record-openalex-fixtures.sh ["검색어"] [페이지 수]
+# - 필요: curl, jq
+
+SEARCH="${1:-machine learning}"
+PAGES="${2:-2}"
+FROM_PUB="${FROM_PUB:-2023-01-01}"
+TO_PUB="${TO_PUB:-2023-12-31}"
+SELECT="id,doi,ids,title,publication_date,cited_by_count,primary_location,best_oa_location,open_access,abstract_inverted_index,keywords,concepts,authorships"
+
+OUT_DIR="$(cd "$(dirname "$0")/.." && pwd)/src/jmh/resources/openalex/recorded"
+mkdir -p "$OUT_DIR"
+rm -f "$OUT_DIR"/works-page-*.json "$OUT_DIR/pages.txt"
+
+cursor="*"
+for ((i = 1; i <= PAGES; i++)); do
+  file="works-page-$i.json"
+  curl -sSfG "https://api.openalex.org/works" \
+    --data-urlencode "per-page=200" \
+    --data-urlencode "cursor=$cursor" \
+    --data-urlencode "search=$SEARCH" \
+    --data-urlencode "select=$SELECT" \
+    --data-urlencode "filter=from_publication_date:$FROM_PUB,to_publication_date:$TO_PUB" \
+    ${OPENALEX_MAILTO:+--data-urlencode "mailto=$OPENALEX_MAILTO"} \
+    -o "$OUT_DIR/$file"
+
+  count="$(jq '.results | length' "$OUT_DIR/$file")"
+  echo "$file: $count works"
+  echo "$file" >> "$OUT_DIR/pages.txt"
+
+  cursor="$(jq -r '.meta.next_cursor // empty' "$OUT_DIR/$file")"
+  if [[ -z "$cursor" || "$count" -lt 200 ]]; then
+    break
+  fi
+done
@@ -0,0 +1,102 @@
+package com.paperradar.ingest.openalex;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * abstract 복원: 이전 방식(HashMap&lt;Integer,String&gt; + 정렬)과 위치 배열 방식 비교.
+ * <p>
+ * 단어 수별로 반복 단어가 섞인 inverted index를 만들어 스트리밍 파서로 읽습니다. 할당량은 `-prof gc`로 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AbstractInvertedIndexBenchmark {
+
+    @Param({"50", "300", "1000"})
+    public int words;
+
+    private final JsonFactory factory = new ObjectMapper().getFactory();
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws Exception {
+        // 어휘 수를 단어 수의 절반 정도로 두어 같은 토큰이 여러 위치에 나오게 함
+        Random random = new Random(42);
+        int vocabulary = Math.max(10, words / 2);
+        Map<String, List<Integer>> index = new LinkedHashMap<>();
+        for (int pos = 0; pos < words; pos++) {
+            String token = "token" + (int) Math.abs(random.nextGaussian() * vocabulary / 3) % vocabulary;
+            index.computeIfAbsent(token, k -> new ArrayList<>()).add(pos);
+        }
+        json = new ObjectMapper().writeValueAsBytes(index);
+    }
+
+    @Benchmark
+    public String positionArray() throws IOException {
+        try (JsonParser p = factory.createParser(json)) {
+            p.nextToken();
+            return AbstractInvertedIndexUtil.toText(p);
+        }
+    }
+
+    @Benchmark
+    public String boxedMapAndSort() throws IOException {
+        try (JsonParser p = factory.createParser(json)) {
+            p.nextToken();
+            return legacyToText(p);
+        }
+    }
+
+    /**
+     * 변경 전 구현 (비교 기준).
+     */
+    private static String legacyToText(JsonParser p) throws IOException {
+        Map<Integer, String> posToToken = new HashMap<>();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String token = p.currentName();
+            if (p.nextToken() != JsonToken.START_ARRAY) {
+                p.skipChildren();
+                continue;
+            }
+            JsonToken t;
+            while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+                if (t == JsonToken.VALUE_NUMBER_INT && p.getNumberType() == JsonParser.NumberType.INT) {
+                    posToToken.put(p.getIntValue(), token);
+                } else {
+                    p.skipChildren();
+                }
+            }
+        }
+        if (posToToken.isEmpty()) {
+            return "";
+        }
+        List<Map.Entry<Integer, String>> sorted = new ArrayList<>(posToToken.entrySet());
+        sorted.sort(Comparator.comparingInt(Map.Entry::getKey));
+        StringBuilder sb = new StringBuilder(sorted.size() * 6);
+        for (int i = 0; i < sorted.size(); i++) {
+            if (i > 0) sb.append(' ');
+            sb.append(sorted.get(i).getValue());
+        }
+        return sb.toString();
+    }
+}
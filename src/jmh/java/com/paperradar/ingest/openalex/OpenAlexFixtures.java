@@ -0,0 +1,78 @@
+package com.paperradar.ingest.openalex;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paperradar.ingest.model.OpenAlexWork;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용으로 녹화해 둔 실제 OpenAlex 응답(`openalex/recorded/`, 페이지당 200건)을 읽습니다.
+ * <p>
+ * 단위 테스트용 `openalex/works-page.json`은 일부러 만든 작은 페이지라 쓰지 않습니다.
+ * 녹화본이 없으면 {@code scripts/record-openalex-fixtures.sh}로 먼저 받으라는 예외를 던집니다.
+ */
+public final class OpenAlexFixtures {
+
+    private static final String DIR = "openalex/recorded/";
+
+    private OpenAlexFixtures() {}
+
+    /**
+     * 녹화된 응답 본문을 pages.txt 순서대로 돌려줍니다.
+     */
+    public static List<byte[]> recordedPages() throws IOException {
+        List<String> names = new ArrayList<>();
+        try (InputStream in = resource(DIR + "pages.txt");
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    names.add(line.trim());
+                }
+            }
+        }
+        List<byte[]> pages = new ArrayList<>(names.size());
+        for (String name : names) {
+            try (InputStream in = resource(DIR + name)) {
+                pages.add(in.readAllBytes());
+            }
+        }
+        return pages;
+    }
+
+    /**
+     * 녹화된 페이지의 works를 앞에서부터 count개. (반복해서 채우지 않음)
+     */
+    public static List<OpenAlexWork> works(int count) throws IOException {
+        ObjectMapper om = new ObjectMapper();
+        List<OpenAlexWork> out = new ArrayList<>(count);
+        for (byte[] page : recordedPages()) {
+            List<OpenAlexWork> works = OpenAlexStreamingJsonMapper.parsePage(om.getFactory(), new ByteArrayInputStream(page)).works();
+            for (OpenAlexWork w : works) {
+                if (out.size() == count) {
+                    return out;
+                }
+                out.add(w);
+            }
+        }
+        if (out.size() < count) {
+            throw new IllegalStateException("Recorded OpenAlex pages hold only %d works (need %d). Record more pages with scripts/record-openalex-fixtures.sh."
+                    .formatted(out.size(), count));
+        }
+        return out;
+    }
+
+    private static InputStream resource(String path) {
+        InputStream in = OpenAlexFixtures.class.getClassLoader().getResourceAsStream(path);
+        if (in == null) {
+            throw new IllegalStateException("Missing " + path + ". Record real OpenAlex pages first: scripts/record-openalex-fixtures.sh");
+        }
+        return in;
+    }
+}
@@ -0,0 +1,45 @@
+package com.paperradar.ingest.openalex;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paperradar.ingest.model.OpenAlexWork;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 트리 매퍼(String → JsonNode → OpenAlexWork)와 스트리밍 매퍼(InputStream → OpenAlexWork) 비교.
+ * <p>
+ * 녹화해 둔 실제 OpenAlex 응답 한 페이지(200건)를 그대로 씁니다. ({@link OpenAlexFixtures})
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OpenAlexMapperBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] pageBytes;
+
+    @Setup
+    public void setUp() throws Exception {
+        pageBytes = OpenAlexFixtures.recordedPages().getFirst();
+    }
+
+    @Benchmark
+    public List<OpenAlexWork> treeFromString() throws Exception {
+        String body = new String(pageBytes, StandardCharsets.UTF_8);
+        return OpenAlexJsonMapper.parseWorks(objectMapper.readTree(body));
+    }
+
+    @Benchmark
+    public OpenAlexWorkPage streamingFromInputStream() throws Exception {
+        return OpenAlexStreamingJsonMapper.parsePage(objectMapper.getFactory(), new ByteArrayInputStream(pageBytes));
+    }
+}
@@ -0,0 +1,59 @@
+package com.paperradar.ingest.service;
+
+import com.paperradar.ingest.model.OpenAlexWork;
+import com.paperradar.ingest.openalex.OpenAlexFixtures;
+import com.paperradar.work.model.WorkDocument;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 수집 색인 단계의 works 문서 생성 비용. (녹화한 실제 OpenAlex 응답 한 페이지 = 200건)
+ * <p>
+ * `buildPage`는 키워드 정규화/best link/content hash를 모두 포함하고, `contentHashPage`는 그중 hash만 따로 잽니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WorkDocumentBenchmark {
+
+    private static final int WORKS_PER_PAGE = 200;
+
+    private final LocalDate today = LocalDate.now();
+    private final Instant now = Instant.now();
+    private List<OpenAlexWork> works;
+    private List<WorkDocument> docs;
+
+    @Setup
+    public void setUp() throws Exception {
+        works = OpenAlexFixtures.works(WORKS_PER_PAGE);
+        docs = buildPage();
+    }
+
+    @Benchmark
+    public List<WorkDocument> buildPage() {
+        List<WorkDocument> out = new ArrayList<>(works.size());
+        for (OpenAlexWork w : works) {
+            out.add(WorkDocumentBuilder.build(w, today, now));
+        }
+        return out;
+    }
+
+    @Benchmark
+    public void contentHashPage(Blackhole bh) {
+        // 마지막 값만 반환하면 앞선 해시 계산이 제거될 수 있으므로 모두 소비
+        for (WorkDocument doc : docs) {
+            bh.consume(WorkContentHash.of(doc));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.paperradar.util;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 키워드 정규화(수집 시 work별 키워드, 검색/추천 요청마다)와 ES regex 이스케이프 비교.
+ * <p>
+ * `normalized`는 이미 정규화된 입력(수집 데이터 대부분), `messy`는 대문자/연속 공백이 섞인 사용자 입력입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TextUtilBenchmark {
+
+    @Param({"normalized", "messy"})
+    public String input;
+
+    private String raw;
+
+    @Setup
+    public void setUp() {
+        raw = switch (input) {
+            case "normalized" -> "graph neural network";
+            default -> "  Graph   Neural\tNetwork (GNN) ";
+        };
+    }
+
+    @Benchmark
+    public String normalizeSinglePass() {
+        return KeywordNormalizeUtil.normalize(raw);
+    }
+
+    @Benchmark
+    public String normalizeRegex() {
+        // 변경 전 구현 (비교 기준)
+        String trimmed = raw.trim();
+        return trimmed.replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    @Benchmark
+    public String escapeForElasticsearchRegex() {
+        return RegexEscapeUtil.escapeForElasticsearchRegex(raw);
+    }
+}
@@ -0,0 +1,45 @@
+package com.paperradar.work.link;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * best link 선택. works 문서마다(수집, 지연 보강, best_link 백필) 한 번씩 호출됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WorkLinkPolicyBenchmark {
+
+    /**
+     * doiUrl: DOI가 URL 형태(OpenAlex 기본), bareDoi: `10.x/...`만 있음, noDoi: landing/pdf로 내려감
+     */
+    @Param({"doiUrl", "bareDoi", "noDoi"})
+    public String shape;
+
+    private String doi;
+    private final String landing = "https://www.nature.com/articles/s41586-021-03819-2";
+    private final String pdf = "https://www.nature.com/articles/s41586-021-03819-2.pdf";
+    private final String oa = "https://europepmc.org/articles/pmc8371605?pdf=render";
+
+    @Setup
+    public void setUp() {
+        doi = switch (shape) {
+            case "doiUrl" -> "https://doi.org/10.1038/s41586-021-03819-2";
+            case "bareDoi" -> "10.1038/s41586-021-03819-2";
+            default -> null;
+        };
+    }
+
+    @Benchmark
+    public WorkLink pickBestLink() {
+        return WorkLinkPolicy.pickBestLink(doi, landing, pdf, oa);
+    }
+}
@@ -0,0 +1,10 @@
+package com.paperradar.admin.maintenance.model;
+
+import java.util.List;
+
+public record AuthorNameSuggestBackfillResult(
+        int scanned,
+        int updatedDocs,
+        int failed,
+        List<String> failedDocIds
+) {}
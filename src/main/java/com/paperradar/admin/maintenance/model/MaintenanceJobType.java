@@ -2,5 +2,6 @@ package com.paperradar.admin.maintenance.model;
 
 public enum MaintenanceJobType {
     recompute_work_links,
-    normalize_work_institution_ids
+    normalize_work_institution_ids,
+    backfill_author_name_suggest
 }
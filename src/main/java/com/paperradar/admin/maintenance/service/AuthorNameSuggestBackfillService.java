@@ -0,0 +1,7 @@
+package com.paperradar.admin.maintenance.service;
+
+import com.paperradar.admin.maintenance.model.AuthorNameSuggestBackfillResult;
+
+public interface AuthorNameSuggestBackfillService {
+    AuthorNameSuggestBackfillResult fillAuthorNameSuggest(int batchSize, int maxDocs);
+}
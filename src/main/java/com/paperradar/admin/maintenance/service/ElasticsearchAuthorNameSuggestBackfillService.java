@@ -0,0 +1,172 @@
+package com.paperradar.admin.maintenance.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import com.paperradar.admin.maintenance.model.AuthorNameSuggestBackfillResult;
+import com.paperradar.util.KeywordNormalizeUtil;
+import com.paperradar.work.model.WorkDocument;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * `authors.name_suggest`가 없는 예전 works 문서에 정규화된 저자명을 채웁니다.
+ * 채운 문서는 조회 조건에서 빠지므로 같은 작업을 반복 실행하면 남은 문서만 처리합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ElasticsearchAuthorNameSuggestBackfillService implements AuthorNameSuggestBackfillService {
+
+    private static final Logger log = LoggerFactory.getLogger(ElasticsearchAuthorNameSuggestBackfillService.class);
+
+    private final ElasticsearchClient client;
+
+    @Override
+    public AuthorNameSuggestBackfillResult fillAuthorNameSuggest(int batchSize, int maxDocs) {
+        int size = Math.min(Math.max(batchSize, 1), 200);
+        int limit = Math.min(Math.max(maxDocs, 1), 20_000);
+
+        int scanned = 0;
+        int updatedDocs = 0;
+        int failed = 0;
+        Set<String> failedDocIds = new LinkedHashSet<>();
+
+        String searchAfter = null;
+
+        while (scanned < limit) {
+            int remaining = limit - scanned;
+            int pageSize = Math.min(size, remaining);
+
+            var response = safeSearch(searchAfter, pageSize);
+            if (response == null || response.hits() == null || response.hits().hits().isEmpty()) {
+                break;
+            }
+
+            List<BulkUpdate> updates = new ArrayList<>();
+            for (var hit : response.hits().hits()) {
+                scanned++;
+                searchAfter = hit.id();
+
+                WorkDocument src = hit.source();
+                if (src == null || src.authors() == null) {
+                    continue;
+                }
+
+                List<Map<String, Object>> authors = new ArrayList<>();
+                for (WorkDocument.Author author : src.authors()) {
+                    if (author == null) {
+                        continue;
+                    }
+                    // 배열 전체를 바꾸므로 이름이 없는 저자도 그대로 남김
+                    Map<String, Object> updated = new LinkedHashMap<>();
+                    if (author.id() != null) {
+                        updated.put("id", author.id());
+                    }
+                    if (author.name() != null) {
+                        updated.put("name", author.name());
+                        updated.put("name_suggest", KeywordNormalizeUtil.normalize(author.name()));
+                    }
+                    authors.add(updated);
+                }
+
+                updates.add(new BulkUpdate(hit.id(), Map.of("authors", authors)));
+            }
+
+            if (!updates.isEmpty()) {
+                BulkOutcome outcome = executeBulk(updates);
+                updatedDocs += outcome.updated;
+                failed += outcome.failed;
+                for (String id : outcome.failedDocIds) {
+                    if (failedDocIds.size() >= 100) break;
+                    failedDocIds.add(id);
+                }
+            }
+        }
+
+        return new AuthorNameSuggestBackfillResult(scanned, updatedDocs, failed, List.copyOf(failedDocIds));
+    }
+
+    private co.elastic.clients.elasticsearch.core.SearchResponse<WorkDocument> safeSearch(String searchAfterId, int size) {
+        try {
+            return client.search(s -> {
+                        s.index("works");
+                        s.size(size);
+                        // 저자 중 하나라도 name_suggest가 없는 문서
+                        s.query(q -> q.nested(n -> n
+                                .path("authors")
+                                .query(nq -> nq.bool(b -> b
+                                        .filter(f -> f.exists(e -> e.field("authors.name")))
+                                        .mustNot(mn -> mn.exists(e -> e.field("authors.name_suggest")))
+                                ))
+                        ));
+                        s.sort(so -> so.field(f -> f.field("_id").order(SortOrder.Asc)));
+                        s.source(src -> src.filter(f -> f.includes("authors")));
+                        if (searchAfterId != null && !searchAfterId.isBlank()) {
+                            s.searchAfter(searchAfterId);
+                        }
+                        return s;
+                    },
+                    WorkDocument.class);
+        } catch (Exception e) {
+            log.warn("Author name_suggest backfill search failed.", e);
+            return null;
+        }
+    }
+
+    private BulkOutcome executeBulk(List<BulkUpdate> updates) {
+        try {
+            BulkResponse res = client.bulk(b -> {
+                for (BulkUpdate u : updates) {
+                    b.operations(op -> op.update(up -> up
+                            .index("works")
+                            .id(u.id)
+                            .action(a -> a.doc(u.doc))
+                    ));
+                }
+                return b;
+            });
+            if (res.errors()) {
+                log.warn("Author name_suggest backfill bulk had errors.");
+            }
+            int ok = 0;
+            int failed = 0;
+            List<String> failedIds = new ArrayList<>();
+            for (var item : res.items()) {
+                if (item.error() == null && item.status() >= 200 && item.status() < 300) {
+                    ok++;
+                    continue;
+                }
+                failed++;
+                if (failedIds.size() < 100 && item.id() != null && !item.id().isBlank()) {
+                    failedIds.add(item.id());
+                }
+                if (item.error() != null) {
+                    log.warn("Author name_suggest backfill item failed (id={}, status={}, errorType={}, reason={})",
+                            item.id(),
+                            item.status(),
+                            item.error().type(),
+                            item.error().reason()
+                    );
+                } else {
+                    log.warn("Author name_suggest backfill item failed (id={}, status={})", item.id(), item.status());
+                }
+            }
+            return new BulkOutcome(ok, failed, failedIds);
+        } catch (Exception e) {
+            log.warn("Author name_suggest backfill bulk failed.", e);
+            return new BulkOutcome(0, updates.size(), updates.stream().limit(100).map(u -> u.id).toList());
+        }
+    }
+
+    private record BulkOutcome(int updated, int failed, List<String> failedDocIds) {}
+
+    private record BulkUpdate(String id, Map<String, Object> doc) {}
+}
@@ -4,6 +4,7 @@ import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.SortOrder;
 import co.elastic.clients.elasticsearch.core.BulkResponse;
 import com.paperradar.admin.maintenance.model.WorkInstitutionIdBackfillResult;
+import com.paperradar.work.model.WorkDocument;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -49,24 +50,19 @@ public class ElasticsearchWorkInstitutionIdBackfillService implements WorkInstit
                 scanned++;
                 searchAfter = hit.id();
 
-                Map<?, ?> src = (Map<?, ?>) hit.source();
-                if (src == null) {
-                    continue;
-                }
-
-                Object institutionsValue = src.get("institutions");
-                if (!(institutionsValue instanceof List<?> instList)) {
+                WorkDocument src = hit.source();
+                if (src == null || src.institutions() == null) {
                     continue;
                 }
 
                 boolean changed = false;
                 List<Map<String, Object>> normalizedInstitutions = new ArrayList<>();
-                for (Object entry : instList) {
-                    if (!(entry instanceof Map<?, ?> m)) {
+                for (WorkDocument.Institution inst : src.institutions()) {
+                    if (inst == null) {
                         continue;
                     }
-                    String id = asString(m.get("id"));
-                    String name = asString(m.get("name"));
+                    String id = nullToEmpty(inst.id());
+                    String name = nullToEmpty(inst.name());
                     String normalizedId = normalizeInstitutionId(id);
                     if (!normalizedId.equals(id)) {
                         changed = true;
@@ -101,7 +97,7 @@ public class ElasticsearchWorkInstitutionIdBackfillService implements WorkInstit
         return new WorkInstitutionIdBackfillResult(scanned, updatedDocs, updatedInstitutionIds, failed, List.copyOf(failedDocIds));
     }
 
-    private co.elastic.clients.elasticsearch.core.SearchResponse<Map> safeSearch(String searchAfterId, int size) {
+    private co.elastic.clients.elasticsearch.core.SearchResponse<WorkDocument> safeSearch(String searchAfterId, int size) {
         try {
             return client.search(s -> {
                         s.index("works");
@@ -113,7 +109,7 @@ public class ElasticsearchWorkInstitutionIdBackfillService implements WorkInstit
                         }
                         return s;
                     },
-                    Map.class);
+                    WorkDocument.class);
         } catch (Exception e) {
             log.warn("Institution id backfill search failed.", e);
             return null;
@@ -183,9 +179,8 @@ public class ElasticsearchWorkInstitutionIdBackfillService implements WorkInstit
         return trimmed;
     }
 
-    private String asString(Object value) {
-        if (value == null) return "";
-        return String.valueOf(value);
+    private String nullToEmpty(String value) {
+        return value == null ? "" : value;
     }
 }
 
@@ -7,6 +7,7 @@ import co.elastic.clients.elasticsearch.core.BulkResponse;
 import com.paperradar.admin.maintenance.model.WorkLinkBackfillResult;
 import com.paperradar.work.link.WorkLink;
 import com.paperradar.work.link.WorkLinkPolicy;
+import com.paperradar.work.model.WorkDocument;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -52,22 +53,17 @@ public class ElasticsearchWorkLinkBackfillService implements WorkLinkBackfillSer
                 scanned++;
                 searchAfter = hit.id();
 
-                Map<?, ?> src = (Map<?, ?>) hit.source();
+                WorkDocument src = hit.source();
                 if (src == null) {
                     continue;
                 }
 
-                String doi = asString(src.get("doi"));
-                String landing = asString(src.get("landing_page_url"));
-                String pdf = asString(src.get("pdf_url"));
-                String oa = asString(src.get("open_access_oa_url"));
-
-                WorkLink best = WorkLinkPolicy.pickBestLink(doi, landing, pdf, oa);
+                WorkLink best = WorkLinkPolicy.pickBestLink(src.doi(), src.landingPageUrl(), src.pdfUrl(), src.openAccessOaUrl());
                 String desiredUrl = best == null ? "" : best.url();
                 String desiredType = best == null ? "" : best.type().name();
 
-                String currentUrl = asString(src.get("best_link_url"));
-                String currentType = asString(src.get("best_link_type"));
+                String currentUrl = nullToEmpty(src.bestLinkUrl());
+                String currentType = nullToEmpty(src.bestLinkType());
 
                 if (Objects.equals(currentUrl, desiredUrl) && Objects.equals(currentType, desiredType)) {
                     continue;
@@ -93,7 +89,7 @@ public class ElasticsearchWorkLinkBackfillService implements WorkLinkBackfillSer
         return new WorkLinkBackfillResult(scanned, updated, failed, List.copyOf(failedDocIds));
     }
 
-    private co.elastic.clients.elasticsearch.core.SearchResponse<Map> safeSearch(String searchAfterId, int size) {
+    private co.elastic.clients.elasticsearch.core.SearchResponse<WorkDocument> safeSearch(String searchAfterId, int size) {
         try {
             return client.search(s -> {
                         s.index("works");
@@ -112,7 +108,7 @@ public class ElasticsearchWorkLinkBackfillService implements WorkLinkBackfillSer
                         }
                         return s;
                     },
-                    Map.class);
+                    WorkDocument.class);
         } catch (Exception e) {
             log.warn("Backfill search failed.", e);
             return null;
@@ -168,8 +164,7 @@ public class ElasticsearchWorkLinkBackfillService implements WorkLinkBackfillSer
 
     private record BulkUpdate(String id, Map<String, Object> doc) {}
 
-    private String asString(Object value) {
-        if (value == null) return "";
-        return String.valueOf(value);
+    private String nullToEmpty(String value) {
+        return value == null ? "" : value;
     }
 }
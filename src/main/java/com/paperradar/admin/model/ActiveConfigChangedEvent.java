@@ -0,0 +1,6 @@
+package com.paperradar.admin.model;
+
+/**
+ * 활성 키워드/기관 설정이 저장된 뒤 발행합니다. 트렌드 스냅샷 등이 구독합니다.
+ */
+public record ActiveConfigChangedEvent(ActiveConfig config) {}
@@ -5,6 +5,7 @@ import co.elastic.clients.elasticsearch._types.ElasticsearchException;
 import co.elastic.clients.elasticsearch.core.GetResponse;
 import com.paperradar.infra.es.ElasticsearchErrorUtil;
 import com.paperradar.admin.model.ActiveConfig;
+import com.paperradar.admin.model.ActiveConfigChangedEvent;
 import com.paperradar.util.KeywordNormalizeUtil;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -15,6 +16,7 @@ import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -27,6 +29,7 @@ public class ElasticsearchConfigService implements ConfigService {
     private static final String ID = "active_config";
 
     private final ElasticsearchClient client;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public ActiveConfig getActiveConfig() {
@@ -153,11 +156,13 @@ public class ElasticsearchConfigService implements ConfigService {
     private ActiveConfig update(java.util.function.UnaryOperator<ActiveConfig> mutator) {
         ActiveConfig current = getActiveConfig();
         ActiveConfig updated = mutator.apply(current);
-        persist(updated);
+        if (persist(updated)) {
+            eventPublisher.publishEvent(new ActiveConfigChangedEvent(updated));
+        }
         return updated;
     }
 
-    private void persist(ActiveConfig cfg) {
+    private boolean persist(ActiveConfig cfg) {
         try {
             Map<String, Object> doc = Map.of(
                     "enabled_keywords", cfg.enabledKeywords(),
@@ -167,8 +172,10 @@ public class ElasticsearchConfigService implements ConfigService {
                     "updated_at", cfg.updatedAt().toString()
             );
             client.index(i -> i.index(INDEX).id(ID).document(doc));
+            return true;
         } catch (Exception e) {
             log.error("Failed to persist active_config.", e);
+            return false;
         }
     }
 
@@ -1,6 +1,7 @@
 package com.paperradar.infra.es;
 
 import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.ErrorCause;
 
 public final class ElasticsearchErrorUtil {
 
@@ -12,5 +13,40 @@ public final class ElasticsearchErrorUtil {
         }
         return "index_not_found_exception".equals(e.error().type());
     }
+
+    /**
+     * if_seq_no/if_primary_term 조건이 맞지 않아 쓰기가 거절된 경우. (다른 요청이 먼저 문서를 바꿈)
+     */
+    public static boolean isVersionConflict(ElasticsearchException e) {
+        if (e == null || e.error() == null) {
+            return false;
+        }
+        return "version_conflict_engine_exception".equals(e.error().type());
+    }
+
+    /**
+     * PIT/scroll이 만료됐거나 닫혀서 search context를 찾지 못한 경우. (root cause에 들어 있는 경우 포함)
+     */
+    public static boolean isSearchContextMissing(ElasticsearchException e) {
+        if (e == null || e.error() == null) {
+            return false;
+        }
+        return hasType(e.error(), "search_context_missing_exception");
+    }
+
+    private static boolean hasType(ErrorCause cause, String type) {
+        if (cause == null) {
+            return false;
+        }
+        if (type.equals(cause.type())) {
+            return true;
+        }
+        for (ErrorCause root : cause.rootCause()) {
+            if (hasType(root, type)) {
+                return true;
+            }
+        }
+        return hasType(cause.causedBy(), type);
+    }
 }
 
@@ -56,10 +56,16 @@ public class ElasticsearchInitializer implements ApplicationRunner {
 
         try {
             ensureIndex("works", EsMappings.works());
+            ensureFields("works", EsMappings.worksAddedFields());
             ensureIndex("institutions", EsMappings.institutions());
             ensureIndex("keyword_configs", EsMappings.keywordConfigs());
             ensureIndex("ingest_jobs", EsMappings.ingestJobs());
+            ensureFields("ingest_jobs", EsMappings.ingestJobsAddedFields());
             ensureIndex("maintenance_jobs", EsMappings.maintenanceJobs());
+            ensureIndex("crossref_link_cache", EsMappings.crossrefLinkCache());
+            ensureIndex("enrich_queue", EsMappings.enrichQueue());
+            ensureIndex("trend_snapshots", EsMappings.trendSnapshots());
+            ensureIndex("keyword_suggest", EsMappings.keywordSuggest());
             ensureKeywordConfigSeed();
             log.info("Elasticsearch init runner finished.");
         } catch (Exception e) {
@@ -128,6 +134,30 @@ public class ElasticsearchInitializer implements ApplicationRunner {
         log.warn("Failed to create index {} (status={}): {}", indexName, response.statusCode(), response.body());
     }
 
+    /**
+     * 기존 인덱스에 새 필드 매핑을 추가합니다. (같은 매핑이면 no-op, 충돌하면 경고만 남김)
+     */
+    private void ensureFields(String indexName, Map<String, Object> properties) throws Exception {
+        if (properties.isEmpty() || !indexExists(indexName)) {
+            return;
+        }
+
+        String json = objectMapper.writeValueAsString(Map.of("properties", properties));
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/" + indexName + "/_mapping"))
+                .timeout(Duration.ofSeconds(10))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 200 && response.statusCode() < 300) {
+            log.info("Ensured mapping fields on {}: {}", indexName, properties.keySet());
+            return;
+        }
+
+        log.warn("Failed to update mapping of {} (status={}): {}", indexName, response.statusCode(), response.body());
+    }
+
     private boolean indexExists(String indexName) throws Exception {
         HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/" + indexName))
                 .timeout(Duration.ofSeconds(5))
@@ -24,14 +24,13 @@ final class EsMappings {
         properties.put("keyword_candidates", Map.of("type", "keyword"));
         properties.put("publication_date", Map.of("type", "date"));
         properties.put("cited_by_count", Map.of("type", "integer"));
+        properties.put("content_hash", contentHash());
 
         Map<String, Object> authorProperties = new LinkedHashMap<>();
         authorProperties.put("id", Map.of("type", "keyword"));
         authorProperties.put("name", Map.of("type", "keyword"));
-        Map<String, Object> authors = new LinkedHashMap<>();
-        authors.put("type", "nested");
-        authors.put("properties", authorProperties);
-        properties.put("authors", authors);
+        authorProperties.put("name_suggest", Map.of("type", "keyword"));
+        properties.put("authors", nested(authorProperties));
 
         Map<String, Object> instProperties = new LinkedHashMap<>();
         instProperties.put("id", Map.of("type", "keyword"));
@@ -44,6 +43,17 @@ final class EsMappings {
         return indexBody(properties);
     }
 
+    /**
+     * 이미 만들어진 works 인덱스에 나중에 추가된 필드를 put mapping으로 반영할 때 사용합니다.
+     */
+    static Map<String, Object> worksAddedFields() {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("content_hash", contentHash());
+        // 저자명 자동완성 prefix 조회용 (정규화된 소문자 이름, 예전 문서는 백필로 채움)
+        properties.put("authors", nested(Map.of("name_suggest", Map.of("type", "keyword"))));
+        return properties;
+    }
+
     static Map<String, Object> institutions() {
         Map<String, Object> properties = new LinkedHashMap<>();
         properties.put("id", Map.of("type", "keyword"));
@@ -76,11 +86,78 @@ final class EsMappings {
         properties.put("processed_count", Map.of("type", "integer"));
         properties.put("created_count", Map.of("type", "integer"));
         properties.put("updated_count", Map.of("type", "integer"));
+        properties.put("deduplicated_count", Map.of("type", "integer"));
+        properties.put("skipped_unchanged_count", Map.of("type", "integer"));
         properties.put("current_source", Map.of("type", "keyword"));
         properties.put("current_key", Map.of("type", "keyword"));
         properties.put("from_publication_date", Map.of("type", "date"));
         properties.put("to_publication_date", Map.of("type", "date"));
         properties.put("error_summary", Map.of("type", "text"));
+        properties.putAll(ingestJobsAddedFields());
+        return indexBody(properties);
+    }
+
+    /**
+     * 이미 만들어진 ingest_jobs 인덱스에 put mapping으로 반영할 필드.
+     */
+    static Map<String, Object> ingestJobsAddedFields() {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("resumed_from_job_id", Map.of("type", "keyword"));
+        properties.put("resumed_by_job_id", Map.of("type", "keyword"));
+        // 이어서 실행용 cursor 상태 (조회만 하고 검색하지 않음)
+        properties.put("checkpoint", Map.of("type", "object", "enabled", false));
+        properties.put("planned_window_count", Map.of("type", "integer"));
+        properties.put("truncated_source_count", Map.of("type", "integer"));
+        properties.put("truncated_sources", Map.of("type", "keyword"));
+        return properties;
+    }
+
+    static Map<String, Object> crossrefLinkCache() {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("doi", Map.of("type", "keyword"));
+        properties.put("landing_page_url", Map.of("type", "keyword", "index", false));
+        properties.put("pdf_url", Map.of("type", "keyword", "index", false));
+        properties.put("has_links", Map.of("type", "boolean"));
+        properties.put("fetched_at", Map.of("type", "date"));
+        return indexBody(properties);
+    }
+
+    static Map<String, Object> enrichQueue() {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("doi", Map.of("type", "keyword"));
+        properties.put("landing_page_url", Map.of("type", "keyword", "index", false));
+        properties.put("pdf_url", Map.of("type", "keyword", "index", false));
+        properties.put("open_access_oa_url", Map.of("type", "keyword", "index", false));
+        properties.put("attempts", Map.of("type", "integer"));
+        properties.put("enqueued_at", Map.of("type", "date"));
+        return indexBody(properties);
+    }
+
+    /**
+     * 키워드 자동완성. 문서 id = 정규화된 키워드, completion weight = 그 키워드를 가진 works 수.
+     * 입력/조회 모두 정규화(소문자)된 값이라 keyword analyzer로 전체 문자열 접두어만 맞춥니다.
+     */
+    static Map<String, Object> keywordSuggest() {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("keyword", Map.of("type", "keyword"));
+        properties.put("doc_freq", Map.of("type", "long"));
+        properties.put("suggest", Map.of(
+                "type", "completion",
+                "analyzer", "keyword",
+                "max_input_length", 100
+        ));
+        properties.put("updated_at", Map.of("type", "date"));
+        return indexBody(properties);
+    }
+
+    /**
+     * 메인 화면 트렌드 스냅샷(`latest` 문서 1개). 목록은 통째로 읽기만 하므로 색인하지 않음.
+     */
+    static Map<String, Object> trendSnapshots() {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("computed_at", Map.of("type", "date"));
+        properties.put("keyword_trends", Map.of("type", "object", "enabled", false));
+        properties.put("institution_trends", Map.of("type", "object", "enabled", false));
         return indexBody(properties);
     }
 
@@ -113,6 +190,20 @@ final class EsMappings {
         return body;
     }
 
+    /**
+     * 변경 감지용 지문이라 검색/집계하지 않음 (_source에서만 읽음)
+     */
+    private static Map<String, Object> contentHash() {
+        return Map.of("type", "keyword", "index", false, "doc_values", false);
+    }
+
+    private static Map<String, Object> nested(Map<String, Object> properties) {
+        Map<String, Object> field = new LinkedHashMap<>();
+        field.put("type", "nested");
+        field.put("properties", properties);
+        return field;
+    }
+
     private static Map<String, Object> textWithKeyword() {
         return Map.of(
                 "type", "text",
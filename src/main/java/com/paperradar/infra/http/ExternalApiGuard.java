@@ -0,0 +1,316 @@
+package com.paperradar.infra.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 외부 API 하나(OpenAlex, Crossref 등)에 대한 호출 보호막입니다.
+ * <ul>
+ *   <li>bulkhead: 동시에 나가는 요청 수 상한</li>
+ *   <li>retry: 429/5xx/IO 오류는 지수 backoff(+jitter)로 재시도, `Retry-After`가 있으면 그 값을 따름</li>
+ *   <li>circuit breaker: 연속 실패(5xx/IO 오류)가 threshold에 닿으면 openDuration 동안 즉시 실패, 이후 한 건만 시험 호출.
+ *   429는 서버가 살아 있다는 뜻이므로 실패로 세지 않고 재시도만 합니다.</li>
+ * </ul>
+ * 레이트 리미터가 있으면 재시도를 포함한 매 시도마다 토큰을 받습니다. 토큰을 기다리는 동안 bulkhead 자리를 잡고 있지 않도록 토큰을 먼저 받습니다.
+ */
+public final class ExternalApiGuard {
+
+    private static final Logger log = LoggerFactory.getLogger(ExternalApiGuard.class);
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    /**
+     * 관리 화면 표시용 상태.
+     */
+    public record Snapshot(
+            String name,
+            State state,
+            int consecutiveFailures,
+            Instant openUntil,
+            int inFlight,
+            int maxConcurrent,
+            long retries,
+            long rejected
+    ) {}
+
+    @FunctionalInterface
+    public interface Call<T> {
+        HttpResponse<T> execute() throws IOException, InterruptedException;
+    }
+
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(long millis) throws InterruptedException;
+    }
+
+    /**
+     * circuit이 열려 있거나 bulkhead 자리를 얻지 못해 호출하지 않은 경우.
+     */
+    public static final class RejectedException extends IllegalStateException {
+        public RejectedException(String message) {
+            super(message);
+        }
+    }
+
+    private final String name;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final int maxConcurrent;
+    private final Semaphore bulkhead;
+    private final Duration bulkheadWait;
+    private final int maxRetries;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+    private final Sleeper sleeper;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures = 0;
+    private long openUntilNanos = 0;
+    private boolean probeInFlight = false;
+
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public ExternalApiGuard(
+            String name,
+            TokenBucketRateLimiter rateLimiter,
+            int maxConcurrent,
+            int maxRetries,
+            Duration baseBackoff,
+            Duration maxBackoff,
+            int failureThreshold,
+            Duration openDuration
+    ) {
+        this(name, rateLimiter, maxConcurrent, maxRetries, baseBackoff, maxBackoff, failureThreshold, openDuration,
+                System::nanoTime, Thread::sleep);
+    }
+
+    ExternalApiGuard(
+            String name,
+            TokenBucketRateLimiter rateLimiter,
+            int maxConcurrent,
+            int maxRetries,
+            Duration baseBackoff,
+            Duration maxBackoff,
+            int failureThreshold,
+            Duration openDuration,
+            LongSupplier nanoClock,
+            Sleeper sleeper
+    ) {
+        this.name = name;
+        this.rateLimiter = rateLimiter;
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.bulkhead = new Semaphore(this.maxConcurrent, true);
+        this.bulkheadWait = Duration.ofSeconds(30);
+        this.maxRetries = Math.max(0, maxRetries);
+        this.baseBackoffMillis = Math.max(1, baseBackoff.toMillis());
+        this.maxBackoffMillis = Math.max(this.baseBackoffMillis, maxBackoff.toMillis());
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+        this.sleeper = sleeper;
+    }
+
+    /**
+     * 재시도 후에도 429/5xx이면 마지막 응답을 그대로 돌려주므로, 상태 코드 처리는 호출 측이 합니다.
+     *
+     * @throws RejectedException circuit이 열려 있거나 bulkhead 대기 시간이 지난 경우
+     */
+    public <T> HttpResponse<T> execute(Call<T> call) throws IOException, InterruptedException {
+        for (int attempt = 0; ; attempt++) {
+            boolean probe = acquirePermission();
+            HttpResponse<T> res;
+            try {
+                res = callWithBulkhead(call);
+            } catch (IOException e) {
+                // 이 실패로 circuit이 열렸으면(시험 호출 실패 포함) 재시도해도 거부되므로 원래 예외를 그대로 던짐
+                if (onFailure(probe) || attempt >= maxRetries) {
+                    throw e;
+                }
+                backoff(attempt, null);
+                continue;
+            } catch (RuntimeException | InterruptedException e) {
+                releaseProbe(probe);
+                throw e;
+            }
+
+            if (!isRetryable(res.statusCode())) {
+                onSuccess();
+                return res;
+            }
+            boolean open = false;
+            if (res.statusCode() == 429) {
+                releaseProbe(probe);
+            } else {
+                open = onFailure(probe);
+            }
+            Long retryAfter = retryAfterMillis(res.headers().firstValue("Retry-After").orElse(null), Instant.now());
+            if (open || attempt >= maxRetries || (retryAfter != null && retryAfter > maxBackoffMillis)) {
+                return res;
+            }
+            discard(res);
+            backoff(attempt, retryAfter);
+        }
+    }
+
+    public Snapshot snapshot() {
+        synchronized (this) {
+            State current = state == State.OPEN && nanoClock.getAsLong() >= openUntilNanos ? State.HALF_OPEN : state;
+            Instant openUntil = current == State.OPEN
+                    ? Instant.now().plusNanos(openUntilNanos - nanoClock.getAsLong())
+                    : null;
+            return new Snapshot(
+                    name,
+                    current,
+                    consecutiveFailures,
+                    openUntil,
+                    maxConcurrent - bulkhead.availablePermits(),
+                    maxConcurrent,
+                    retries.get(),
+                    rejected.get()
+            );
+        }
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * @return half-open 상태의 시험 호출이면 true
+     */
+    private boolean acquirePermission() {
+        synchronized (this) {
+            if (state == State.CLOSED) {
+                return false;
+            }
+            long now = nanoClock.getAsLong();
+            if (state == State.OPEN && now >= openUntilNanos) {
+                state = State.HALF_OPEN;
+            }
+            if (state == State.HALF_OPEN && !probeInFlight) {
+                probeInFlight = true;
+                return true;
+            }
+        }
+        rejected.incrementAndGet();
+        throw new RejectedException("%s circuit is open; skipping request.".formatted(name));
+    }
+
+    private <T> HttpResponse<T> callWithBulkhead(Call<T> call) throws IOException, InterruptedException {
+        if (rateLimiter != null) {
+            rateLimiter.acquire();
+        }
+        if (!bulkhead.tryAcquire(bulkheadWait.toMillis(), TimeUnit.MILLISECONDS)) {
+            rejected.incrementAndGet();
+            throw new RejectedException("%s bulkhead is full (maxConcurrent=%d).".formatted(name, maxConcurrent));
+        }
+        try {
+            return call.execute();
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private void onSuccess() {
+        synchronized (this) {
+            if (state != State.CLOSED) {
+                log.info("{} circuit closed.", name);
+            }
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+            probeInFlight = false;
+        }
+    }
+
+    /**
+     * @return 실패를 반영한 뒤 circuit이 열려 있으면 true
+     */
+    private boolean onFailure(boolean probe) {
+        synchronized (this) {
+            consecutiveFailures++;
+            if (probe || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+                state = State.OPEN;
+                openUntilNanos = nanoClock.getAsLong() + openNanos;
+                log.warn("{} circuit opened after {} consecutive failures.", name, consecutiveFailures);
+            }
+            if (probe) {
+                probeInFlight = false;
+            }
+            return state == State.OPEN;
+        }
+    }
+
+    private void releaseProbe(boolean probe) {
+        if (!probe) {
+            return;
+        }
+        synchronized (this) {
+            probeInFlight = false;
+        }
+    }
+
+    private void backoff(int attempt, Long retryAfterMillis) throws InterruptedException {
+        retries.incrementAndGet();
+        long delay = retryAfterMillis != null ? retryAfterMillis : jitteredBackoffMillis(attempt);
+        sleeper.sleep(Math.max(0, delay));
+    }
+
+    /**
+     * base * 2^attempt (maxBackoff 상한)의 50~100% 구간에서 무작위로 고릅니다.
+     */
+    long jitteredBackoffMillis(int attempt) {
+        long exp = baseBackoffMillis << Math.min(attempt, 20);
+        long capped = Math.min(maxBackoffMillis, exp);
+        return capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+    }
+
+    static boolean isRetryable(int status) {
+        return status == 429 || status == 500 || status == 502 || status == 503 || status == 504;
+    }
+
+    /**
+     * `Retry-After`(초 또는 HTTP-date)를 밀리초로 바꿉니다. 없거나 해석할 수 없으면 null.
+     */
+    static Long retryAfterMillis(String header, Instant now) {
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        String v = header.trim();
+        try {
+            return Math.max(0, Long.parseLong(v) * 1000L);
+        } catch (NumberFormatException ignored) {
+            // HTTP-date 형식
+        }
+        try {
+            Instant at = ZonedDateTime.parse(v, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            return Math.max(0, Duration.between(now, at).toMillis());
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static void discard(HttpResponse<?> res) {
+        if (res.body() instanceof InputStream in) {
+            try {
+                in.close();
+            } catch (IOException ignored) {
+                // 재시도 전에 버리는 응답
+            }
+        }
+    }
+}
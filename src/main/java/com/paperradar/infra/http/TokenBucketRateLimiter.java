@@ -0,0 +1,58 @@
+package com.paperradar.infra.http;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초당 permitsPerSecond개, 최대 burst개까지 모아 둘 수 있는 토큰 버킷입니다.
+ * <p>
+ * 토큰이 부족하면 음수(예약)로 내려가고, 호출한 스레드는 자기 차례가 될 때까지 잠듭니다.
+ * 여러 스레드가 동시에 호출해도 요청 간격이 균등하게 유지됩니다.
+ */
+public final class TokenBucketRateLimiter {
+
+    private final double permitsPerSecond;
+    private final double burst;
+    private final double nanosPerPermit;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = Math.max(1, burst);
+        this.nanosPerPermit = permitsPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / permitsPerSecond : 0;
+        this.tokens = this.burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * permitsPerSecond가 0 이하이면 제한하지 않습니다.
+     */
+    public void acquire() throws InterruptedException {
+        if (permitsPerSecond <= 0) {
+            return;
+        }
+        long waitNanos;
+        synchronized (this) {
+            refill(System.nanoTime());
+            tokens -= 1;
+            waitNanos = tokens >= 0 ? 0 : (long) (-tokens * nanosPerPermit);
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    public double permitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    private void refill(long now) {
+        long elapsed = now - lastRefillNanos;
+        if (elapsed <= 0) {
+            return;
+        }
+        tokens = Math.min(burst, tokens + elapsed / nanosPerPermit);
+        lastRefillNanos = now;
+    }
+}
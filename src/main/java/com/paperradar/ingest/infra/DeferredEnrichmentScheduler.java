@@ -0,0 +1,50 @@
+package com.paperradar.ingest.infra;
+
+import com.paperradar.ingest.service.enrich.DeferredLinkEnrichmentService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * deferred 모드에서 enrich_queue를 주기적으로 비웁니다. (한 번에 maxBatches 배치까지)
+ */
+@Component
+@ConditionalOnProperty(value = "paperradar.enrich.crossref.mode", havingValue = "deferred")
+public class DeferredEnrichmentScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(DeferredEnrichmentScheduler.class);
+
+    private final DeferredLinkEnrichmentService enrichmentService;
+    private final int batchSize;
+    private final int maxBatches;
+
+    public DeferredEnrichmentScheduler(
+            DeferredLinkEnrichmentService enrichmentService,
+            @Value("${paperradar.enrich.deferred.batch-size:100}") int batchSize,
+            @Value("${paperradar.enrich.deferred.max-batches-per-run:20}") int maxBatches
+    ) {
+        this.enrichmentService = enrichmentService;
+        this.batchSize = batchSize;
+        this.maxBatches = Math.max(1, maxBatches);
+    }
+
+    @Scheduled(fixedDelayString = "${paperradar.enrich.deferred.interval-millis:30000}")
+    public void drain() {
+        int total = 0;
+        try {
+            for (int i = 0; i < maxBatches; i++) {
+                int n = enrichmentService.drainOnce(batchSize);
+                if (n == 0) break;
+                total += n;
+            }
+        } catch (Exception e) {
+            log.warn("Deferred link enrichment run failed.", e);
+        }
+        if (total > 0) {
+            log.info("Deferred link enrichment processed {} queued works.", total);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.paperradar.ingest.infra;
+
+import com.paperradar.infra.http.ExternalApiGuard;
+import com.paperradar.infra.http.TokenBucketRateLimiter;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수집에서 쓰는 외부 API별 {@link ExternalApiGuard}. (OpenAlex works/institutions 공유, Crossref 별도)
+ */
+@Component
+public class ExternalApiGuards {
+
+    private final ExternalApiGuard openAlex;
+    private final ExternalApiGuard crossref;
+
+    public ExternalApiGuards(
+            TokenBucketRateLimiter openAlexRateLimiter,
+            @Value("${paperradar.openalex.max-concurrent:8}") int openAlexMaxConcurrent,
+            @Value("${paperradar.openalex.max-retries:3}") int openAlexMaxRetries,
+            @Value("${paperradar.openalex.breaker.failure-threshold:5}") int openAlexFailureThreshold,
+            @Value("${paperradar.openalex.breaker.open-seconds:30}") long openAlexOpenSeconds,
+            @Value("${paperradar.enrich.crossref.concurrency:4}") int crossrefMaxConcurrent,
+            @Value("${paperradar.enrich.crossref.max-retries:2}") int crossrefMaxRetries,
+            @Value("${paperradar.enrich.crossref.rate-limit.requests-per-second:5}") double crossrefRequestsPerSecond,
+            @Value("${paperradar.enrich.crossref.rate-limit.burst:5}") int crossrefBurst,
+            @Value("${paperradar.enrich.crossref.breaker.failure-threshold:5}") int crossrefFailureThreshold,
+            @Value("${paperradar.enrich.crossref.breaker.open-seconds:60}") long crossrefOpenSeconds
+    ) {
+        this.openAlex = new ExternalApiGuard(
+                "OpenAlex",
+                openAlexRateLimiter,
+                openAlexMaxConcurrent,
+                openAlexMaxRetries,
+                Duration.ofMillis(500),
+                Duration.ofSeconds(20),
+                openAlexFailureThreshold,
+                Duration.ofSeconds(openAlexOpenSeconds)
+        );
+        this.crossref = new ExternalApiGuard(
+                "Crossref",
+                new TokenBucketRateLimiter(crossrefRequestsPerSecond, crossrefBurst),
+                crossrefMaxConcurrent,
+                crossrefMaxRetries,
+                Duration.ofMillis(500),
+                Duration.ofSeconds(10),
+                crossrefFailureThreshold,
+                Duration.ofSeconds(crossrefOpenSeconds)
+        );
+    }
+
+    public ExternalApiGuard openAlex() {
+        return openAlex;
+    }
+
+    public ExternalApiGuard crossref() {
+        return crossref;
+    }
+
+    public List<ExternalApiGuard.Snapshot> snapshots() {
+        return List.of(openAlex.snapshot(), crossref.snapshot());
+    }
+}
@@ -7,6 +7,10 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 @Configuration
 public class IngestTaskExecutorConfig {
 
+    /**
+     * 수집/유지보수 job 실행용. job은 한 번에 하나만 돌도록 1개 스레드로 고정합니다.
+     * (job 내부의 소스별 병렬 fetch는 paperradar.ingest.fetch.workers로 조절)
+     */
     @Bean
     public ThreadPoolTaskExecutor ingestTaskExecutor() {
         ThreadPoolTaskExecutor exec = new ThreadPoolTaskExecutor();
@@ -0,0 +1,22 @@
+package com.paperradar.ingest.infra;
+
+import com.paperradar.infra.http.TokenBucketRateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class OpenAlexRateLimiterConfig {
+
+    /**
+     * OpenAlex 호출 전체(works/institutions)가 공유하는 레이트 리미터.
+     * polite pool 한도(초당 10회)보다 약간 낮게 기본값을 둡니다.
+     */
+    @Bean
+    public TokenBucketRateLimiter openAlexRateLimiter(
+            @Value("${paperradar.openalex.rate-limit.requests-per-second:8}") double requestsPerSecond,
+            @Value("${paperradar.openalex.rate-limit.burst:8}") int burst
+    ) {
+        return new TokenBucketRateLimiter(requestsPerSecond, burst);
+    }
+}
@@ -0,0 +1,36 @@
+package com.paperradar.ingest.model;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 수집 job을 이어서 실행하기 위한 체크포인트. (소스별 마지막으로 색인이 끝난 OpenAlex cursor)
+ */
+public record IngestCheckpoint(
+        IngestMode mode,
+        LocalDate fromPublicationDate,
+        LocalDate toPublicationDate,
+        List<SourceCursor> sources
+) {
+
+    /**
+     * @param cursor 다음에 요청할 OpenAlex cursor (아직 완료된 페이지가 없으면 null)
+     */
+    public record SourceCursor(
+            String type,
+            String key,
+            LocalDate fromPublicationDate,
+            LocalDate toPublicationDate,
+            String cursor,
+            boolean done
+    ) {
+
+        public IngestSource source() {
+            return new IngestSource(type, key, fromPublicationDate, toPublicationDate);
+        }
+    }
+
+    public boolean hasRemaining() {
+        return sources != null && sources.stream().anyMatch(s -> !s.done());
+    }
+}
@@ -14,9 +14,12 @@ public record IngestJob(
         int processedCount,
         int createdCount,
         int updatedCount,
+        int deduplicatedCount,
+        int skippedUnchangedCount,
         String errorSummary,
         String currentSource,
         String currentKey,
         LocalDate fromPublicationDate,
-        LocalDate toPublicationDate
+        LocalDate toPublicationDate,
+        boolean resumable
 ) {}
@@ -0,0 +1,16 @@
+package com.paperradar.ingest.model;
+
+import java.time.Instant;
+
+/**
+ * 수집 job이 끝났을 때(성공/실패 모두) 발행합니다. works가 바뀌었을 수 있으므로 검색 캐시 등이 구독합니다.
+ * {@code startedAt} 이후 `updated_at`인 works가 이 job에서 바뀐 문서입니다.
+ */
+public record IngestJobFinishedEvent(
+        String jobId,
+        IngestMode mode,
+        IngestStatus status,
+        int created,
+        int updated,
+        Instant startedAt
+) {}
@@ -0,0 +1,13 @@
+package com.paperradar.ingest.model;
+
+/**
+ * 실패한 job을 이어받기로 선점한 결과. 원래 job 문서에는 이미 `resumed_by_job_id = jobId`가 기록되어 있습니다.
+ *
+ * @param resumedFromJobId 이어받는 실패 job id
+ * @param jobId 이어서 실행할 새 job id (아직 job 문서는 만들지 않음)
+ */
+public record IngestResumeClaim(
+        String resumedFromJobId,
+        String jobId,
+        IngestCheckpoint checkpoint
+) {}
@@ -0,0 +1,49 @@
+package com.paperradar.ingest.model;
+
+import java.time.LocalDate;
+
+/**
+ * 수집 단위(활성 키워드 1개 또는 활성 기관 1개).
+ * <p>
+ * Full 수집에서 결과가 OpenAlex cursor 상한을 넘으면 publication_date 구간(window)으로 나눠 여러 단위가 됩니다.
+ *
+ * @param type "keyword" 또는 "institution" (ingest_jobs.current_source 값과 동일)
+ * @param fromPublicationDate window 시작 (null이면 job 범위를 그대로 사용)
+ * @param toPublicationDate window 끝 (null이면 job 범위를 그대로 사용)
+ */
+public record IngestSource(String type, String key, LocalDate fromPublicationDate, LocalDate toPublicationDate) {
+
+    public static final String KEYWORD = "keyword";
+    public static final String INSTITUTION = "institution";
+
+    public IngestSource(String type, String key) {
+        this(type, key, null, null);
+    }
+
+    public static IngestSource keyword(String keyword) {
+        return new IngestSource(KEYWORD, keyword);
+    }
+
+    public static IngestSource institution(String institutionId) {
+        return new IngestSource(INSTITUTION, institutionId);
+    }
+
+    public IngestSource withWindow(LocalDate from, LocalDate to) {
+        return new IngestSource(type, key, from, to);
+    }
+
+    public boolean windowed() {
+        return fromPublicationDate != null || toPublicationDate != null;
+    }
+
+    /**
+     * 진행 표시/로그용 이름. (window가 있으면 기간을 붙임)
+     */
+    public String label() {
+        if (!windowed()) {
+            return key;
+        }
+        return key + " [" + (fromPublicationDate == null ? "" : fromPublicationDate) + "~"
+                + (toPublicationDate == null ? "" : toPublicationDate) + "]";
+    }
+}
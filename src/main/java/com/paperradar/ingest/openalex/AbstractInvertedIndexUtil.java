@@ -1,44 +1,121 @@
 package com.paperradar.ingest.openalex;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.List;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Map;
 
+/**
+ * OpenAlex `abstract_inverted_index`(토큰 → 위치 목록)를 본문 문자열로 되돌립니다.
+ * <p>
+ * 위치를 인덱스로 하는 토큰 배열에 바로 채운 뒤 한 번에 이어 붙입니다. (위치 boxing/정렬 없음)
+ * <p>
+ * 위치는 0 이상 {@link #MAX_POSITIONS} 미만만 씁니다. 초록은 길어도 수천 단어라 이 범위를 넘는 위치는
+ * 깨진 데이터로 보고 그 토큰만 버립니다(나머지 본문은 유지).
+ */
 final class AbstractInvertedIndexUtil {
 
+    /**
+     * 위치 상한(미포함). 이 이상인 위치는 버립니다. 위치 하나로 배열이 이 크기를 넘어 커지지 않게 하는 상한입니다.
+     */
+    static final int MAX_POSITIONS = 1 << 16;
+
     private AbstractInvertedIndexUtil() {}
 
     static String toText(JsonNode invertedIndex) {
         if (invertedIndex == null || invertedIndex.isMissingNode() || invertedIndex.isNull() || !invertedIndex.isObject()) {
             return "";
         }
-        Map<Integer, String> posToToken = new HashMap<>();
-        invertedIndex.fields().forEachRemaining(entry -> {
-            String token = entry.getKey();
+        TokenSlots slots = new TokenSlots();
+        Iterator<Map.Entry<String, JsonNode>> it = invertedIndex.fields();
+        while (it.hasNext()) {
+            Map.Entry<String, JsonNode> entry = it.next();
             JsonNode positions = entry.getValue();
             if (!positions.isArray()) {
-                return;
+                continue;
             }
-            for (JsonNode p : positions) {
+            String token = entry.getKey();
+            for (int i = 0; i < positions.size(); i++) {
+                JsonNode p = positions.get(i);
                 if (p.isInt()) {
-                    posToToken.put(p.asInt(), token);
+                    slots.put(p.intValue(), token);
                 }
             }
-        });
-        if (posToToken.isEmpty()) {
+        }
+        return slots.join();
+    }
+
+    /**
+     * 파서가 `abstract_inverted_index` 값의 첫 토큰에 있을 때 호출합니다. 값 전체를 소비합니다.
+     */
+    static String toText(JsonParser p) throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            p.skipChildren();
             return "";
         }
-        List<Map.Entry<Integer, String>> sorted = new ArrayList<>(posToToken.entrySet());
-        sorted.sort(Comparator.comparingInt(Map.Entry::getKey));
-        StringBuilder sb = new StringBuilder(sorted.size() * 6);
-        for (int i = 0; i < sorted.size(); i++) {
-            if (i > 0) sb.append(' ');
-            sb.append(sorted.get(i).getValue());
+        TokenSlots slots = new TokenSlots();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String token = p.currentName();
+            if (p.nextToken() != JsonToken.START_ARRAY) {
+                p.skipChildren();
+                continue;
+            }
+            JsonToken t;
+            while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+                if (t == JsonToken.VALUE_NUMBER_INT && p.getNumberType() == JsonParser.NumberType.INT) {
+                    slots.put(p.getIntValue(), token);
+                } else {
+                    p.skipChildren();
+                }
+            }
         }
-        return sb.toString();
+        return slots.join();
     }
-}
 
+    /**
+     * 위치 → 토큰 배열. 같은 위치가 여러 번 나오면 마지막 토큰을 쓰고, 비어 있는 위치는 건너뜁니다.
+     */
+    private static final class TokenSlots {
+
+        private String[] tokens = new String[128];
+        private int length = 0;
+        private int chars = 0;
+
+        void put(int pos, String token) {
+            if (pos < 0 || pos >= MAX_POSITIONS) {
+                return;
+            }
+            if (pos >= tokens.length) {
+                tokens = Arrays.copyOf(tokens, Math.min(MAX_POSITIONS, Math.max(pos + 1, tokens.length * 2)));
+            }
+            String prev = tokens[pos];
+            if (prev != null) {
+                chars -= prev.length();
+            }
+            tokens[pos] = token;
+            chars += token.length();
+            if (pos >= length) {
+                length = pos + 1;
+            }
+        }
+
+        String join() {
+            if (length == 0) {
+                return "";
+            }
+            StringBuilder sb = new StringBuilder(chars + length);
+            boolean first = true;
+            for (int i = 0; i < length; i++) {
+                String token = tokens[i];
+                if (token == null) continue;
+                if (!first) sb.append(' ');
+                sb.append(token);
+                first = false;
+            }
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package com.paperradar.ingest.openalex;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paperradar.ingest.infra.ExternalApiGuards;
+import com.paperradar.ingest.model.OpenAlexWork;
+import com.paperradar.util.KeywordNormalizeUtil;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * `sendAsync` 기반 OpenAlex 클라이언트. (`paperradar.openalex.client=async`)
+ * <p>
+ * HTTP/2 + gzip으로 요청하고, 한 페이지를 파싱하면 소비자(보강/색인)에 넘기기 전에 다음 cursor 페이지를 먼저 요청해 둡니다.
+ * URI 구성과 count 조회는 {@link HttpOpenAlexClient}를 그대로 사용하고, 선요청도 OpenAlex 호출 보호막(재시도/circuit)을 거칩니다.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(value = "paperradar.openalex.client", havingValue = "async")
+public class AsyncOpenAlexClient implements OpenAlexClient {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncOpenAlexClient.class);
+
+    private final ObjectMapper objectMapper;
+    private final ExternalApiGuards apiGuards;
+    private final HttpOpenAlexClient syncClient;
+    private final HttpClient httpClient;
+
+    private final ExecutorService prefetchExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("openalex-prefetch-", 0).factory());
+
+    @Autowired
+    public AsyncOpenAlexClient(ObjectMapper objectMapper, ExternalApiGuards apiGuards, HttpOpenAlexClient syncClient) {
+        this(objectMapper, apiGuards, syncClient, HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build());
+    }
+
+    AsyncOpenAlexClient(ObjectMapper objectMapper, ExternalApiGuards apiGuards, HttpOpenAlexClient syncClient, HttpClient httpClient) {
+        this.objectMapper = objectMapper;
+        this.apiGuards = apiGuards;
+        this.syncClient = syncClient;
+        this.httpClient = httpClient;
+    }
+
+    @PreDestroy
+    public void close() {
+        prefetchExecutor.close();
+    }
+
+    @Override
+    public List<OpenAlexWork> fetchWorksByKeyword(
+            String keyword,
+            LocalDate fromPublicationDate,
+            LocalDate toPublicationDate,
+            LocalDate fromUpdatedDate
+    ) {
+        List<OpenAlexWork> all = new ArrayList<>();
+        streamWorksByKeyword(keyword, fromPublicationDate, toPublicationDate, fromUpdatedDate, page -> all.addAll(page.works()));
+        return all;
+    }
+
+    @Override
+    public List<OpenAlexWork> fetchWorksByInstitution(
+            String openAlexInstitutionId,
+            LocalDate fromPublicationDate,
+            LocalDate toPublicationDate,
+            LocalDate fromUpdatedDate
+    ) {
+        List<OpenAlexWork> all = new ArrayList<>();
+        streamWorksByInstitution(openAlexInstitutionId, fromPublicationDate, toPublicationDate, fromUpdatedDate, page -> all.addAll(page.works()));
+        return all;
+    }
+
+    @Override
+    public void streamWorksByKeyword(
+            String keyword,
+            LocalDate fromPublicationDate,
+            LocalDate toPublicationDate,
+            LocalDate fromUpdatedDate,
+            String startCursor,
+            Consumer<OpenAlexWorkPage> pageConsumer
+    ) {
+        String normalized = KeywordNormalizeUtil.normalize(keyword);
+        if (normalized.isBlank()) {
+            return;
+        }
+        streamWorks(normalized, null, fromPublicationDate, toPublicationDate, fromUpdatedDate, startCursor, pageConsumer);
+    }
+
+    @Override
+    public void streamWorksByInstitution(
+            String openAlexInstitutionId,
+            LocalDate fromPublicationDate,
+            LocalDate toPublicationDate,
+            LocalDate fromUpdatedDate,
+            String startCursor,
+            Consumer<OpenAlexWorkPage> pageConsumer
+    ) {
+        String inst = openAlexInstitutionId == null ? "" : openAlexInstitutionId.trim();
+        if (inst.isBlank()) {
+            return;
+        }
+        streamWorks(null, inst, fromPublicationDate, toPublicationDate, fromUpdatedDate, startCursor, pageConsumer);
+    }
+
+    @Override
+    public long countWorksByKeyword(
+            String keyword,
+            LocalDate fromPublicationDate,
+            LocalDate toPublicationDate,
+            LocalDate fromUpdatedDate
+    ) {
+        return syncClient.countWorksByKeyword(keyword, fromPublicationDate, toPublicationDate, fromUpdatedDate);
+    }
+
+    @Override
+    public long countWorksByInstitution(
+            String openAlexInstitutionId,
+            LocalDate fromPublicationDate,
+            LocalDate toPublicationDate,
+            LocalDate fromUpdatedDate
+    ) {
+        return syncClient.countWorksByInstitution(openAlexInstitutionId, fromPublicationDate, toPublicationDate, fromUpdatedDate);
+    }
+
+    @Override
+    public long maxResultsPerQuery() {
+        return syncClient.maxResultsPerQuery();
+    }
+
+    private void streamWorks(
+            String search,
+            String institutionId,
+            LocalDate fromPublicationDate,
+            LocalDate toPublicationDate,
+            LocalDate fromUpdatedDate,
+            String startCursor,
+            Consumer<OpenAlexWorkPage> pageConsumer
+    ) {
+        String select = syncClient.selectParam();
+        String cursor = startCursor == null || startCursor.isBlank() ? "*" : startCursor;
+        URI uri = syncClient.buildUri(search, institutionId, fromPublicationDate, toPublicationDate, fromUpdatedDate,
+                cursor, HttpOpenAlexClient.PER_PAGE, select);
+        Prefetch inFlight = send(uri);
+
+        try {
+            for (int page = 0; page < HttpOpenAlexClient.MAX_PAGES; page++) {
+                OpenAlexWorkPage fetched = await(inFlight, uri);
+                inFlight = null;
+
+                boolean hasNext = !fetched.nextCursor().isBlank();
+                if (hasNext && page + 1 < HttpOpenAlexClient.MAX_PAGES) {
+                    // 소비자가 이 페이지를 처리하는 동안 다음 페이지를 받아 둠
+                    uri = syncClient.buildUri(search, institutionId, fromPublicationDate, toPublicationDate, fromUpdatedDate,
+                            fetched.nextCursor(), HttpOpenAlexClient.PER_PAGE, select);
+                    inFlight = send(uri);
+                }
+
+                // 소비자(색인) 예외는 OpenAlex 오류로 감싸지 않습니다.
+                pageConsumer.accept(fetched);
+
+                if (!hasNext) {
+                    return;
+                }
+            }
+        } finally {
+            discard(inFlight);
+        }
+        log.warn("OpenAlex results truncated at {} pages (search={}, institution={}, from={}, to={})",
+                HttpOpenAlexClient.MAX_PAGES, search, institutionId, fromPublicationDate, toPublicationDate);
+    }
+
+    private Prefetch send(URI uri) {
+        HttpRequest req = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(20))
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", "gzip")
+                .GET()
+                .build();
+        Prefetch prefetch = new Prefetch();
+        prefetch.response = CompletableFuture.supplyAsync(() -> {
+            try {
+                HttpResponse<InputStream> res = apiGuards.openAlex().execute(() -> {
+                    if (prefetch.discarded) {
+                        throw new CancellationException("OpenAlex prefetch discarded.");
+                    }
+                    CompletableFuture<HttpResponse<InputStream>> sending = httpClient.sendAsync(req, HttpResponse.BodyHandlers.ofInputStream());
+                    prefetch.sending = sending;
+                    if (prefetch.discarded) {
+                        sending.cancel(true);
+                    }
+                    return join(sending);
+                });
+                if (prefetch.discarded) {
+                    // 버린 뒤 도착한 응답은 받을 곳이 없으므로 여기서 연결을 돌려줌
+                    closeQuietly(res);
+                    throw new CancellationException("OpenAlex prefetch discarded.");
+                }
+                return res;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("OpenAlex prefetch interrupted.");
+            }
+        }, prefetchExecutor);
+        return prefetch;
+    }
+
+    /**
+     * 선요청 하나. 바깥 future를 취소해도 안쪽 `sendAsync`는 멈추지 않으므로 그 handle을 따로 둡니다.
+     */
+    private static final class Prefetch {
+        private CompletableFuture<HttpResponse<InputStream>> response;
+        private volatile CompletableFuture<HttpResponse<InputStream>> sending;
+        private volatile boolean discarded;
+    }
+
+    private static <T> HttpResponse<T> join(CompletableFuture<HttpResponse<T>> future) throws IOException, InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IllegalStateException("OpenAlex request error.", e.getCause());
+        }
+    }
+
+    private OpenAlexWorkPage await(Prefetch inFlight, URI uri) {
+        try {
+            HttpResponse<InputStream> res = inFlight.response.get();
+            String encoding = res.headers().firstValue("Content-Encoding").orElse("");
+            try (InputStream body = decode(res.body(), encoding)) {
+                if (res.statusCode() < 200 || res.statusCode() >= 300) {
+                    String text = new String(body.readNBytes(501), StandardCharsets.UTF_8);
+                    String snippet = text.length() > 500 ? text.substring(0, 500) + "..." : text;
+                    throw new IllegalStateException("OpenAlex request failed (status=%d, uri=%s): %s"
+                            .formatted(res.statusCode(), uri, snippet));
+                }
+                return OpenAlexStreamingJsonMapper.parsePage(objectMapper.getFactory(), body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("OpenAlex request interrupted.", e);
+        } catch (ExecutionException e) {
+            log.warn("OpenAlex request error.", e.getCause());
+            throw new IllegalStateException("OpenAlex request error.", e.getCause());
+        } catch (IllegalStateException e) {
+            log.warn("OpenAlex request error.", e);
+            throw e;
+        } catch (Exception e) {
+            log.warn("OpenAlex request error.", e);
+            throw new IllegalStateException("OpenAlex request error.", e);
+        }
+    }
+
+    /**
+     * gzip 응답은 전체를 풀어 두지 않고 파서가 읽는 만큼 스트림으로 풉니다.
+     */
+    static InputStream decode(InputStream body, String contentEncoding) throws IOException {
+        if (contentEncoding != null && contentEncoding.trim().equalsIgnoreCase("gzip")) {
+            return new GZIPInputStream(body, 16 * 1024);
+        }
+        return body;
+    }
+
+    /**
+     * 더 이상 필요 없는 선요청(다음 페이지)을 취소하고, 이미 도착했거나 취소 전에 도착하면 연결을 돌려주도록 body를 닫습니다.
+     */
+    private void discard(Prefetch inFlight) {
+        if (inFlight == null) {
+            return;
+        }
+        inFlight.discarded = true;
+        CompletableFuture<HttpResponse<InputStream>> sending = inFlight.sending;
+        if (sending != null) {
+            sending.cancel(true);
+        }
+        inFlight.response.whenComplete((res, err) -> closeQuietly(res));
+    }
+
+    private static void closeQuietly(HttpResponse<InputStream> res) {
+        if (res == null) {
+            return;
+        }
+        try {
+            res.body().close();
+        } catch (IOException e) {
+            log.debug("Failed to close prefetched OpenAlex response.", e);
+        }
+    }
+}
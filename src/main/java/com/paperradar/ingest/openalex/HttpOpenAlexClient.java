@@ -1,9 +1,10 @@
 package com.paperradar.ingest.openalex;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paperradar.ingest.infra.ExternalApiGuards;
 import com.paperradar.ingest.model.OpenAlexWork;
 import com.paperradar.util.KeywordNormalizeUtil;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.net.http.HttpClient;
@@ -14,6 +15,7 @@ import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,10 +29,11 @@ public class HttpOpenAlexClient implements OpenAlexClient {
     private static final Logger log = LoggerFactory.getLogger(HttpOpenAlexClient.class);
 
     private static final String BASE = "https://api.openalex.org";
-    private static final int PER_PAGE = 200;
-    private static final int MAX_PAGES = 50;
+    static final int PER_PAGE = 200;
+    static final int MAX_PAGES = 50;
 
     private final ObjectMapper objectMapper;
+    private final ExternalApiGuards apiGuards;
 
     private final HttpClient httpClient = HttpClient.newBuilder()
             .connectTimeout(Duration.ofSeconds(5))
@@ -39,23 +42,82 @@ public class HttpOpenAlexClient implements OpenAlexClient {
     @Value("${OPENALEX_EMAIL:}")
     private String openAlexEmail;
 
+    @Value("${paperradar.openalex.select:}")
+    private String selectFields;
+
     @Override
     public List<OpenAlexWork> fetchWorksByKeyword(
             String keyword,
             LocalDate fromPublicationDate,
             LocalDate toPublicationDate,
             LocalDate fromUpdatedDate
+    ) {
+        List<OpenAlexWork> all = new ArrayList<>();
+        streamWorksByKeyword(keyword, fromPublicationDate, toPublicationDate, fromUpdatedDate, page -> all.addAll(page.works()));
+        return all;
+    }
+
+    @Override
+    public List<OpenAlexWork> fetchWorksByInstitution(
+            String openAlexInstitutionId,
+            LocalDate fromPublicationDate,
+            LocalDate toPublicationDate,
+            LocalDate fromUpdatedDate
+    ) {
+        List<OpenAlexWork> all = new ArrayList<>();
+        streamWorksByInstitution(openAlexInstitutionId, fromPublicationDate, toPublicationDate, fromUpdatedDate, page -> all.addAll(page.works()));
+        return all;
+    }
+
+    @Override
+    public void streamWorksByKeyword(
+            String keyword,
+            LocalDate fromPublicationDate,
+            LocalDate toPublicationDate,
+            LocalDate fromUpdatedDate,
+            String startCursor,
+            Consumer<OpenAlexWorkPage> pageConsumer
     ) {
         String normalized = KeywordNormalizeUtil.normalize(keyword);
         if (normalized.isBlank()) {
-            return List.of();
+            return;
         }
         String search = normalized;
-        return fetchWorks(search, null, fromPublicationDate, toPublicationDate, fromUpdatedDate);
+        streamWorks(search, null, fromPublicationDate, toPublicationDate, fromUpdatedDate, startCursor, pageConsumer);
     }
 
     @Override
-    public List<OpenAlexWork> fetchWorksByInstitution(
+    public void streamWorksByInstitution(
+            String openAlexInstitutionId,
+            LocalDate fromPublicationDate,
+            LocalDate toPublicationDate,
+            LocalDate fromUpdatedDate,
+            String startCursor,
+            Consumer<OpenAlexWorkPage> pageConsumer
+    ) {
+        String inst = openAlexInstitutionId == null ? "" : openAlexInstitutionId.trim();
+        if (inst.isBlank()) {
+            return;
+        }
+        streamWorks(null, inst, fromPublicationDate, toPublicationDate, fromUpdatedDate, startCursor, pageConsumer);
+    }
+
+    @Override
+    public long countWorksByKeyword(
+            String keyword,
+            LocalDate fromPublicationDate,
+            LocalDate toPublicationDate,
+            LocalDate fromUpdatedDate
+    ) {
+        String normalized = KeywordNormalizeUtil.normalize(keyword);
+        if (normalized.isBlank()) {
+            return 0;
+        }
+        return countWorks(normalized, null, fromPublicationDate, toPublicationDate, fromUpdatedDate);
+    }
+
+    @Override
+    public long countWorksByInstitution(
             String openAlexInstitutionId,
             LocalDate fromPublicationDate,
             LocalDate toPublicationDate,
@@ -63,69 +125,134 @@ public class HttpOpenAlexClient implements OpenAlexClient {
     ) {
         String inst = openAlexInstitutionId == null ? "" : openAlexInstitutionId.trim();
         if (inst.isBlank()) {
-            return List.of();
+            return 0;
         }
-        return fetchWorks(null, inst, fromPublicationDate, toPublicationDate, fromUpdatedDate);
+        return countWorks(null, inst, fromPublicationDate, toPublicationDate, fromUpdatedDate);
+    }
+
+    @Override
+    public long maxResultsPerQuery() {
+        return (long) PER_PAGE * MAX_PAGES;
     }
 
-    private List<OpenAlexWork> fetchWorks(
+    private long countWorks(
             String search,
             String institutionId,
             LocalDate fromPublicationDate,
             LocalDate toPublicationDate,
             LocalDate fromUpdatedDate
     ) {
-        List<OpenAlexWork> all = new ArrayList<>();
-        String cursor = "*";
+        try {
+            URI uri = buildUri(search, institutionId, fromPublicationDate, toPublicationDate, fromUpdatedDate, "*", 1, "id");
+            HttpRequest req = HttpRequest.newBuilder(uri)
+                    .timeout(Duration.ofSeconds(20))
+                    .header("Accept", "application/json")
+                    .GET()
+                    .build();
+            HttpResponse<String> res = apiGuards.openAlex().execute(() -> httpClient.send(req, HttpResponse.BodyHandlers.ofString()));
+            if (res.statusCode() < 200 || res.statusCode() >= 300) {
+                throw new IllegalStateException("OpenAlex count request failed (status=%d, uri=%s)"
+                        .formatted(res.statusCode(), uri));
+            }
+            return objectMapper.readTree(res.body()).path("meta").path("count").asLong(-1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("OpenAlex request interrupted.", e);
+        } catch (IllegalStateException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("OpenAlex count request error.", e);
+        }
+    }
+
+    private void streamWorks(
+            String search,
+            String institutionId,
+            LocalDate fromPublicationDate,
+            LocalDate toPublicationDate,
+            LocalDate fromUpdatedDate,
+            String startCursor,
+            Consumer<OpenAlexWorkPage> pageConsumer
+    ) {
+        String cursor = startCursor == null || startCursor.isBlank() ? "*" : startCursor;
 
         for (int page = 0; page < MAX_PAGES; page++) {
+            OpenAlexWorkPage fetched;
             try {
-                URI uri = buildUri(search, institutionId, fromPublicationDate, toPublicationDate, fromUpdatedDate, cursor);
+                URI uri = buildUri(
+                        search,
+                        institutionId,
+                        fromPublicationDate,
+                        toPublicationDate,
+                        fromUpdatedDate,
+                        cursor,
+                        PER_PAGE,
+                        selectParam()
+                );
                 HttpRequest req = HttpRequest.newBuilder(uri)
                         .timeout(Duration.ofSeconds(20))
                         .header("Accept", "application/json")
                         .GET()
                         .build();
-                HttpResponse<String> res = httpClient.send(req, HttpResponse.BodyHandlers.ofString());
-                if (res.statusCode() < 200 || res.statusCode() >= 300) {
-                    String body = res.body() == null ? "" : res.body();
-                    String snippet = body.length() > 500 ? body.substring(0, 500) + "..." : body;
-                    throw new IllegalStateException("OpenAlex request failed (status=%d, uri=%s): %s"
-                            .formatted(res.statusCode(), uri, snippet));
+                HttpResponse<InputStream> res = apiGuards.openAlex()
+                        .execute(() -> httpClient.send(req, HttpResponse.BodyHandlers.ofInputStream()));
+                try (InputStream body = res.body()) {
+                    if (res.statusCode() < 200 || res.statusCode() >= 300) {
+                        String text = new String(body.readNBytes(501), StandardCharsets.UTF_8);
+                        String snippet = text.length() > 500 ? text.substring(0, 500) + "..." : text;
+                        throw new IllegalStateException("OpenAlex request failed (status=%d, uri=%s): %s"
+                                .formatted(res.statusCode(), uri, snippet));
+                    }
+                    // 응답 바이트를 String/트리로 복사하지 않고 스트림에서 바로 매핑
+                    fetched = OpenAlexStreamingJsonMapper.parsePage(objectMapper.getFactory(), body);
                 }
-                JsonNode root = objectMapper.readTree(res.body());
-                all.addAll(OpenAlexJsonMapper.parseWorks(root));
-
-                String next = root.path("meta").path("next_cursor").asText("");
-                if (next.isBlank()) {
-                    break;
-                }
-                cursor = next;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("OpenAlex request interrupted.", e);
             } catch (Exception e) {
                 log.warn("OpenAlex request error.", e);
                 throw new IllegalStateException("OpenAlex request error.", e);
             }
+
+            // 소비자(색인) 예외는 OpenAlex 오류로 감싸지 않습니다.
+            pageConsumer.accept(fetched);
+
+            if (fetched.nextCursor().isBlank()) {
+                return;
+            }
+            cursor = fetched.nextCursor();
         }
+        // 마지막 페이지의 next_cursor가 남아 있으면 상한에서 잘린 것 (호출 측은 마지막 cursor로 판단)
+        log.warn("OpenAlex results truncated at {} pages (search={}, institution={}, from={}, to={})",
+                MAX_PAGES, search, institutionId, fromPublicationDate, toPublicationDate);
+    }
 
-        return all;
+    String selectParam() {
+        return OpenAlexJsonMapper.selectParam(selectFields);
     }
 
-    private URI buildUri(
+    URI buildUri(
             String search,
             String institutionId,
             LocalDate fromPublicationDate,
             LocalDate toPublicationDate,
             LocalDate fromUpdatedDate,
-            String cursor
+            String cursor,
+            int perPage,
+            String select
     ) {
         StringBuilder sb = new StringBuilder(BASE).append("/works?");
-        sb.append("per-page=").append(PER_PAGE);
+        sb.append("per-page=").append(perPage);
         sb.append("&cursor=").append(url(cursor));
 
         if (search != null && !search.isBlank()) {
             sb.append("&search=").append(url(search));
         }
 
+        if (select != null && !select.isBlank()) {
+            sb.append("&select=").append(url(select));
+        }
+
         List<String> filters = new ArrayList<>();
         if (institutionId != null && !institutionId.isBlank()) {
             filters.add("institutions.id:" + institutionId);
@@ -2,6 +2,7 @@ package com.paperradar.ingest.openalex;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paperradar.ingest.infra.ExternalApiGuards;
 import com.paperradar.ingest.openalex.OpenAlexInstitutionClient.OpenAlexInstitutionSummary;
 import java.net.URI;
 import java.net.URLEncoder;
@@ -27,6 +28,7 @@ public class HttpOpenAlexInstitutionClient implements OpenAlexInstitutionClient
     private static final String BASE = "https://api.openalex.org";
 
     private final ObjectMapper objectMapper;
+    private final ExternalApiGuards apiGuards;
 
     private final HttpClient httpClient = HttpClient.newBuilder()
             .connectTimeout(Duration.ofSeconds(5))
@@ -104,7 +106,7 @@ public class HttpOpenAlexInstitutionClient implements OpenAlexInstitutionClient
                 .header("Accept", "application/json")
                 .GET()
                 .build();
-        HttpResponse<String> res = httpClient.send(req, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> res = apiGuards.openAlex().execute(() -> httpClient.send(req, HttpResponse.BodyHandlers.ofString()));
         if (res.statusCode() < 200 || res.statusCode() >= 300) {
             String body = res.body() == null ? "" : res.body();
             String snippet = body.length() > 500 ? body.substring(0, 500) + "..." : body;
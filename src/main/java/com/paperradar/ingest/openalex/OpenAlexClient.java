@@ -3,6 +3,7 @@ package com.paperradar.ingest.openalex;
 import com.paperradar.ingest.model.OpenAlexWork;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface OpenAlexClient {
     List<OpenAlexWork> fetchWorksByKeyword(
@@ -18,4 +19,77 @@ public interface OpenAlexClient {
             LocalDate toPublicationDate,
             LocalDate fromUpdatedDate
     );
+
+    /**
+     * startCursor(이전 실행에서 저장한 next_cursor)부터 받은 페이지를 즉시 pageConsumer로 넘깁니다. (전체 결과를 메모리에 모으지 않음)
+     * startCursor가 비어 있으면 처음부터.
+     */
+    void streamWorksByKeyword(
+            String keyword,
+            LocalDate fromPublicationDate,
+            LocalDate toPublicationDate,
+            LocalDate fromUpdatedDate,
+            String startCursor,
+            Consumer<OpenAlexWorkPage> pageConsumer
+    );
+
+    /**
+     * {@link #streamWorksByKeyword(String, LocalDate, LocalDate, LocalDate, String, Consumer)}의 기관 버전입니다.
+     */
+    void streamWorksByInstitution(
+            String openAlexInstitutionId,
+            LocalDate fromPublicationDate,
+            LocalDate toPublicationDate,
+            LocalDate fromUpdatedDate,
+            String startCursor,
+            Consumer<OpenAlexWorkPage> pageConsumer
+    );
+
+    default void streamWorksByKeyword(
+            String keyword,
+            LocalDate fromPublicationDate,
+            LocalDate toPublicationDate,
+            LocalDate fromUpdatedDate,
+            Consumer<OpenAlexWorkPage> pageConsumer
+    ) {
+        streamWorksByKeyword(keyword, fromPublicationDate, toPublicationDate, fromUpdatedDate, null, pageConsumer);
+    }
+
+    default void streamWorksByInstitution(
+            String openAlexInstitutionId,
+            LocalDate fromPublicationDate,
+            LocalDate toPublicationDate,
+            LocalDate fromUpdatedDate,
+            Consumer<OpenAlexWorkPage> pageConsumer
+    ) {
+        streamWorksByInstitution(openAlexInstitutionId, fromPublicationDate, toPublicationDate, fromUpdatedDate, null, pageConsumer);
+    }
+
+    /**
+     * 조건에 맞는 work 수(`meta.count`). 지원하지 않으면 -1.
+     */
+    default long countWorksByKeyword(
+            String keyword,
+            LocalDate fromPublicationDate,
+            LocalDate toPublicationDate,
+            LocalDate fromUpdatedDate
+    ) {
+        return -1;
+    }
+
+    default long countWorksByInstitution(
+            String openAlexInstitutionId,
+            LocalDate fromPublicationDate,
+            LocalDate toPublicationDate,
+            LocalDate fromUpdatedDate
+    ) {
+        return -1;
+    }
+
+    /**
+     * 한 번의 stream 호출로 받을 수 있는 최대 work 수. (cursor 페이지 상한)
+     */
+    default long maxResultsPerQuery() {
+        return Long.MAX_VALUE;
+    }
 }
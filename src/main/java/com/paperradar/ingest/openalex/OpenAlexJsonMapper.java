@@ -6,17 +6,58 @@ import com.paperradar.ingest.model.OpenAlexWork.AuthorRef;
 import com.paperradar.ingest.model.OpenAlexWork.InstitutionRef;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 final class OpenAlexJsonMapper {
 
+    /**
+     * 매퍼(트리/스트리밍)가 읽는 work 최상위 필드. OpenAlex `select=` 기본값으로 사용합니다.
+     * (select는 최상위 필드만 지원하므로 하위 필드는 지정할 수 없음)
+     */
+    static final List<String> CONSUMED_FIELDS = List.of(
+            "id",
+            "doi",
+            "ids",
+            "title",
+            "publication_date",
+            "cited_by_count",
+            "primary_location",
+            "best_oa_location",
+            "open_access",
+            "abstract_inverted_index",
+            "keywords",
+            "concepts",
+            "authorships"
+    );
+
     private OpenAlexJsonMapper() {}
 
+    /**
+     * 설정값(쉼표 구분)으로 select 파라미터 값을 만듭니다. 비어 있으면 {@link #CONSUMED_FIELDS}, `*`이면 select 없이 전체 필드(null).
+     */
+    static String selectParam(String configured) {
+        String v = configured == null ? "" : configured.trim();
+        if (v.equals("*")) {
+            return null;
+        }
+        if (v.isEmpty()) {
+            return String.join(",", CONSUMED_FIELDS);
+        }
+        // id가 없으면 모든 work가 버려지므로 항상 포함
+        return Stream.concat(Stream.of("id"), Arrays.stream(v.split(",")))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .distinct()
+                .collect(Collectors.joining(","));
+    }
+
     static List<OpenAlexWork> parseWorks(JsonNode root) {
         JsonNode results = root.path("results");
         if (!results.isArray()) {
@@ -78,7 +119,6 @@ final class OpenAlexJsonMapper {
                 }
             }
         }
-        keywords = keywords.stream().filter(s -> !s.isBlank()).distinct().toList();
 
         List<AuthorRef> authors = new ArrayList<>();
         Map<String, InstitutionRef> institutions = new HashMap<>();
@@ -105,7 +145,30 @@ final class OpenAlexJsonMapper {
                 }
             }
         }
-        authors = authors.stream()
+
+        return toWork(id, doi, landing, pdf, oaUrl, title, abstractText, publicationDate, citedBy, keywords, authors, institutions);
+    }
+
+    /**
+     * 필드 값을 모은 뒤 공통 정리(중복 제거/정렬)를 적용합니다. (스트리밍 매퍼와 결과를 맞추기 위해 공유)
+     */
+    static OpenAlexWork toWork(
+            String id,
+            String doi,
+            String landing,
+            String pdf,
+            String oaUrl,
+            String title,
+            String abstractText,
+            LocalDate publicationDate,
+            int citedBy,
+            List<String> keywords,
+            List<AuthorRef> authors,
+            Map<String, InstitutionRef> institutions
+    ) {
+        List<String> keywordList = keywords.stream().filter(s -> !s.isBlank()).distinct().toList();
+
+        List<AuthorRef> authorList = authors.stream()
                 .filter(a -> a.name() != null && !a.name().isBlank())
                 .distinct()
                 .toList();
@@ -125,8 +188,8 @@ final class OpenAlexJsonMapper {
                 abstractText,
                 publicationDate,
                 citedBy,
-                keywords,
-                authors,
+                keywordList,
+                authorList,
                 instList
         );
     }
@@ -137,7 +200,7 @@ final class OpenAlexJsonMapper {
         return v.asText("");
     }
 
-    private static LocalDate parseDate(String s) {
+    static LocalDate parseDate(String s) {
         if (s == null || s.isBlank()) return null;
         try {
             return LocalDate.parse(s);
@@ -146,7 +209,7 @@ final class OpenAlexJsonMapper {
         }
     }
 
-    private static String normalizeDoi(String doiValue) {
+    static String normalizeDoi(String doiValue) {
         if (doiValue == null) {
             return null;
         }
@@ -164,7 +227,7 @@ final class OpenAlexJsonMapper {
         return trimmed;
     }
 
-    private static String firstNonBlank(String a, String b) {
+    static String firstNonBlank(String a, String b) {
         if (a != null && !a.isBlank()) return a;
         if (b != null && !b.isBlank()) return b;
         return "";
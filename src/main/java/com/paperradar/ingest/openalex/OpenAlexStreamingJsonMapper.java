@@ -0,0 +1,257 @@
+package com.paperradar.ingest.openalex;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.paperradar.ingest.model.OpenAlexWork;
+import com.paperradar.ingest.model.OpenAlexWork.AuthorRef;
+import com.paperradar.ingest.model.OpenAlexWork.InstitutionRef;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OpenAlex `/works` 응답을 트리(JsonNode) 없이 {@link JsonParser}로 한 번에 읽어 페이지로 변환합니다.
+ * <p>
+ * 사용하지 않는 필드(`referenced_works`, `counts_by_year`, `locations` 등)는 skipChildren으로 건너뛰고,
+ * 결과는 {@link OpenAlexJsonMapper#parseWorks}와 동일합니다.
+ */
+final class OpenAlexStreamingJsonMapper {
+
+    private OpenAlexStreamingJsonMapper() {}
+
+    static OpenAlexWorkPage parsePage(JsonFactory factory, InputStream in) throws IOException {
+        try (JsonParser p = factory.createParser(in)) {
+            return parsePage(p);
+        }
+    }
+
+    static OpenAlexWorkPage parsePage(JsonParser p) throws IOException {
+        List<OpenAlexWork> works = new ArrayList<>();
+        String nextCursor = "";
+        if (p.nextToken() != JsonToken.START_OBJECT) {
+            return new OpenAlexWorkPage(works, nextCursor);
+        }
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            if ("results".equals(field) && value == JsonToken.START_ARRAY) {
+                while (p.nextToken() != JsonToken.END_ARRAY) {
+                    OpenAlexWork w = parseWork(p);
+                    if (w != null) {
+                        works.add(w);
+                    }
+                }
+            } else if ("meta".equals(field) && value == JsonToken.START_OBJECT) {
+                nextCursor = parseNextCursor(p);
+            } else {
+                p.skipChildren();
+            }
+        }
+        return new OpenAlexWorkPage(works, nextCursor);
+    }
+
+    private static String parseNextCursor(JsonParser p) throws IOException {
+        String cursor = "";
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            if ("next_cursor".equals(field)) {
+                cursor = scalarText(p);
+            } else {
+                p.skipChildren();
+            }
+        }
+        return cursor;
+    }
+
+    private static OpenAlexWork parseWork(JsonParser p) throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            p.skipChildren();
+            return null;
+        }
+        String id = "";
+        String doi = "";
+        String idsDoi = "";
+        String[] primary = {"", ""};
+        String[] bestOa = {"", "", ""};
+        String oaUrl = "";
+        String title = "";
+        String abstractText = "";
+        String publicationDate = "";
+        int citedBy = 0;
+        List<String> keywords = null;
+        List<String> concepts = null;
+        List<AuthorRef> authors = new ArrayList<>();
+        Map<String, InstitutionRef> institutions = new HashMap<>();
+
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "id" -> id = scalarText(p);
+                case "doi" -> doi = scalarText(p);
+                case "ids" -> idsDoi = readFields(p, "doi")[0];
+                case "primary_location" -> primary = readFields(p, "landing_page_url", "pdf_url");
+                case "best_oa_location" -> bestOa = readFields(p, "landing_page_url", "pdf_url", "url");
+                case "open_access" -> oaUrl = readFields(p, "oa_url")[0];
+                case "title" -> title = scalarText(p);
+                case "abstract_inverted_index" -> abstractText = AbstractInvertedIndexUtil.toText(p);
+                case "publication_date" -> publicationDate = scalarText(p);
+                case "cited_by_count" -> citedBy = scalarInt(p);
+                case "keywords" -> keywords = readNames(p, "display_name", "keyword");
+                case "concepts" -> concepts = readNames(p, "display_name", null);
+                case "authorships" -> readAuthorships(p, authors, institutions);
+                default -> p.skipChildren();
+            }
+        }
+
+        if (id.isBlank()) {
+            return null;
+        }
+        // 트리 매퍼와 같게: keywords가 배열이면 그것만, 아니면 concepts 사용
+        List<String> kws = keywords != null ? keywords : (concepts != null ? concepts : List.of());
+        return OpenAlexJsonMapper.toWork(
+                id,
+                OpenAlexJsonMapper.normalizeDoi(OpenAlexJsonMapper.firstNonBlank(doi, idsDoi)),
+                OpenAlexJsonMapper.firstNonBlank(primary[0], bestOa[0]),
+                OpenAlexJsonMapper.firstNonBlank(primary[1], bestOa[1]),
+                OpenAlexJsonMapper.firstNonBlank(oaUrl, bestOa[2]),
+                title,
+                abstractText,
+                OpenAlexJsonMapper.parseDate(publicationDate),
+                citedBy,
+                kws,
+                authors,
+                institutions
+        );
+    }
+
+    /**
+     * 객체 값에서 지정한 스칼라 필드만 읽습니다. (객체가 아니면 모두 "")
+     */
+    private static String[] readFields(JsonParser p, String... names) throws IOException {
+        String[] out = new String[names.length];
+        Arrays.fill(out, "");
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            p.skipChildren();
+            return out;
+        }
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            int idx = indexOf(names, field);
+            if (idx >= 0) {
+                out[idx] = scalarText(p);
+            } else {
+                p.skipChildren();
+            }
+        }
+        return out;
+    }
+
+    /**
+     * `[{display_name, keyword}, ...]` 배열에서 이름 목록을 읽습니다. 배열이 아니면 null.
+     */
+    private static List<String> readNames(JsonParser p, String primaryField, String fallbackField) throws IOException {
+        if (p.currentToken() != JsonToken.START_ARRAY) {
+            p.skipChildren();
+            return null;
+        }
+        List<String> out = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            String[] v = fallbackField == null ? readFields(p, primaryField) : readFields(p, primaryField, fallbackField);
+            String name = fallbackField == null ? v[0] : OpenAlexJsonMapper.firstNonBlank(v[0], v[1]);
+            if (!name.isBlank()) out.add(name);
+        }
+        return out;
+    }
+
+    private static void readAuthorships(
+            JsonParser p,
+            List<AuthorRef> authors,
+            Map<String, InstitutionRef> institutions
+    ) throws IOException {
+        if (p.currentToken() != JsonToken.START_ARRAY) {
+            p.skipChildren();
+            return;
+        }
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            if (p.currentToken() != JsonToken.START_OBJECT) {
+                p.skipChildren();
+                continue;
+            }
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                p.nextToken();
+                if ("author".equals(field)) {
+                    String[] a = readFields(p, "id", "display_name");
+                    if (!a[1].isBlank()) {
+                        authors.add(new AuthorRef(a[0], a[1]));
+                    }
+                } else if ("institutions".equals(field) && p.currentToken() == JsonToken.START_ARRAY) {
+                    while (p.nextToken() != JsonToken.END_ARRAY) {
+                        String[] inst = readFields(p, "id", "display_name");
+                        if (!inst[0].isBlank() || !inst[1].isBlank()) {
+                            String key = !inst[0].isBlank() ? inst[0] : inst[1];
+                            institutions.putIfAbsent(key, new InstitutionRef(inst[0], inst[1]));
+                        }
+                    }
+                } else {
+                    p.skipChildren();
+                }
+            }
+        }
+    }
+
+    /**
+     * JsonNode#asText("")와 같은 규칙: null/객체/배열은 "", 나머지는 문자열 표현.
+     */
+    private static String scalarText(JsonParser p) throws IOException {
+        JsonToken t = p.currentToken();
+        if (t == null || t == JsonToken.VALUE_NULL) {
+            return "";
+        }
+        if (t.isStructStart()) {
+            p.skipChildren();
+            return "";
+        }
+        String s = p.getText();
+        return s == null ? "" : s;
+    }
+
+    /**
+     * JsonNode#asInt(0)과 같은 규칙.
+     */
+    private static int scalarInt(JsonParser p) throws IOException {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.VALUE_NUMBER_INT || t == JsonToken.VALUE_NUMBER_FLOAT) {
+            return p.getNumberValue().intValue();
+        }
+        if (t == JsonToken.VALUE_TRUE) {
+            return 1;
+        }
+        if (t == JsonToken.VALUE_STRING) {
+            try {
+                return Integer.parseInt(p.getText().trim());
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+        if (t != null && t.isStructStart()) {
+            p.skipChildren();
+        }
+        return 0;
+    }
+
+    private static int indexOf(String[] names, String field) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(field)) return i;
+        }
+        return -1;
+    }
+}
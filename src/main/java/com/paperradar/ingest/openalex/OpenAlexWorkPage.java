@@ -0,0 +1,12 @@
+package com.paperradar.ingest.openalex;
+
+import com.paperradar.ingest.model.OpenAlexWork;
+import java.util.List;
+
+/**
+ * OpenAlex `/works` 응답 1페이지. (nextCursor가 비어있으면 마지막 페이지)
+ */
+public record OpenAlexWorkPage(
+        List<OpenAlexWork> works,
+        String nextCursor
+) {}
@@ -4,6 +4,7 @@ import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.ElasticsearchException;
 import co.elastic.clients.elasticsearch._types.Refresh;
 import co.elastic.clients.elasticsearch._types.SortOrder;
+import com.paperradar.ingest.model.IngestCheckpoint;
 import com.paperradar.ingest.model.IngestJob;
 import com.paperradar.ingest.model.IngestMode;
 import com.paperradar.ingest.model.IngestStatus;
@@ -11,10 +12,11 @@ import com.paperradar.infra.es.ElasticsearchErrorUtil;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,10 +33,9 @@ public class ElasticsearchIngestJobService implements IngestJobService {
     private final ElasticsearchClient client;
 
     @Override
-    public IngestJob start(IngestMode mode) {
-        String jobId = UUID.randomUUID().toString();
+    public IngestJob start(IngestMode mode, String jobId) {
         Instant now = Instant.now();
-        IngestJob job = new IngestJob(jobId, mode, IngestStatus.running, now, null, now, null, 0, 0, 0, null, null, null, null, null);
+        IngestJob job = new IngestJob(jobId, mode, IngestStatus.running, now, null, now, null, 0, 0, 0, 0, 0, null, null, null, null, null, false);
 
         try {
             client.index(i -> i.index(INDEX).id(jobId).document(toDoc(job)).refresh(Refresh.WaitFor));
@@ -183,6 +184,152 @@ public class ElasticsearchIngestJobService implements IngestJobService {
         }
     }
 
+    @Override
+    public Optional<IngestCheckpoint> claimResume(String jobId, String resumedByJobId) {
+        if (jobId == null || jobId.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            var response = client.get(g -> g.index(INDEX).id(jobId), Map.class);
+            if (!response.found() || response.source() == null || response.seqNo() == null || response.primaryTerm() == null) {
+                return Optional.empty();
+            }
+            Map<?, ?> src = response.source();
+            if (!isResumable(src)) {
+                return Optional.empty();
+            }
+            IngestCheckpoint cp = parseCheckpoint(src.get("checkpoint"));
+            long seqNo = response.seqNo();
+            long primaryTerm = response.primaryTerm();
+            client.update(u -> u
+                            .index(INDEX)
+                            .id(jobId)
+                            .ifSeqNo(seqNo)
+                            .ifPrimaryTerm(primaryTerm)
+                            .doc(Map.of("resumed_by_job_id", resumedByJobId))
+                            .refresh(Refresh.WaitFor),
+                    Map.class);
+            return Optional.ofNullable(cp);
+        } catch (ElasticsearchException e) {
+            if (ElasticsearchErrorUtil.isVersionConflict(e)) {
+                log.info("Ingest job {} was claimed by another resume request.", jobId);
+                return Optional.empty();
+            }
+            log.warn("Failed to claim ingest job for resume: {}", jobId, e);
+            return Optional.empty();
+        } catch (Exception e) {
+            log.warn("Failed to claim ingest job for resume: {}", jobId, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void releaseResumeClaim(String jobId, String resumedByJobId) {
+        if (jobId == null || jobId.isBlank() || resumedByJobId == null) {
+            return;
+        }
+        try {
+            var response = client.get(g -> g.index(INDEX).id(jobId), Map.class);
+            if (!response.found() || response.source() == null || response.seqNo() == null || response.primaryTerm() == null) {
+                return;
+            }
+            if (!resumedByJobId.equals(asString(response.source().get("resumed_by_job_id")))) {
+                return;
+            }
+            long seqNo = response.seqNo();
+            long primaryTerm = response.primaryTerm();
+            client.update(u -> u
+                            .index(INDEX)
+                            .id(jobId)
+                            .ifSeqNo(seqNo)
+                            .ifPrimaryTerm(primaryTerm)
+                            .doc(Map.of("resumed_by_job_id", ""))
+                            .refresh(Refresh.WaitFor),
+                    Map.class);
+        } catch (Exception e) {
+            log.warn("Failed to release resume claim on ingest job {} (resumedBy={}).", jobId, resumedByJobId, e);
+        }
+    }
+
+    @Override
+    public void saveProgress(String jobId, Map<String, Object> fields, IngestCheckpoint checkpoint) {
+        if (checkpoint == null) {
+            updateMeta(jobId, fields);
+            return;
+        }
+        Map<String, Object> doc = new LinkedHashMap<>(fields);
+        doc.put("checkpoint", checkpointToDoc(checkpoint));
+        updateMeta(jobId, doc);
+    }
+
+    /**
+     * 체크포인트를 job 문서에 저장할 형태로 변환합니다. (매핑은 enabled=false라 검색되지 않음)
+     */
+    private Map<String, Object> checkpointToDoc(IngestCheckpoint cp) {
+        Map<String, Object> doc = new LinkedHashMap<>();
+        doc.put("mode", cp.mode().name());
+        doc.put("from_publication_date", cp.fromPublicationDate() == null ? "" : cp.fromPublicationDate().toString());
+        doc.put("to_publication_date", cp.toPublicationDate() == null ? "" : cp.toPublicationDate().toString());
+        List<Map<String, Object>> sources = new ArrayList<>();
+        for (IngestCheckpoint.SourceCursor s : cp.sources()) {
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("type", s.type());
+            m.put("key", s.key());
+            if (s.fromPublicationDate() != null) {
+                m.put("from_publication_date", s.fromPublicationDate().toString());
+            }
+            if (s.toPublicationDate() != null) {
+                m.put("to_publication_date", s.toPublicationDate().toString());
+            }
+            m.put("cursor", s.cursor() == null ? "" : s.cursor());
+            m.put("done", s.done());
+            sources.add(m);
+        }
+        doc.put("sources", sources);
+        return doc;
+    }
+
+    private IngestCheckpoint parseCheckpoint(Object raw) {
+        if (!(raw instanceof Map<?, ?> m)) {
+            return null;
+        }
+        List<IngestCheckpoint.SourceCursor> sources = new ArrayList<>();
+        if (m.get("sources") instanceof List<?> list) {
+            for (Object o : list) {
+                if (!(o instanceof Map<?, ?> s)) continue;
+                String type = asString(s.get("type"));
+                String key = asString(s.get("key"));
+                if (type.isBlank() || key.isBlank()) continue;
+                String cursor = asString(s.get("cursor"));
+                sources.add(new IngestCheckpoint.SourceCursor(
+                        type,
+                        key,
+                        parseLocalDateOrNull(s.get("from_publication_date")),
+                        parseLocalDateOrNull(s.get("to_publication_date")),
+                        cursor.isBlank() ? null : cursor,
+                        Boolean.TRUE.equals(s.get("done")) || "true".equals(asString(s.get("done")))
+                ));
+            }
+        }
+        return new IngestCheckpoint(
+                parseMode(asString(m.get("mode"))),
+                parseLocalDateOrNull(m.get("from_publication_date")),
+                parseLocalDateOrNull(m.get("to_publication_date")),
+                sources
+        );
+    }
+
+    private boolean isResumable(Map<?, ?> src) {
+        if (parseStatus(asString(src.get("status"))) != IngestStatus.failed) {
+            return false;
+        }
+        if (!asString(src.get("resumed_by_job_id")).isBlank()) {
+            return false;
+        }
+        IngestCheckpoint cp = parseCheckpoint(src.get("checkpoint"));
+        return cp != null && cp.hasRemaining();
+    }
+
     private Map<String, Object> toDoc(IngestJob job) {
         Map<String, Object> doc = new java.util.LinkedHashMap<>();
         doc.put("job_id", job.jobId());
@@ -192,6 +339,8 @@ public class ElasticsearchIngestJobService implements IngestJobService {
         doc.put("processed_count", job.processedCount());
         doc.put("created_count", job.createdCount());
         doc.put("updated_count", job.updatedCount());
+        doc.put("deduplicated_count", job.deduplicatedCount());
+        doc.put("skipped_unchanged_count", job.skippedUnchangedCount());
         doc.put("error_summary", job.errorSummary() == null ? "" : job.errorSummary());
         doc.put("current_source", job.currentSource() == null ? "" : job.currentSource());
         doc.put("current_key", job.currentKey() == null ? "" : job.currentKey());
@@ -221,12 +370,14 @@ public class ElasticsearchIngestJobService implements IngestJobService {
         int processed = asInt(src.get("processed_count"));
         int created = asInt(src.get("created_count"));
         int updated = asInt(src.get("updated_count"));
+        int deduplicated = asInt(src.get("deduplicated_count"));
+        int skippedUnchanged = asInt(src.get("skipped_unchanged_count"));
         String err = asString(src.get("error_summary"));
         String currentSource = asString(src.get("current_source"));
         String currentKey = asString(src.get("current_key"));
         LocalDate fromPub = parseLocalDateOrNull(src.get("from_publication_date"));
         LocalDate toPub = parseLocalDateOrNull(src.get("to_publication_date"));
-        return new IngestJob(jobId, mode, status, startedAt, endedAt, lastHeartbeatAt, lastProgressAt, processed, created, updated, err, currentSource, currentKey, fromPub, toPub);
+        return new IngestJob(jobId, mode, status, startedAt, endedAt, lastHeartbeatAt, lastProgressAt, processed, created, updated, deduplicated, skippedUnchanged, err, currentSource, currentKey, fromPub, toPub, isResumable(src));
     }
 
     private String asString(Object v) {
@@ -1,32 +1,46 @@
 package com.paperradar.ingest.service;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
-import co.elastic.clients.elasticsearch._types.Result;
 import com.paperradar.admin.model.ActiveConfig;
 import com.paperradar.admin.service.ConfigService;
+import com.paperradar.ingest.model.IngestCheckpoint;
 import com.paperradar.ingest.model.IngestJob;
+import com.paperradar.ingest.model.IngestJobFinishedEvent;
 import com.paperradar.ingest.model.IngestMode;
+import com.paperradar.ingest.model.IngestResumeClaim;
+import com.paperradar.ingest.model.IngestSource;
 import com.paperradar.ingest.model.IngestStatus;
 import com.paperradar.ingest.model.OpenAlexWork;
+import com.paperradar.ingest.service.enrich.EnrichQueue;
 import com.paperradar.ingest.service.enrich.WorkLinkEnricher;
 import com.paperradar.ingest.openalex.OpenAlexClient;
-import com.paperradar.work.link.WorkLink;
-import com.paperradar.work.link.WorkLinkPolicy;
+import com.paperradar.ingest.openalex.OpenAlexWorkPage;
 import com.paperradar.util.KeywordNormalizeUtil;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -36,12 +50,16 @@ public class ElasticsearchIngestService implements IngestService {
     private static final Logger log = LoggerFactory.getLogger(ElasticsearchIngestService.class);
 
     private static final String WORKS_INDEX = "works";
+    private static final int MAX_TRUNCATED_SOURCES_IN_JOB = 20;
+    private static final long FETCH_WORKER_TERMINATION_SECONDS = 30;
 
     private final ElasticsearchClient esClient;
     private final OpenAlexClient openAlexClient;
     private final ConfigService configService;
     private final IngestJobService ingestJobService;
     private final WorkLinkEnricher workLinkEnricher;
+    private final EnrichQueue enrichQueue;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${INGEST_LOOKBACK_YEARS:3}")
     private int lookbackYears;
@@ -52,6 +70,36 @@ public class ElasticsearchIngestService implements IngestService {
     @Value("${APP_TIMEZONE:Asia/Seoul}")
     private String timezone;
 
+    @Value("${paperradar.ingest.bulk.max-docs:500}")
+    private int bulkMaxDocs;
+
+    @Value("${paperradar.ingest.bulk.max-bytes:5242880}")
+    private long bulkMaxBytes;
+
+    @Value("${paperradar.ingest.bulk.flush-interval-millis:5000}")
+    private long bulkFlushIntervalMillis;
+
+    @Value("${paperradar.ingest.bulk.skip-unchanged:true}")
+    private boolean bulkSkipUnchanged;
+
+    @Value("${paperradar.ingest.fetch.workers:4}")
+    private int fetchWorkers;
+
+    @Value("${paperradar.ingest.fetch.queue-capacity:8}")
+    private int fetchQueueCapacity;
+
+    @Value("${paperradar.enrich.crossref.enabled:false}")
+    private boolean crossrefEnabled;
+
+    @Value("${paperradar.enrich.crossref.mode:inline}")
+    private String enrichMode;
+
+    @Value("${paperradar.ingest.full.shard-by-date:true}")
+    private boolean shardByDate;
+
+    @Value("${paperradar.ingest.full.max-windows-per-source:64}")
+    private int maxWindowsPerSource;
+
     @Override
     public IngestJob run(IngestMode mode) {
         return run(mode, null, null);
@@ -68,15 +116,9 @@ public class ElasticsearchIngestService implements IngestService {
             ));
         }
 
-        int processed = 0;
-        int created = 0;
-        int updated = 0;
-        int fetchFailed = 0;
-        int upsertFailed = 0;
-        String errorSummary = null;
-
-        Instant lastProgressUpdateAt = Instant.EPOCH;
-
+        List<IngestSource> sources = new ArrayList<>();
+        LocalDate fromPub = fromPublicationDate;
+        LocalDate toPub = toPublicationDate;
         try {
             ActiveConfig cfg = configService.getActiveConfig();
             List<String> keywords = cfg.enabledKeywords().stream()
@@ -91,29 +133,10 @@ public class ElasticsearchIngestService implements IngestService {
                     .toList();
 
             if (keywords.isEmpty() && institutions.isEmpty()) {
-                errorSummary = "No enabled keywords/institutions. Configure at least one before running ingest.";
-                ingestJobService.markFinished(job.jobId(), IngestStatus.failed, 0, 0, 0, errorSummary);
-                return new IngestJob(
-                        job.jobId(),
-                        mode,
-                        IngestStatus.failed,
-                        job.startedAt(),
-                        Instant.now(),
-                        Instant.now(),
-                        null,
-                        0,
-                        0,
-                        0,
-                        errorSummary,
-                        null,
-                        null,
-                        fromPublicationDate,
-                        toPublicationDate
-                );
+                String errorSummary = "No enabled keywords/institutions. Configure at least one before running ingest.";
+                return failBeforeFetch(job, mode, errorSummary, fromPublicationDate, toPublicationDate);
             }
 
-            LocalDate fromPub = fromPublicationDate;
-            LocalDate toPub = toPublicationDate;
             if (mode == IngestMode.full) {
                 if (fromPub == null && toPub == null) {
                     fromPub = LocalDate.now(ZoneId.of(timezone)).minusYears(Math.max(1, lookbackYears));
@@ -123,221 +146,477 @@ public class ElasticsearchIngestService implements IngestService {
                         .minusDays(Math.max(1, incrementalLookbackDays));
             }
 
-            // NOTE: OpenAlex는 `from_updated_date` 필터에 API key를 요구하므로(v1 범위에서는 미사용)
-            LocalDate fromUpdatedDate = null;
+            keywords.forEach(kw -> sources.add(IngestSource.keyword(kw)));
+            institutions.forEach(instId -> sources.add(IngestSource.institution(instId)));
 
-            Set<String> seen = new LinkedHashSet<>();
-            for (String kw : keywords) {
-                ingestJobService.updateMeta(job.jobId(), Map.of(
-                        "current_source", "keyword",
-                        "current_key", kw,
-                        "last_heartbeat_at", Instant.now().toString()
-                ));
-                List<OpenAlexWork> works;
-                try {
-                    works = openAlexClient.fetchWorksByKeyword(kw, fromPub, toPub, fromUpdatedDate);
-                } catch (Exception e) {
-                    fetchFailed++;
-                    log.warn("Failed to fetch works by keyword: {}", kw, e);
-                    continue;
-                }
-                for (OpenAlexWork w : works) {
-                    processed++;
-                    UpsertResult r = upsertOpenAlexWork(workLinkEnricher.enrich(w));
-                    created += r.created;
-                    updated += r.updated;
-                    upsertFailed += r.failed;
-                    seen.add(w.id());
-
-                    Instant now = Instant.now();
-                    if (processed % 50 == 0 || Duration.between(lastProgressUpdateAt, now).toSeconds() >= 3) {
-                        lastProgressUpdateAt = now;
-                        ingestJobService.updateMeta(job.jobId(), Map.of(
-                                "processed_count", processed,
-                                "created_count", created,
-                                "updated_count", updated,
-                                "last_progress_at", now.toString(),
-                                "last_heartbeat_at", now.toString()
-                        ));
-                    }
+            if (mode == IngestMode.full && shardByDate) {
+                List<IngestSource> planned = planWindows(sources, fromPub, toPub);
+                if (planned.size() != sources.size()) {
+                    ingestJobService.updateMeta(job.jobId(), Map.of("planned_window_count", planned.size()));
                 }
+                sources.clear();
+                sources.addAll(planned);
             }
+        } catch (Exception e) {
+            log.error("Ingest job failed.", e);
+            return failBeforeFetch(job, mode, describe(e), fromPublicationDate, toPublicationDate);
+        }
 
-            for (String instId : institutions) {
-                ingestJobService.updateMeta(job.jobId(), Map.of(
-                        "current_source", "institution",
-                        "current_key", instId,
-                        "last_heartbeat_at", Instant.now().toString()
-                ));
-                List<OpenAlexWork> works;
+        return execute(job, mode, sources, Map.of(), fromPub, toPub);
+    }
+
+    @Override
+    public Optional<IngestResumeClaim> claimResume(String jobId) {
+        String newJobId = UUID.randomUUID().toString();
+        return ingestJobService.claimResume(jobId, newJobId)
+                .map(cp -> new IngestResumeClaim(jobId, newJobId, cp));
+    }
+
+    /**
+     * 실패한 job의 체크포인트에서 미완료 소스만 새 job으로 이어서 수집합니다. (소스별 마지막 확정 cursor부터)
+     */
+    @Override
+    public IngestJob resume(IngestResumeClaim claim) {
+        String jobId = claim.resumedFromJobId();
+        IngestCheckpoint cp = claim.checkpoint();
+        IngestJob job = ingestJobService.start(cp.mode(), claim.jobId());
+
+        Map<String, Object> meta = new LinkedHashMap<>();
+        meta.put("resumed_from_job_id", jobId);
+        if (cp.fromPublicationDate() != null) {
+            meta.put("from_publication_date", cp.fromPublicationDate().toString());
+        }
+        if (cp.toPublicationDate() != null) {
+            meta.put("to_publication_date", cp.toPublicationDate().toString());
+        }
+        ingestJobService.updateMeta(job.jobId(), meta);
+
+        List<IngestSource> sources = new ArrayList<>();
+        Map<IngestSource, String> startCursors = new HashMap<>();
+        for (IngestCheckpoint.SourceCursor sc : cp.sources()) {
+            if (sc.done()) continue;
+            sources.add(sc.source());
+            if (sc.cursor() != null) {
+                startCursors.put(sc.source(), sc.cursor());
+            }
+        }
+        log.info("Resuming ingest job {} as {} (sources={})", jobId, job.jobId(), sources.size());
+        return execute(job, cp.mode(), sources, startCursors, cp.fromPublicationDate(), cp.toPublicationDate());
+    }
+
+    /**
+     * 소스별 결과 수(`meta.count`)가 OpenAlex cursor 상한을 넘으면 publication_date 구간으로 나눕니다.
+     * <p>
+     * 나뉜 구간은 각각 별도 소스가 되어 fetch worker에서 병렬로 수집되고, 체크포인트에도 구간 단위로 남습니다.
+     * count 조회가 실패한 소스는 나누지 않고 그대로 수집합니다.
+     */
+    private List<IngestSource> planWindows(List<IngestSource> sources, LocalDate fromPub, LocalDate toPub)
+            throws InterruptedException {
+        long cap = openAlexClient.maxResultsPerQuery();
+        if (sources.isEmpty() || fromPub == null || cap == Long.MAX_VALUE) {
+            return sources;
+        }
+        LocalDate to = toPub != null ? toPub : LocalDate.now(ZoneId.of(timezone));
+        int workers = Math.min(Math.max(1, fetchWorkers), sources.size());
+        ExecutorService executor = Executors.newFixedThreadPool(workers, Thread.ofVirtual().name("ingest-plan-", 0).factory());
+        try {
+            List<Future<List<IngestSource>>> futures = new ArrayList<>(sources.size());
+            for (IngestSource source : sources) {
+                futures.add(executor.submit(() -> planSource(source, fromPub, to, cap)));
+            }
+            List<IngestSource> planned = new ArrayList<>();
+            for (int i = 0; i < sources.size(); i++) {
+                IngestSource source = sources.get(i);
                 try {
-                    works = openAlexClient.fetchWorksByInstitution(instId, fromPub, toPub, fromUpdatedDate);
-                } catch (Exception e) {
-                    fetchFailed++;
-                    log.warn("Failed to fetch works by institution: {}", instId, e);
-                    continue;
-                }
-                for (OpenAlexWork w : works) {
-                    processed++;
-                    UpsertResult r = upsertOpenAlexWork(workLinkEnricher.enrich(w));
-                    created += r.created;
-                    updated += r.updated;
-                    upsertFailed += r.failed;
-                    seen.add(w.id());
-
-                    Instant now = Instant.now();
-                    if (processed % 50 == 0 || Duration.between(lastProgressUpdateAt, now).toSeconds() >= 3) {
-                        lastProgressUpdateAt = now;
-                        ingestJobService.updateMeta(job.jobId(), Map.of(
-                                "processed_count", processed,
-                                "created_count", created,
-                                "updated_count", updated,
-                                "last_progress_at", now.toString(),
-                                "last_heartbeat_at", now.toString()
-                        ));
-                    }
+                    planned.addAll(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    log.warn("Failed to plan publication_date windows for {}: {}", source.type(), source.key(), e.getCause());
+                    planned.add(source);
                 }
             }
+            return planned;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<IngestSource> planSource(IngestSource source, LocalDate from, LocalDate to, long cap) {
+        IngestWindowPlanner.Plan plan = IngestWindowPlanner.plan(from, to, cap, maxWindowsPerSource, (f, t) -> countWorks(source, f, t));
+        if (!plan.oversized().isEmpty()) {
+            log.warn("{} {} still exceeds {} results in {} window(s); those windows will be truncated.",
+                    source.type(), source.key(), cap, plan.oversized().size());
+        }
+        if (!plan.split()) {
+            return List.of(source);
+        }
+        log.info("Split {} {} into {} publication_date windows.", source.type(), source.key(), plan.windows().size());
+        return plan.windows().stream()
+                .map(w -> source.withWindow(w.from(), w.to()))
+                .toList();
+    }
+
+    private long countWorks(IngestSource source, LocalDate from, LocalDate to) {
+        if (IngestSource.KEYWORD.equals(source.type())) {
+            return openAlexClient.countWorksByKeyword(source.key(), from, to, null);
+        }
+        return openAlexClient.countWorksByInstitution(source.key(), from, to, null);
+    }
+
+    private IngestJob execute(
+            IngestJob job,
+            IngestMode mode,
+            List<IngestSource> sources,
+            Map<IngestSource, String> startCursors,
+            LocalDate fromPub,
+            LocalDate toPub
+    ) {
+        String errorSummary;
+
+        Map<String, EnrichQueue.Task> deferredLinks = new HashMap<>();
+        WorksBulkWriter writer = new WorksBulkWriter(
+                esClient,
+                WORKS_INDEX,
+                bulkMaxDocs,
+                bulkMaxBytes,
+                Duration.ofMillis(bulkFlushIntervalMillis),
+                bulkSkipUnchanged,
+                written -> enqueueDeferredLinks(deferredLinks, written)
+        );
+        IngestCheckpointTracker checkpoint = new IngestCheckpointTracker(mode, fromPub, toPub);
+        sources.forEach(source -> checkpoint.register(source, startCursors.get(source)));
+        RunProgress progress = new RunProgress(job.jobId(), writer, checkpoint, deferredLinks);
+
+        IngestJob finished;
+        try {
+            // NOTE: OpenAlex는 `from_updated_date` 필터에 API key를 요구하므로(v1 범위에서는 미사용)
+            LocalDate fromUpdatedDate = null;
+
+            fetchAndIndex(progress, sources, startCursors, fromPub, toPub, fromUpdatedDate);
+
+            writer.flush();
+            int processed = progress.processed;
+            int fetchFailed = progress.fetchFailed;
+            int created = writer.created();
+            int updated = writer.updated();
+            int upsertFailed = writer.failed();
+            int deduplicated = progress.dedup.duplicates();
+            int skippedUnchanged = writer.skippedUnchanged();
+            int truncated = progress.truncated.size();
 
             IngestStatus status = IngestStatus.success;
             if (processed == 0 && fetchFailed > 0) {
                 status = IngestStatus.failed;
                 errorSummary = "OpenAlex fetch failed for all configured sources (failed=%d). See logs for details."
                         .formatted(fetchFailed);
-            } else if (processed > 0 && (created + updated) == 0 && upsertFailed > 0) {
+            } else if (processed > 0 && (created + updated + skippedUnchanged) == 0 && upsertFailed > 0) {
                 status = IngestStatus.failed;
                 errorSummary = "Elasticsearch upsert failed for all fetched works (failed=%d). Check ES connectivity/mapping."
                         .formatted(upsertFailed);
-            } else if (fetchFailed > 0 || upsertFailed > 0) {
-                errorSummary = "Partial issues: fetchFailed=%d, upsertFailed=%d".formatted(fetchFailed, upsertFailed);
+            } else if (fetchFailed > 0 || upsertFailed > 0 || truncated > 0) {
+                errorSummary = "Partial issues: fetchFailed=%d, upsertFailed=%d, truncated=%d"
+                        .formatted(fetchFailed, upsertFailed, truncated);
             } else {
                 errorSummary = "";
             }
 
+            reportProgress(progress, true);
             ingestJobService.markFinished(job.jobId(), status, processed, created, updated, errorSummary);
-            return new IngestJob(job.jobId(), mode, status, job.startedAt(), Instant.now(), null, null, processed, created, updated, errorSummary, null, null, fromPub, toPub);
+            finished = new IngestJob(job.jobId(), mode, status, job.startedAt(), Instant.now(), null, null, processed, created, updated, deduplicated, skippedUnchanged, errorSummary, null, null, fromPub, toPub, false);
         } catch (Exception e) {
             log.error("Ingest job failed.", e);
-            errorSummary = e.getClass().getSimpleName() + ": " + (e.getMessage() == null ? "" : e.getMessage());
+            writer.flush();
+            int processed = progress.processed;
+            int created = writer.created();
+            int updated = writer.updated();
+            int deduplicated = progress.dedup.duplicates();
+            int skippedUnchanged = writer.skippedUnchanged();
+            errorSummary = describe(e);
+            reportProgress(progress, true);
             ingestJobService.markFinished(job.jobId(), IngestStatus.failed, processed, created, updated, errorSummary);
-            return new IngestJob(job.jobId(), mode, IngestStatus.failed, job.startedAt(), Instant.now(), null, null, processed, created, updated, errorSummary, null, null, fromPublicationDate, toPublicationDate);
+            finished = new IngestJob(job.jobId(), mode, IngestStatus.failed, job.startedAt(), Instant.now(), null, null, processed, created, updated, deduplicated, skippedUnchanged, errorSummary, null, null, fromPub, toPub, false);
+        }
+        // 구독자 예외가 끝난 job을 failed로 바꾸거나 이벤트를 두 번 보내지 않도록 try 밖에서 한 번만 발행
+        try {
+            eventPublisher.publishEvent(new IngestJobFinishedEvent(
+                    job.jobId(), mode, finished.status(), finished.createdCount(), finished.updatedCount(), job.startedAt()));
+        } catch (Exception e) {
+            log.warn("Ingest job finished listener failed (jobId={}).", job.jobId(), e);
         }
+        return finished;
     }
 
-    private record UpsertResult(int created, int updated, int failed) {}
+    private IngestJob failBeforeFetch(IngestJob job, IngestMode mode, String errorSummary, LocalDate fromPub, LocalDate toPub) {
+        ingestJobService.markFinished(job.jobId(), IngestStatus.failed, 0, 0, 0, errorSummary);
+        return new IngestJob(
+                job.jobId(),
+                mode,
+                IngestStatus.failed,
+                job.startedAt(),
+                Instant.now(),
+                Instant.now(),
+                null,
+                0,
+                0,
+                0,
+                0,
+                0,
+                errorSummary,
+                null,
+                null,
+                fromPub,
+                toPub,
+                false
+        );
+    }
 
-    private UpsertResult upsertOpenAlexWork(OpenAlexWork w) {
-        if (w == null || w.id() == null || w.id().isBlank()) {
-            return new UpsertResult(0, 0, 0);
-        }
+    private String describe(Exception e) {
+        return e.getClass().getSimpleName() + ": " + (e.getMessage() == null ? "" : e.getMessage());
+    }
 
-        String sourceWorkId = w.id();
-        String docId = "openalex:" + normalizeOpenAlexId(sourceWorkId);
-
-        Map<String, Object> doc = new LinkedHashMap<>();
-        doc.put("source", "openalex");
-        doc.put("source_work_id", sourceWorkId);
-        doc.put("title", w.title());
-        doc.put("abstract", w.abstractText());
-        LocalDate publicationDate = sanitizePublicationDate(w.publicationDate());
-        if (publicationDate != null) {
-            doc.put("publication_date", publicationDate.toString());
+    /**
+     * 소스별 fetch를 worker 풀에서 병렬로 실행하고, 받은 페이지는 bounded queue를 거쳐 현재(job) 스레드에서 색인합니다.
+     * <p>
+     * worker는 OpenAlex 호출(공유 레이트 리미터 적용), job 내 중복 제거, 링크 보강까지 담당하고,
+     * 색인 단계는 단일 스레드라 {@link WorksBulkWriter}를 그대로 사용할 수 있습니다.
+     */
+    private void fetchAndIndex(
+            RunProgress progress,
+            List<IngestSource> sources,
+            Map<IngestSource, String> startCursors,
+            LocalDate fromPub,
+            LocalDate toPub,
+            LocalDate fromUpdatedDate
+    ) throws InterruptedException {
+        if (sources.isEmpty()) {
+            return;
         }
-        doc.put("cited_by_count", w.citedByCount());
-        doc.put("keywords", normalizeKeywordList(w.keywords()));
-        doc.put("keyword_candidates", normalizeKeywordList(w.keywords()));
-        doc.put("authors", toAuthors(w.authors()));
-        doc.put("institutions", toInstitutions(w.institutions()));
-
-        if (w.doi() != null && !w.doi().isBlank()) {
-            doc.put("doi", w.doi().trim());
+        int workers = Math.min(Math.max(1, fetchWorkers), sources.size());
+        BlockingQueue<FetchEvent> queue = new ArrayBlockingQueue<>(Math.max(1, fetchQueueCapacity));
+        ExecutorService executor = Executors.newFixedThreadPool(workers, Thread.ofVirtual().name("ingest-fetch-", 0).factory());
+        try {
+            for (IngestSource source : sources) {
+                String startCursor = startCursors.get(source);
+                executor.submit(() -> fetchSource(queue, progress.dedup, source, startCursor, fromPub, toPub, fromUpdatedDate));
+            }
+
+            long pollMillis = Math.max(200L, Math.min(bulkFlushIntervalMillis, 3_000L));
+            int remaining = sources.size();
+            IngestSource current = null;
+            Map<IngestSource, String> lastCursors = new HashMap<>();
+            while (remaining > 0) {
+                FetchEvent ev = queue.poll(pollMillis, TimeUnit.MILLISECONDS);
+                if (ev == null) {
+                    progress.writer.flushIfDue();
+                    reportProgress(progress, false);
+                    continue;
+                }
+                if (ev.done()) {
+                    remaining--;
+                    progress.checkpoint.sourceFinished(ev.source(), ev.error() == null);
+                    if (ev.error() != null) {
+                        progress.fetchFailed++;
+                        log.warn("Failed to fetch works by {}: {}", ev.source().type(), ev.source().label(), ev.error());
+                    } else if (lastCursors.get(ev.source()) != null && !lastCursors.get(ev.source()).isBlank()) {
+                        // 정상 종료인데 next_cursor가 남아 있으면 페이지 상한에서 잘린 것
+                        progress.truncated.add(ev.source());
+                    }
+                    continue;
+                }
+                if (!ev.source().equals(current)) {
+                    current = ev.source();
+                    markCurrentSource(progress.jobId, current);
+                }
+                indexPage(progress, ev.page());
+                if (ev.page() != null) {
+                    lastCursors.put(ev.source(), ev.page().nextCursor());
+                    progress.checkpoint.pageIndexed(ev.source(), ev.page().nextCursor(), progress.writer.added());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+            // 보강 중이거나 queue에 넣으려던 worker가 job 종료 뒤까지 남지 않게 기다림
+            try {
+                if (!executor.awaitTermination(FETCH_WORKER_TERMINATION_SECONDS, TimeUnit.SECONDS)) {
+                    log.warn("Ingest fetch workers did not stop within {}s.", FETCH_WORKER_TERMINATION_SECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            progress.writer.flush();
         }
-        if (w.landingPageUrl() != null && !w.landingPageUrl().isBlank()) {
-            doc.put("landing_page_url", w.landingPageUrl().trim());
+    }
+
+    private void fetchSource(
+            BlockingQueue<FetchEvent> queue,
+            WorkIdDedupSet dedup,
+            IngestSource source,
+            String startCursor,
+            LocalDate fromPub,
+            LocalDate toPub,
+            LocalDate fromUpdatedDate
+    ) {
+        Consumer<OpenAlexWorkPage> onPage = page -> put(queue, FetchEvent.page(source, dedupAndEnrich(dedup, page)));
+        LocalDate from = source.windowed() ? source.fromPublicationDate() : fromPub;
+        LocalDate to = source.windowed() ? source.toPublicationDate() : toPub;
+        try {
+            if (IngestSource.KEYWORD.equals(source.type())) {
+                openAlexClient.streamWorksByKeyword(source.key(), from, to, fromUpdatedDate, startCursor, onPage);
+            } else {
+                openAlexClient.streamWorksByInstitution(source.key(), from, to, fromUpdatedDate, startCursor, onPage);
+            }
+            put(queue, FetchEvent.done(source, null));
+        } catch (CancellationException e) {
+            // job 스레드가 종료되어 더 이상 소비하지 않음
+        } catch (Throwable e) {
+            // Error도 done으로 알려야 job 스레드가 남은 소스를 끝없이 기다리지 않음
+            put(queue, FetchEvent.done(source, e));
         }
-        if (w.pdfUrl() != null && !w.pdfUrl().isBlank()) {
-            doc.put("pdf_url", w.pdfUrl().trim());
+    }
+
+    /**
+     * 같은 job에서 이미 다른 소스(또는 이전 페이지)로 받은 work는 보강/색인 전에 건너뜁니다.
+     */
+    private OpenAlexWorkPage dedupAndEnrich(WorkIdDedupSet dedup, OpenAlexWorkPage page) {
+        if (page == null || page.works() == null || page.works().isEmpty()) {
+            return page;
         }
-        if (w.openAccessUrl() != null && !w.openAccessUrl().isBlank()) {
-            doc.put("open_access_oa_url", w.openAccessUrl().trim());
+        List<OpenAlexWork> fresh = new ArrayList<>(page.works().size());
+        for (OpenAlexWork w : page.works()) {
+            if (w == null || !dedup.add(w.id())) {
+                continue;
+            }
+            fresh.add(w);
         }
+        return new OpenAlexWorkPage(deferEnrichment() ? fresh : workLinkEnricher.enrichAll(fresh), page.nextCursor());
+    }
 
-        WorkLink best = WorkLinkPolicy.pickBestLink(
-                w.doi(),
-                w.landingPageUrl(),
-                w.pdfUrl(),
-                w.openAccessUrl()
-        );
-        if (best != null) {
-            doc.put("best_link_url", best.url());
-            doc.put("best_link_type", best.type().name());
+    /**
+     * deferred 모드면 수집 중에는 보강하지 않고, 색인한 work 중 링크가 비어 있는 것만 enrich_queue에 남깁니다.
+     */
+    private boolean deferEnrichment() {
+        return crossrefEnabled && "deferred".equalsIgnoreCase(enrichMode);
+    }
+
+    private void put(BlockingQueue<FetchEvent> queue, FetchEvent ev) {
+        try {
+            queue.put(ev);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Ingest fetch worker interrupted.");
         }
+    }
 
-        doc.put("updated_at", Instant.now().toString());
+    private record FetchEvent(IngestSource source, OpenAlexWorkPage page, boolean done, Throwable error) {
+        static FetchEvent page(IngestSource source, OpenAlexWorkPage page) {
+            return new FetchEvent(source, page, false, null);
+        }
 
-        try {
-            var res = esClient.index(i -> i.index(WORKS_INDEX).id(docId).document(doc));
-            if (res.result() == Result.Created) {
-                return new UpsertResult(1, 0, 0);
-            }
-            return new UpsertResult(0, 1, 0);
-        } catch (Exception e) {
-            log.warn("Failed to upsert work {}", docId, e);
-            return new UpsertResult(0, 0, 1);
+        static FetchEvent done(IngestSource source, Throwable error) {
+            return new FetchEvent(source, null, true, error);
         }
     }
 
-    private String normalizeOpenAlexId(String raw) {
-        String s = raw.trim();
-        if (s.startsWith("https://openalex.org/")) {
-            return s.substring("https://openalex.org/".length());
+    private void markCurrentSource(String jobId, IngestSource source) {
+        ingestJobService.updateMeta(jobId, Map.of(
+                "current_source", source.type(),
+                "current_key", source.label(),
+                "last_heartbeat_at", Instant.now().toString()
+        ));
+    }
+
+    /**
+     * 한 페이지(보강 완료)를 bulk 버퍼에 넣고, 일정 간격으로 job 진행 상황을 기록합니다.
+     * 링크 보강을 미루는 works는 실제로 색인된 뒤에만 대기열에 넣습니다. ({@link #enqueueDeferredLinks})
+     */
+    private void indexPage(RunProgress progress, OpenAlexWorkPage page) {
+        if (page == null || page.works() == null) {
+            return;
+        }
+        for (OpenAlexWork w : page.works()) {
+            progress.processed++;
+            String docId = WorkDocumentBuilder.docId(w);
+            // add 도중 flush될 수 있으므로 먼저 등록
+            if (deferEnrichment() && docId != null && WorkLinkEnricher.needsLinks(w)) {
+                progress.deferredLinks.put(docId, new EnrichQueue.Task(
+                        docId,
+                        w.doi().trim(),
+                        w.landingPageUrl(),
+                        w.pdfUrl(),
+                        w.openAccessUrl(),
+                        0
+                ));
+            }
+            addToBulk(progress.writer, w);
+            reportProgress(progress, progress.processed % 50 == 0);
         }
-        return s;
     }
 
-    private LocalDate sanitizePublicationDate(LocalDate date) {
-        if (date == null) {
-            return null;
+    /**
+     * flush로 색인된 works 중 보강 대기 중인 것만 대기열에 넣습니다. 내용이 같아 건너뛴 문서는 이미 이전 수집에서 처리됐으므로 넣지 않습니다.
+     * flush 후에는 버퍼가 비므로 남은 대기 항목(건너뜀/실패)은 버립니다.
+     */
+    private void enqueueDeferredLinks(Map<String, EnrichQueue.Task> deferredLinks, List<String> written) {
+        if (deferredLinks.isEmpty()) {
+            return;
+        }
+        List<EnrichQueue.Task> tasks = new ArrayList<>();
+        for (String id : written) {
+            EnrichQueue.Task t = deferredLinks.get(id);
+            if (t != null) {
+                tasks.add(t);
+            }
         }
-        LocalDate today = LocalDate.now(ZoneId.of(timezone));
-        return date.isAfter(today) ? null : date;
+        deferredLinks.clear();
+        enrichQueue.enqueue(tasks);
     }
 
-    private List<String> normalizeKeywordList(List<String> keywords) {
-        if (keywords == null) return List.of();
-        return keywords.stream()
-                .map(KeywordNormalizeUtil::normalize)
-                .filter(s -> !s.isBlank())
-                .distinct()
-                .toList();
+    private void reportProgress(RunProgress progress, boolean force) {
+        Instant now = Instant.now();
+        if (!force && Duration.between(progress.lastProgressUpdateAt, now).toSeconds() < 3) {
+            return;
+        }
+        progress.lastProgressUpdateAt = now;
+        progress.checkpoint.commit(progress.writer.flushedThrough());
+        ingestJobService.saveProgress(progress.jobId, Map.of(
+                "processed_count", progress.processed,
+                "created_count", progress.writer.created(),
+                "updated_count", progress.writer.updated(),
+                "deduplicated_count", progress.dedup.duplicates(),
+                "skipped_unchanged_count", progress.writer.skippedUnchanged(),
+                "truncated_source_count", progress.truncated.size(),
+                "truncated_sources", progress.truncated.stream()
+                        .limit(MAX_TRUNCATED_SOURCES_IN_JOB)
+                        .map(source -> source.type() + ":" + source.label())
+                        .toList(),
+                "last_progress_at", now.toString(),
+                "last_heartbeat_at", now.toString()
+        ), progress.checkpoint.snapshot());
     }
 
-    private List<Map<String, Object>> toAuthors(List<OpenAlexWork.AuthorRef> authors) {
-        if (authors == null) return List.of();
-        List<Map<String, Object>> out = new ArrayList<>();
-        for (OpenAlexWork.AuthorRef a : authors) {
-            if (a == null || a.name() == null || a.name().isBlank()) continue;
-            Map<String, Object> m = new LinkedHashMap<>();
-            m.put("id", a.id() == null ? "" : a.id());
-            m.put("name", a.name());
-            out.add(m);
+    private static final class RunProgress {
+        private final String jobId;
+        private final WorksBulkWriter writer;
+        private final IngestCheckpointTracker checkpoint;
+        private final Map<String, EnrichQueue.Task> deferredLinks;
+        private final WorkIdDedupSet dedup = new WorkIdDedupSet();
+        private final List<IngestSource> truncated = new ArrayList<>();
+        private int processed = 0;
+        private int fetchFailed = 0;
+        private Instant lastProgressUpdateAt = Instant.EPOCH;
+
+        private RunProgress(String jobId, WorksBulkWriter writer, IngestCheckpointTracker checkpoint, Map<String, EnrichQueue.Task> deferredLinks) {
+            this.jobId = jobId;
+            this.writer = writer;
+            this.checkpoint = checkpoint;
+            this.deferredLinks = deferredLinks;
         }
-        return out;
     }
 
-    private List<Map<String, Object>> toInstitutions(List<OpenAlexWork.InstitutionRef> institutions) {
-        if (institutions == null) return List.of();
-        List<Map<String, Object>> out = new ArrayList<>();
-        for (OpenAlexWork.InstitutionRef inst : institutions) {
-            if (inst == null) continue;
-            String id = inst.id() == null ? "" : normalizeOpenAlexId(inst.id().trim());
-            String name = inst.name() == null ? "" : inst.name().trim();
-            if (id.isBlank() && name.isBlank()) continue;
-            Map<String, Object> m = new LinkedHashMap<>();
-            m.put("id", id);
-            m.put("name", name);
-            out.add(m);
+    private void addToBulk(WorksBulkWriter writer, OpenAlexWork w) {
+        String docId = WorkDocumentBuilder.docId(w);
+        if (docId == null) {
+            return;
         }
-        return out;
+        writer.add(docId, WorkDocumentBuilder.build(w, LocalDate.now(ZoneId.of(timezone)), Instant.now()));
     }
 }
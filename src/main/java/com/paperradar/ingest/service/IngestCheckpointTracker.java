@@ -0,0 +1,93 @@
+package com.paperradar.ingest.service;
+
+import com.paperradar.ingest.model.IngestCheckpoint;
+import com.paperradar.ingest.model.IngestCheckpoint.SourceCursor;
+import com.paperradar.ingest.model.IngestMode;
+import com.paperradar.ingest.model.IngestSource;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 소스별 OpenAlex cursor 진행 상황을 추적합니다. (수집 job 스레드 전용)
+ * <p>
+ * 페이지를 bulk 버퍼에 넣은 시점이 아니라, 그 페이지 문서까지 flush된 뒤에만 cursor를 확정합니다.
+ * 그래야 재시작 후 이어서 실행해도 버퍼에 있다가 사라진 문서가 빠지지 않습니다.
+ */
+final class IngestCheckpointTracker {
+
+    private final IngestMode mode;
+    private final LocalDate fromPublicationDate;
+    private final LocalDate toPublicationDate;
+    private final Map<IngestSource, SourceState> states = new LinkedHashMap<>();
+
+    IngestCheckpointTracker(IngestMode mode, LocalDate fromPublicationDate, LocalDate toPublicationDate) {
+        this.mode = mode;
+        this.fromPublicationDate = fromPublicationDate;
+        this.toPublicationDate = toPublicationDate;
+    }
+
+    void register(IngestSource source, String startCursor) {
+        states.computeIfAbsent(source, s -> new SourceState()).committedCursor = blankToNull(startCursor);
+    }
+
+    /**
+     * @param addedMark 이 페이지까지 writer에 추가된 누적 문서 수
+     */
+    void pageIndexed(IngestSource source, String nextCursor, long addedMark) {
+        SourceState st = states.computeIfAbsent(source, s -> new SourceState());
+        st.pending.addLast(new PendingCursor(blankToNull(nextCursor), addedMark));
+    }
+
+    void sourceFinished(IngestSource source, boolean succeeded) {
+        SourceState st = states.computeIfAbsent(source, s -> new SourceState());
+        st.fetchSucceeded = succeeded;
+    }
+
+    /**
+     * writer가 flushedMark까지 flush했으면 그 이전 페이지들의 cursor를 확정합니다.
+     */
+    void commit(long flushedMark) {
+        for (SourceState st : states.values()) {
+            while (!st.pending.isEmpty() && st.pending.peekFirst().addedMark() <= flushedMark) {
+                PendingCursor p = st.pending.pollFirst();
+                if (p.cursor() != null) {
+                    st.committedCursor = p.cursor();
+                }
+            }
+            if (st.fetchSucceeded && st.pending.isEmpty()) {
+                st.done = true;
+            }
+        }
+    }
+
+    IngestCheckpoint snapshot() {
+        List<SourceCursor> sources = new ArrayList<>(states.size());
+        states.forEach((source, st) -> sources.add(new SourceCursor(
+                source.type(),
+                source.key(),
+                source.fromPublicationDate(),
+                source.toPublicationDate(),
+                st.committedCursor,
+                st.done
+        )));
+        return new IngestCheckpoint(mode, fromPublicationDate, toPublicationDate, sources);
+    }
+
+    private static String blankToNull(String s) {
+        return s == null || s.isBlank() ? null : s;
+    }
+
+    private static final class SourceState {
+        private final Deque<PendingCursor> pending = new ArrayDeque<>();
+        private String committedCursor;
+        private boolean fetchSucceeded = false;
+        private boolean done = false;
+    }
+
+    private record PendingCursor(String cursor, long addedMark) {}
+}
@@ -1,5 +1,6 @@
 package com.paperradar.ingest.service;
 
+import com.paperradar.ingest.model.IngestCheckpoint;
 import com.paperradar.ingest.model.IngestJob;
 import com.paperradar.ingest.model.IngestMode;
 import com.paperradar.ingest.model.IngestStatus;
@@ -7,9 +8,17 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 public interface IngestJobService {
-    IngestJob start(IngestMode mode);
+    default IngestJob start(IngestMode mode) {
+        return start(mode, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 미리 정한 id로 job을 시작합니다. (이어받기처럼 job 문서를 만들기 전에 id를 다른 문서에 기록해야 할 때)
+     */
+    IngestJob start(IngestMode mode, String jobId);
 
     void markFinished(
             String jobId,
@@ -35,4 +44,25 @@ public interface IngestJobService {
      * 실행 파라미터 등 부가 정보를 job 문서에 기록합니다. (구현체가 ES일 때만 동작, 그 외에는 no-op)
      */
     default void updateMeta(String jobId, Map<String, Object> fields) {}
+
+    /**
+     * 진행 상황과 체크포인트를 함께 기록합니다. 기본 구현은 체크포인트를 저장하지 않습니다.
+     */
+    default void saveProgress(String jobId, Map<String, Object> fields, IngestCheckpoint checkpoint) {
+        updateMeta(jobId, fields);
+    }
+
+    /**
+     * 이어서 실행할 수 있는 job(실패로 끝났고 미완료 소스가 남아 있음)에 `resumed_by_job_id`를 기록하고 체크포인트를 돌려줍니다.
+     * 읽은 버전 그대로일 때만 기록하므로 같은 job을 동시에 이어받으려 하면 하나만 성공합니다.
+     */
+    default Optional<IngestCheckpoint> claimResume(String jobId, String resumedByJobId) {
+        return Optional.empty();
+    }
+
+    /**
+     * {@link #claimResume}로 선점했지만 시작하지 못한 경우 선점을 되돌립니다.
+     * 그 사이 문서가 바뀌지 않았고 아직 resumedByJobId가 기록되어 있을 때만 지웁니다.
+     */
+    default void releaseResumeClaim(String jobId, String resumedByJobId) {}
 }
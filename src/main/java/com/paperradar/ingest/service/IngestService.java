@@ -2,7 +2,9 @@ package com.paperradar.ingest.service;
 
 import com.paperradar.ingest.model.IngestJob;
 import com.paperradar.ingest.model.IngestMode;
+import com.paperradar.ingest.model.IngestResumeClaim;
 import java.time.LocalDate;
+import java.util.Optional;
 
 public interface IngestService {
     IngestJob run(IngestMode mode);
@@ -10,4 +12,16 @@ public interface IngestService {
     default IngestJob run(IngestMode mode, LocalDate fromPublicationDate, LocalDate toPublicationDate) {
         return run(mode);
     }
+
+    /**
+     * 실패한 job을 이어받을 새 job id를 선점합니다. 동시에 요청해도 하나만 성공합니다.
+     *
+     * @return 이어서 실행할 수 없거나 다른 요청이 먼저 선점했으면 empty
+     */
+    Optional<IngestResumeClaim> claimResume(String jobId);
+
+    /**
+     * 선점한 job을 저장된 체크포인트(소스별 OpenAlex cursor)부터 이어서 실행합니다.
+     */
+    IngestJob resume(IngestResumeClaim claim);
 }
@@ -0,0 +1,80 @@
+package com.paperradar.ingest.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * publication_date 구간을 OpenAlex cursor 상한(maxResultsPerQuery) 이하가 되도록 반으로 나눕니다.
+ * <p>
+ * 하루짜리 구간도 상한을 넘거나 구간 수가 maxWindows에 닿으면 더 나누지 않고 잘림(oversized)으로 표시합니다.
+ */
+final class IngestWindowPlanner {
+
+    @FunctionalInterface
+    interface WorkCounter {
+        /**
+         * @return 구간 내 work 수 (알 수 없으면 음수)
+         */
+        long count(LocalDate from, LocalDate to);
+    }
+
+    record Window(LocalDate from, LocalDate to, long count) {}
+
+    /**
+     * @param windows count가 0인 구간은 제외된 fetch 대상 (from 오름차순)
+     * @param split 원래 구간을 나눴는지 여부
+     * @param oversized 상한을 넘는데 더 나눌 수 없었던 구간
+     */
+    record Plan(List<Window> windows, boolean split, List<Window> oversized) {}
+
+    private IngestWindowPlanner() {}
+
+    static Plan plan(LocalDate from, LocalDate to, long cap, int maxWindows, WorkCounter counter) {
+        long total = counter.count(from, to);
+        Window whole = new Window(from, to, total);
+        if (total < 0 || total <= cap || from == null || to == null || !from.isBefore(to)) {
+            List<Window> oversized = total > cap ? List.of(whole) : List.of();
+            return new Plan(total == 0 ? List.of() : List.of(whole), false, oversized);
+        }
+
+        List<Window> done = new ArrayList<>();
+        List<Window> oversized = new ArrayList<>();
+        Deque<Window> queue = new ArrayDeque<>();
+        queue.add(whole);
+        int limit = Math.max(2, maxWindows);
+
+        while (!queue.isEmpty()) {
+            Window w = queue.pollFirst();
+            if (w.count() < 0) {
+                // count 조회 실패: 나누지 않고 그대로 fetch
+                done.add(w);
+                continue;
+            }
+            boolean fits = w.count() <= cap;
+            boolean splittable = w.from().isBefore(w.to()) && done.size() + queue.size() + 2 <= limit;
+            if (fits || !splittable) {
+                if (w.count() != 0) {
+                    done.add(w);
+                }
+                if (!fits) {
+                    oversized.add(w);
+                }
+                continue;
+            }
+            long days = ChronoUnit.DAYS.between(w.from(), w.to());
+            LocalDate mid = w.from().plusDays(days / 2);
+            LocalDate rightFrom = mid.plusDays(1);
+            queue.addLast(new Window(w.from(), mid, counter.count(w.from(), mid)));
+            queue.addLast(new Window(rightFrom, w.to(), counter.count(rightFrom, w.to())));
+        }
+
+        done.sort(Comparator.comparing(Window::from));
+        oversized.sort(Comparator.comparing(Window::from));
+        return new Plan(done, true, oversized);
+    }
+}
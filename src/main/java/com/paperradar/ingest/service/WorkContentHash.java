@@ -0,0 +1,96 @@
+package com.paperradar.ingest.service;
+
+import com.paperradar.work.model.WorkDocument;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+
+/**
+ * works 문서의 내용 지문(SHA-256)을 계산합니다. 시각 필드(created_at/updated_at)와 content_hash 자신은 제외합니다.
+ */
+final class WorkContentHash {
+
+    static final String FIELD = "content_hash";
+
+    private WorkContentHash() {}
+
+    /**
+     * 필드를 키 이름순으로 쓰고, 선택 필드는 값이 있을 때만 포함합니다. (예전 Map 문서로 색인할 때와 같은 형식)
+     * 저장된 content_hash와 비교하므로 형식을 바꾸면 기존 문서가 모두 다시 색인됩니다.
+     */
+    static String of(WorkDocument doc) {
+        StringBuilder sb = new StringBuilder(512);
+        sb.append('{');
+        entry(sb, "abstract", doc.abstractText());
+        entry(sb, "authors", doc.authors());
+        optionalEntry(sb, "best_link_type", doc.bestLinkType());
+        optionalEntry(sb, "best_link_url", doc.bestLinkUrl());
+        entry(sb, "cited_by_count", doc.citedByCount());
+        optionalEntry(sb, "doi", doc.doi());
+        entry(sb, "institutions", doc.institutions());
+        entry(sb, "keyword_candidates", doc.keywordCandidates());
+        entry(sb, "keywords", doc.keywords());
+        optionalEntry(sb, "landing_page_url", doc.landingPageUrl());
+        optionalEntry(sb, "open_access_oa_url", doc.openAccessOaUrl());
+        optionalEntry(sb, "pdf_url", doc.pdfUrl());
+        optionalEntry(sb, "publication_date", doc.publicationDate());
+        entry(sb, "source", doc.source());
+        entry(sb, "source_work_id", doc.sourceWorkId());
+        entry(sb, "title", doc.title());
+        sb.append('}');
+        return sha256(sb);
+    }
+
+    private static String sha256(StringBuilder sb) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(sb.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available.", e);
+        }
+    }
+
+    private static void entry(StringBuilder sb, String key, Object value) {
+        append(sb, key);
+        sb.append('=');
+        append(sb, value);
+        sb.append(';');
+    }
+
+    private static void optionalEntry(StringBuilder sb, String key, Object value) {
+        if (value != null) {
+            entry(sb, key, value);
+        }
+    }
+
+    private static void append(StringBuilder sb, Object value) {
+        if (value == null) {
+            sb.append('n');
+        } else if (value instanceof WorkDocument.Author a) {
+            // name_suggest는 name에서 만든 값이라 제외 (넣으면 예전 문서가 모두 변경으로 잡힘)
+            sb.append('{');
+            entry(sb, "id", a.id());
+            entry(sb, "name", a.name());
+            sb.append('}');
+        } else if (value instanceof WorkDocument.Institution inst) {
+            sb.append('{');
+            entry(sb, "id", inst.id());
+            entry(sb, "name", inst.name());
+            sb.append('}');
+        } else if (value instanceof Collection<?> c) {
+            sb.append('[');
+            for (Object o : c) {
+                append(sb, o);
+                sb.append(',');
+            }
+            sb.append(']');
+        } else if (value instanceof CharSequence s) {
+            // 길이를 앞에 붙여 구분자와 값이 섞이지 않게 함
+            sb.append('s').append(s.length()).append(':').append(s);
+        } else {
+            sb.append('v').append(value);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.paperradar.ingest.service;
+
+import com.paperradar.ingest.model.OpenAlexWork;
+import com.paperradar.util.KeywordNormalizeUtil;
+import com.paperradar.work.link.WorkLink;
+import com.paperradar.work.link.WorkLinkPolicy;
+import com.paperradar.work.model.WorkDocument;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link OpenAlexWork}를 works 색인 문서({@link WorkDocument})로 바꿉니다. (수집 색인과 벤치마크에서 같이 사용)
+ */
+final class WorkDocumentBuilder {
+
+    private static final String OPENALEX_PREFIX = "https://openalex.org/";
+
+    private WorkDocumentBuilder() {}
+
+    /**
+     * @return `openalex:W...` 형태의 works 문서 id, OpenAlex id가 없으면 null
+     */
+    static String docId(OpenAlexWork w) {
+        if (w == null || w.id() == null || w.id().isBlank()) {
+            return null;
+        }
+        return "openalex:" + normalizeOpenAlexId(w.id());
+    }
+
+    /**
+     * @param today 이보다 미래인 publication_date는 버림 (수집 timezone 기준)
+     * @param now   updated_at
+     */
+    static WorkDocument build(OpenAlexWork w, LocalDate today, Instant now) {
+        LocalDate publicationDate = w.publicationDate();
+        List<String> keywords = normalizeKeywordList(w.keywords());
+        WorkLink best = WorkLinkPolicy.pickBestLink(
+                w.doi(),
+                w.landingPageUrl(),
+                w.pdfUrl(),
+                w.openAccessUrl()
+        );
+        WorkDocument doc = new WorkDocument(
+                "openalex",
+                w.id(),
+                w.title(),
+                w.abstractText(),
+                publicationDate != null && !publicationDate.isAfter(today) ? publicationDate.toString() : null,
+                w.citedByCount(),
+                keywords,
+                keywords,
+                toAuthors(w.authors()),
+                toInstitutions(w.institutions()),
+                trimToNull(w.doi()),
+                trimToNull(w.landingPageUrl()),
+                trimToNull(w.pdfUrl()),
+                trimToNull(w.openAccessUrl()),
+                best == null ? null : best.url(),
+                best == null ? null : best.type().name(),
+                null,
+                null,
+                now.toString()
+        );
+        return doc.withContentHash(WorkContentHash.of(doc));
+    }
+
+    static String normalizeOpenAlexId(String raw) {
+        String s = raw.trim();
+        if (s.startsWith(OPENALEX_PREFIX)) {
+            return s.substring(OPENALEX_PREFIX.length());
+        }
+        return s;
+    }
+
+    private static List<String> normalizeKeywordList(List<String> keywords) {
+        if (keywords == null) return List.of();
+        return keywords.stream()
+                .map(KeywordNormalizeUtil::normalize)
+                .filter(s -> !s.isBlank())
+                .distinct()
+                .toList();
+    }
+
+    private static List<WorkDocument.Author> toAuthors(List<OpenAlexWork.AuthorRef> authors) {
+        if (authors == null) return List.of();
+        List<WorkDocument.Author> out = new ArrayList<>(authors.size());
+        for (OpenAlexWork.AuthorRef a : authors) {
+            if (a == null || a.name() == null || a.name().isBlank()) continue;
+            out.add(new WorkDocument.Author(a.id() == null ? "" : a.id(), a.name(), KeywordNormalizeUtil.normalize(a.name())));
+        }
+        return out;
+    }
+
+    private static List<WorkDocument.Institution> toInstitutions(List<OpenAlexWork.InstitutionRef> institutions) {
+        if (institutions == null) return List.of();
+        List<WorkDocument.Institution> out = new ArrayList<>(institutions.size());
+        for (OpenAlexWork.InstitutionRef inst : institutions) {
+            if (inst == null) continue;
+            String id = inst.id() == null ? "" : normalizeOpenAlexId(inst.id().trim());
+            String name = inst.name() == null ? "" : inst.name().trim();
+            if (id.isBlank() && name.isBlank()) continue;
+            out.add(new WorkDocument.Institution(id, name));
+        }
+        return out;
+    }
+
+    private static String trimToNull(String s) {
+        return s == null || s.isBlank() ? null : s.trim();
+    }
+}
@@ -0,0 +1,121 @@
+package com.paperradar.ingest.service;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 한 수집 job 안에서 이미 처리한 OpenAlex work ID를 기억합니다. (여러 fetch worker가 동시에 호출)
+ * <p>
+ * OpenAlex work ID는 대부분 `W` + 숫자 형태라서 숫자 부분을 long으로 바꿔 open addressing 테이블에 저장합니다.
+ * (문자열 Set 대비 항목당 8~16바이트) 형태가 다른 ID만 문자열 Set으로 보관합니다.
+ */
+final class WorkIdDedupSet {
+
+    private static final String OPENALEX_PREFIX = "https://openalex.org/";
+    private static final long EMPTY = 0L;
+
+    private long[] table;
+    private int size = 0;
+    private final Set<String> others = new HashSet<>();
+    private int duplicates = 0;
+
+    WorkIdDedupSet() {
+        this(1 << 12);
+    }
+
+    WorkIdDedupSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2 - 1)) << 1;
+        this.table = new long[capacity];
+    }
+
+    /**
+     * 처음 보는 ID면 true, 이미 처리한 ID(또는 빈 값)면 false를 반환합니다.
+     */
+    synchronized boolean add(String rawId) {
+        if (rawId == null || rawId.isBlank()) {
+            return false;
+        }
+        long key = parseNumericId(rawId.trim());
+        boolean added = key > 0 ? addLong(key) : others.add(normalize(rawId));
+        if (!added) {
+            duplicates++;
+        }
+        return added;
+    }
+
+    synchronized int size() {
+        return size + others.size();
+    }
+
+    synchronized int duplicates() {
+        return duplicates;
+    }
+
+    private boolean addLong(long key) {
+        if ((size + 1) * 2 > table.length) {
+            resize();
+        }
+        int mask = table.length - 1;
+        int i = mix(key) & mask;
+        while (table[i] != EMPTY) {
+            if (table[i] == key) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        table[i] = key;
+        size++;
+        return true;
+    }
+
+    private void resize() {
+        long[] old = table;
+        table = new long[old.length << 1];
+        int mask = table.length - 1;
+        for (long key : old) {
+            if (key == EMPTY) continue;
+            int i = mix(key) & mask;
+            while (table[i] != EMPTY) {
+                i = (i + 1) & mask;
+            }
+            table[i] = key;
+        }
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * `W123`, `https://openalex.org/W123` → 123. 형태가 다르거나 범위를 넘으면 -1.
+     */
+    static long parseNumericId(String id) {
+        int start = id.startsWith(OPENALEX_PREFIX) ? OPENALEX_PREFIX.length() : 0;
+        if (id.length() <= start + 1) {
+            return -1;
+        }
+        char head = id.charAt(start);
+        if (head != 'W' && head != 'w') {
+            return -1;
+        }
+        int digits = id.length() - start - 1;
+        if (digits > 18) {
+            return -1;
+        }
+        long v = 0;
+        for (int i = start + 1; i < id.length(); i++) {
+            char c = id.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            v = v * 10 + (c - '0');
+        }
+        return v > 0 ? v : -1;
+    }
+
+    private static String normalize(String raw) {
+        String s = raw.trim();
+        return s.startsWith(OPENALEX_PREFIX) ? s.substring(OPENALEX_PREFIX.length()) : s;
+    }
+}
@@ -0,0 +1,288 @@
+package com.paperradar.ingest.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.MgetResponse;
+import com.paperradar.work.model.WorkDocument;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * works 문서를 모아서 `_bulk`로 색인합니다. (문서 수/바이트/경과 시간 중 하나라도 넘으면 flush)
+ * <p>
+ * skipUnchanged가 켜져 있으면 flush 직전에 저장된 `content_hash`를 mget으로 조회해서 내용이 같은 문서는 쓰지 않습니다.
+ * <p>
+ * flush마다 onFlushed에 실제로 색인된 문서 id를 넘깁니다. (건너뛰거나 실패한 문서는 빠지고, flush 시점에 버퍼는 비어 있음)
+ * <p>
+ * 단일 스레드(수집 job 스레드)에서만 사용한다고 가정합니다.
+ */
+final class WorksBulkWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(WorksBulkWriter.class);
+
+    private final ElasticsearchClient client;
+    private final String index;
+    private final int maxDocs;
+    private final long maxBytes;
+    private final Duration flushInterval;
+    private final boolean skipUnchanged;
+    private final Consumer<List<String>> onFlushed;
+
+    private final List<PendingDoc> buffer = new ArrayList<>();
+    private long bufferedBytes = 0;
+    private Instant firstBufferedAt = null;
+
+    private int created = 0;
+    private int updated = 0;
+    private int failed = 0;
+    private int skippedUnchanged = 0;
+    private long added = 0;
+    private long flushedThrough = 0;
+    private boolean bulkRequestFailed = false;
+
+    WorksBulkWriter(
+            ElasticsearchClient client,
+            String index,
+            int maxDocs,
+            long maxBytes,
+            Duration flushInterval,
+            boolean skipUnchanged,
+            Consumer<List<String>> onFlushed
+    ) {
+        this.client = client;
+        this.index = index;
+        this.maxDocs = Math.max(1, maxDocs);
+        this.maxBytes = Math.max(1_024L, maxBytes);
+        this.flushInterval = flushInterval == null || flushInterval.isNegative() ? Duration.ZERO : flushInterval;
+        this.skipUnchanged = skipUnchanged;
+        this.onFlushed = onFlushed == null ? ids -> {} : onFlushed;
+    }
+
+    void add(String docId, WorkDocument doc) {
+        if (docId == null || docId.isBlank() || doc == null) {
+            return;
+        }
+        long bytes = estimateBytes(doc);
+        if (!buffer.isEmpty() && bufferedBytes + bytes > maxBytes) {
+            flush();
+        }
+        if (buffer.isEmpty()) {
+            firstBufferedAt = Instant.now();
+        }
+        buffer.add(new PendingDoc(docId, doc));
+        bufferedBytes += bytes;
+        added++;
+
+        if (buffer.size() >= maxDocs || bufferedBytes >= maxBytes) {
+            flush();
+        } else {
+            flushIfDue();
+        }
+    }
+
+    /**
+     * 마지막 flush 이후 flushInterval이 지났으면 flush합니다.
+     */
+    boolean flushIfDue() {
+        if (buffer.isEmpty() || firstBufferedAt == null) {
+            return false;
+        }
+        if (Duration.between(firstBufferedAt, Instant.now()).compareTo(flushInterval) < 0) {
+            return false;
+        }
+        flush();
+        return true;
+    }
+
+    void flush() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        long mark = added;
+        List<PendingDoc> batch = skipUnchanged ? dropUnchanged(buffer) : List.copyOf(buffer);
+        buffer.clear();
+        bufferedBytes = 0;
+        firstBufferedAt = null;
+        if (batch.isEmpty()) {
+            markFlushed(mark);
+            onFlushed.accept(List.of());
+            return;
+        }
+
+        List<String> written = new ArrayList<>(batch.size());
+        try {
+            BulkResponse res = client.bulk(b -> {
+                for (PendingDoc d : batch) {
+                    b.operations(op -> op.index(i -> i
+                            .index(index)
+                            .id(d.id)
+                            .document(d.doc)
+                    ));
+                }
+                return b;
+            });
+            if (res.errors()) {
+                log.warn("Works bulk had errors.");
+            }
+            for (var item : res.items()) {
+                if (item.error() == null && item.status() >= 200 && item.status() < 300) {
+                    if ("created".equals(item.result())) {
+                        created++;
+                    } else {
+                        updated++;
+                    }
+                    written.add(item.id());
+                    continue;
+                }
+                failed++;
+                if (item.error() != null) {
+                    log.warn("Works bulk item failed (id={}, status={}, errorType={}, reason={})",
+                            item.id(),
+                            item.status(),
+                            item.error().type(),
+                            item.error().reason()
+                    );
+                } else {
+                    log.warn("Works bulk item failed (id={}, status={})", item.id(), item.status());
+                }
+            }
+            markFlushed(mark);
+        } catch (Exception e) {
+            log.warn("Works bulk failed (docs={}).", batch.size(), e);
+            failed += batch.size();
+            bulkRequestFailed = true;
+        }
+        onFlushed.accept(written);
+    }
+
+    /**
+     * 요청 전체가 실패한 적이 있으면 그 뒤로는 flushedThrough를 올리지 않습니다. (체크포인트가 유실 문서를 건너뛰지 않게)
+     */
+    private void markFlushed(long mark) {
+        if (!bulkRequestFailed) {
+            flushedThrough = mark;
+        }
+    }
+
+    /**
+     * 저장된 content_hash와 새 문서의 해시가 같은 문서를 제외합니다. (조회 실패 시 전부 씀)
+     */
+    private List<PendingDoc> dropUnchanged(List<PendingDoc> docs) {
+        Map<String, String> storedHashes = new HashMap<>();
+        try {
+            List<String> ids = docs.stream().map(PendingDoc::id).distinct().toList();
+            MgetResponse<WorkDocument> res = client.mget(m -> m
+                    .index(index)
+                    .ids(ids)
+                    .sourceIncludes(WorkContentHash.FIELD), WorkDocument.class);
+            res.docs().forEach(item -> {
+                if (!item.isResult() || item.result() == null || !item.result().found()) {
+                    return;
+                }
+                WorkDocument src = item.result().source();
+                if (src != null && src.contentHash() != null) {
+                    storedHashes.put(item.result().id(), src.contentHash());
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Failed to mget stored content hashes (docs={}). Writing all.", docs.size(), e);
+            return List.copyOf(docs);
+        }
+
+        List<PendingDoc> changed = new ArrayList<>(docs.size());
+        for (PendingDoc d : docs) {
+            String stored = storedHashes.get(d.id);
+            if (stored != null && stored.equals(d.doc.contentHash())) {
+                skippedUnchanged++;
+                continue;
+            }
+            changed.add(d);
+        }
+        return changed;
+    }
+
+    int created() {
+        return created;
+    }
+
+    int updated() {
+        return updated;
+    }
+
+    int failed() {
+        return failed;
+    }
+
+    int skippedUnchanged() {
+        return skippedUnchanged;
+    }
+
+    int pending() {
+        return buffer.size();
+    }
+
+    /**
+     * 지금까지 add된 누적 문서 수.
+     */
+    long added() {
+        return added;
+    }
+
+    /**
+     * ES 요청까지 끝난 누적 문서 수. (이 값 이하의 {@link #added()} 시점 문서는 색인 요청이 완료됨)
+     */
+    long flushedThrough() {
+        return flushedThrough;
+    }
+
+    /**
+     * 직렬화 없이 대략적인 JSON 크기를 추정합니다. (bulk 요청 크기 제한 용도라 정확할 필요는 없음)
+     */
+    static long estimateBytes(Object value) {
+        if (value == null) {
+            return 4;
+        }
+        if (value instanceof CharSequence s) {
+            return s.length() + 2L;
+        }
+        if (value instanceof WorkDocument d) {
+            // 키 이름과 짧은 필드(날짜, 해시 등)는 고정값으로 봄
+            return 320
+                    + estimateBytes(d.title())
+                    + estimateBytes(d.abstractText())
+                    + estimateBytes(d.keywords())
+                    + estimateBytes(d.keywordCandidates())
+                    + estimateBytes(d.authors())
+                    + estimateBytes(d.institutions())
+                    + estimateBytes(d.doi())
+                    + estimateBytes(d.landingPageUrl())
+                    + estimateBytes(d.pdfUrl())
+                    + estimateBytes(d.openAccessOaUrl())
+                    + estimateBytes(d.bestLinkUrl());
+        }
+        if (value instanceof WorkDocument.Author a) {
+            return 20 + estimateBytes(a.id()) + estimateBytes(a.name()) + estimateBytes(a.nameSuggest());
+        }
+        if (value instanceof WorkDocument.Institution inst) {
+            return 20 + estimateBytes(inst.id()) + estimateBytes(inst.name());
+        }
+        if (value instanceof Collection<?> c) {
+            long sum = 2;
+            for (Object o : c) {
+                sum += estimateBytes(o) + 1;
+            }
+            return sum;
+        }
+        return 12;
+    }
+
+    private record PendingDoc(String id, WorkDocument doc) {}
+}
@@ -0,0 +1,139 @@
+package com.paperradar.ingest.service.enrich;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.MgetResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * DOI → Crossref 링크 결과를 `crossref_link_cache` 인덱스에 보관합니다.
+ * <p>
+ * 링크가 없는 DOI도 빈 결과로 저장해서(negative cache) 다시 조회하지 않습니다. 조회/저장 실패는 캐시 miss로 취급합니다.
+ */
+@Component
+public class CrossrefLinkCache {
+
+    private static final Logger log = LoggerFactory.getLogger(CrossrefLinkCache.class);
+
+    static final String INDEX = "crossref_link_cache";
+
+    private final ElasticsearchClient esClient;
+    private final Duration ttl;
+    private final Duration negativeTtl;
+
+    public CrossrefLinkCache(
+            ElasticsearchClient esClient,
+            @Value("${paperradar.enrich.crossref.cache-ttl-days:30}") long ttlDays,
+            @Value("${paperradar.enrich.crossref.negative-cache-ttl-days:7}") long negativeTtlDays
+    ) {
+        this.esClient = esClient;
+        this.ttl = Duration.ofDays(Math.max(0, ttlDays));
+        this.negativeTtl = Duration.ofDays(Math.max(0, negativeTtlDays));
+    }
+
+    /**
+     * @return 캐시에 있고 만료되지 않은 DOI만 담은 맵 (키는 {@link #key(String)})
+     */
+    public Map<String, CrossrefLinks> getAll(Collection<String> dois) {
+        List<String> ids = dois.stream().map(CrossrefLinkCache::key).filter(s -> !s.isBlank()).distinct().toList();
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, CrossrefLinks> out = new HashMap<>();
+        Instant now = Instant.now();
+        try {
+            MgetResponse<Map> res = esClient.mget(m -> m.index(INDEX).ids(ids), Map.class);
+            res.docs().forEach(item -> {
+                if (!item.isResult() || item.result() == null || !item.result().found() || item.result().source() == null) {
+                    return;
+                }
+                Map<?, ?> src = item.result().source();
+                CrossrefLinks links = new CrossrefLinks(asString(src.get("landing_page_url")), asString(src.get("pdf_url")));
+                if (isFresh(parseInstant(src.get("fetched_at")), links.empty(), now)) {
+                    out.put(item.result().id(), links);
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Failed to read Crossref link cache (dois={}).", ids.size(), e);
+        }
+        return out;
+    }
+
+    public void putAll(Map<String, CrossrefLinks> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        String now = Instant.now().toString();
+        try {
+            BulkResponse res = esClient.bulk(b -> {
+                entries.forEach((doi, links) -> {
+                    Map<String, Object> doc = new LinkedHashMap<>();
+                    doc.put("doi", key(doi));
+                    doc.put("landing_page_url", links.landingPageUrl());
+                    doc.put("pdf_url", links.pdfUrl());
+                    doc.put("has_links", !links.empty());
+                    doc.put("fetched_at", now);
+                    b.operations(op -> op.index(i -> i.index(INDEX).id(key(doi)).document(doc)));
+                });
+                return b;
+            });
+            if (res.errors()) {
+                log.warn("Crossref link cache bulk had errors.");
+            }
+        } catch (Exception e) {
+            log.warn("Failed to write Crossref link cache (dois={}).", entries.size(), e);
+        }
+    }
+
+    boolean isFresh(Instant fetchedAt, boolean negative, Instant now) {
+        if (fetchedAt == null) {
+            return false;
+        }
+        return fetchedAt.plus(negative ? negativeTtl : ttl).isAfter(now);
+    }
+
+    /**
+     * 캐시 문서 id. (DOI는 대소문자를 구분하지 않음)
+     */
+    static String key(String doi) {
+        return doi == null ? "" : doi.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String asString(Object o) {
+        if (o == null) return null;
+        String s = String.valueOf(o);
+        return s.isBlank() ? null : s;
+    }
+
+    private static Instant parseInstant(Object o) {
+        if (o == null) return null;
+        try {
+            return Instant.parse(String.valueOf(o));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Crossref에서 찾은 링크. 둘 다 null이면 "링크 없음" 결과입니다.
+     */
+    public record CrossrefLinks(String landingPageUrl, String pdfUrl) {
+
+        public static final CrossrefLinks NONE = new CrossrefLinks(null, null);
+
+        public boolean empty() {
+            return landingPageUrl == null && pdfUrl == null;
+        }
+    }
+}
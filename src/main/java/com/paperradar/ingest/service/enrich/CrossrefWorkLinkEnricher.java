@@ -2,7 +2,10 @@ package com.paperradar.ingest.service.enrich;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paperradar.ingest.infra.ExternalApiGuards;
 import com.paperradar.ingest.model.OpenAlexWork;
+import com.paperradar.ingest.service.enrich.CrossrefLinkCache.CrossrefLinks;
+import jakarta.annotation.PreDestroy;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.net.http.HttpClient;
@@ -11,107 +14,219 @@ import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 
+/**
+ * Crossref `/works/{doi}`의 link로 landing/PDF URL을 보강합니다.
+ * <p>
+ * 페이지 단위로 캐시({@link CrossrefLinkCache})를 먼저 조회하고, miss만 고정 크기 worker 풀에서 병렬로 요청합니다.
+ * worker 풀 크기가 전체 동시 요청 수 상한이고, Crossref 호출은 전용 보호막(레이트 리미터/재시도/circuit)을 거칩니다.
+ */
 @Component
 @Primary
-@RequiredArgsConstructor
 @ConditionalOnProperty(value = "paperradar.enrich.crossref.enabled", havingValue = "true")
 public class CrossrefWorkLinkEnricher implements WorkLinkEnricher {
 
     private static final Logger log = LoggerFactory.getLogger(CrossrefWorkLinkEnricher.class);
 
     private final ObjectMapper objectMapper;
+    private final CrossrefLinkCache cache;
+    private final WorkFetcher fetcher;
+    private final ExecutorService executor;
 
-    private final HttpClient httpClient = HttpClient.newBuilder()
-            .connectTimeout(Duration.ofSeconds(5))
-            .build();
+    /**
+     * Crossref `/works/{doi}` 한 건 요청.
+     */
+    interface WorkFetcher {
+        CrossrefResponse fetch(String doi) throws Exception;
+    }
+
+    record CrossrefResponse(int statusCode, String body) {}
+
+    @Autowired
+    public CrossrefWorkLinkEnricher(
+            ObjectMapper objectMapper,
+            CrossrefLinkCache cache,
+            ExternalApiGuards apiGuards,
+            @Value("${OPENALEX_EMAIL:}") String contactEmail,
+            @Value("${paperradar.enrich.crossref.concurrency:4}") int concurrency
+    ) {
+        this(
+                objectMapper,
+                cache,
+                httpFetcher(apiGuards, contactEmail),
+                Executors.newFixedThreadPool(Math.max(1, concurrency), Thread.ofVirtual().name("crossref-", 0).factory())
+        );
+    }
+
+    CrossrefWorkLinkEnricher(ObjectMapper objectMapper, CrossrefLinkCache cache, WorkFetcher fetcher, ExecutorService executor) {
+        this.objectMapper = objectMapper;
+        this.cache = cache;
+        this.fetcher = fetcher;
+        this.executor = executor;
+    }
 
-    @Value("${OPENALEX_EMAIL:}")
-    private String contactEmail;
+    @PreDestroy
+    public void close() {
+        executor.close();
+    }
 
     @Override
     public OpenAlexWork enrich(OpenAlexWork work) {
         if (work == null) return null;
-        if (!needsEnrichment(work)) return work;
-        if (work.doi() == null || work.doi().isBlank()) return work;
+        return enrichAll(List.of(work)).getFirst();
+    }
 
-        try {
-            URI uri = URI.create("https://api.crossref.org/works/" + url(work.doi()));
-            HttpRequest.Builder b = HttpRequest.newBuilder(uri)
-                    .timeout(Duration.ofSeconds(15))
-                    .header("Accept", "application/json");
-            if (contactEmail != null && !contactEmail.isBlank()) {
-                b.header("User-Agent", "PAPER_RADAR (mailto:" + contactEmail.trim() + ")");
-            }
-            HttpResponse<String> res = httpClient.send(b.GET().build(), HttpResponse.BodyHandlers.ofString());
-            if (res.statusCode() < 200 || res.statusCode() >= 300) {
-                return work;
+    @Override
+    public List<OpenAlexWork> enrichAll(List<OpenAlexWork> works) {
+        Set<String> dois = new LinkedHashSet<>();
+        for (OpenAlexWork w : works) {
+            if (WorkLinkEnricher.needsLinks(w)) {
+                dois.add(CrossrefLinkCache.key(w.doi()));
             }
+        }
+        if (dois.isEmpty()) {
+            return works;
+        }
 
-            JsonNode message = objectMapper.readTree(res.body()).path("message");
-            JsonNode links = message.path("link");
-            if (!links.isArray()) {
-                return work;
+        Map<String, CrossrefLinks> links = new HashMap<>(cache.getAll(dois));
+        Map<String, Future<CrossrefLinks>> pending = new LinkedHashMap<>();
+        for (String doi : dois) {
+            if (!links.containsKey(doi)) {
+                pending.put(doi, executor.submit(() -> fetchLinks(doi)));
             }
+        }
 
-            String pdf = null;
-            String landing = null;
-            List<String> candidates = new ArrayList<>();
-            for (JsonNode l : links) {
-                String url = l.path("URL").asText("");
-                String ct = l.path("content-type").asText("").toLowerCase();
-                if (url.isBlank()) continue;
-                candidates.add(url);
-                if (pdf == null && (ct.contains("pdf") || url.toLowerCase().endsWith(".pdf"))) {
-                    pdf = url;
-                }
-                if (landing == null && (ct.contains("html") || ct.contains("text"))) {
-                    landing = url;
+        Map<String, CrossrefLinks> fetched = new LinkedHashMap<>();
+        for (Map.Entry<String, Future<CrossrefLinks>> e : pending.entrySet()) {
+            try {
+                CrossrefLinks result = e.getValue().get();
+                if (result != null) {
+                    fetched.put(e.getKey(), result);
                 }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                pending.values().forEach(f -> f.cancel(true));
+                break;
+            } catch (ExecutionException ex) {
+                log.debug("Crossref enrichment failed.", ex.getCause());
             }
-            if (landing == null && !candidates.isEmpty()) {
-                landing = candidates.getFirst();
-            }
+        }
+        cache.putAll(fetched);
+        links.putAll(fetched);
 
-            if (pdf == null && landing == null) {
-                return work;
-            }
+        List<OpenAlexWork> out = new ArrayList<>(works.size());
+        for (OpenAlexWork w : works) {
+            CrossrefLinks l = !WorkLinkEnricher.needsLinks(w) ? null : links.get(CrossrefLinkCache.key(w.doi()));
+            out.add(l == null ? w : apply(w, l));
+        }
+        return out;
+    }
 
-            return new OpenAlexWork(
-                    work.id(),
-                    work.doi(),
-                    work.landingPageUrl() == null ? landing : work.landingPageUrl(),
-                    work.pdfUrl() == null ? pdf : work.pdfUrl(),
-                    work.openAccessUrl(),
-                    work.title(),
-                    work.abstractText(),
-                    work.publicationDate(),
-                    work.citedByCount(),
-                    work.keywords(),
-                    work.authors(),
-                    work.institutions()
-            );
+    /**
+     * @return 링크 결과 (링크가 없으면 {@link CrossrefLinks#NONE}), 일시적인 실패면 null (캐시하지 않음)
+     */
+    private CrossrefLinks fetchLinks(String doi) {
+        try {
+            CrossrefResponse res = fetcher.fetch(doi);
+            if (res.statusCode() == 404) {
+                return CrossrefLinks.NONE;
+            }
+            if (res.statusCode() < 200 || res.statusCode() >= 300) {
+                return null;
+            }
+            return parseLinks(objectMapper.readTree(res.body()).path("message"));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
         } catch (Exception e) {
             log.debug("Crossref enrichment failed.", e);
+            return null;
+        }
+    }
+
+    static CrossrefLinks parseLinks(JsonNode message) {
+        JsonNode links = message.path("link");
+        if (!links.isArray()) {
+            return CrossrefLinks.NONE;
+        }
+
+        String pdf = null;
+        String landing = null;
+        List<String> candidates = new ArrayList<>();
+        for (JsonNode l : links) {
+            String url = l.path("URL").asText("");
+            String ct = l.path("content-type").asText("").toLowerCase();
+            if (url.isBlank()) continue;
+            candidates.add(url);
+            if (pdf == null && (ct.contains("pdf") || url.toLowerCase().endsWith(".pdf"))) {
+                pdf = url;
+            }
+            if (landing == null && (ct.contains("html") || ct.contains("text"))) {
+                landing = url;
+            }
+        }
+        if (landing == null && !candidates.isEmpty()) {
+            landing = candidates.getFirst();
+        }
+        return new CrossrefLinks(landing, pdf);
+    }
+
+    private OpenAlexWork apply(OpenAlexWork work, CrossrefLinks links) {
+        if (links.empty()) {
             return work;
         }
+        return new OpenAlexWork(
+                work.id(),
+                work.doi(),
+                work.landingPageUrl() == null ? links.landingPageUrl() : work.landingPageUrl(),
+                work.pdfUrl() == null ? links.pdfUrl() : work.pdfUrl(),
+                work.openAccessUrl(),
+                work.title(),
+                work.abstractText(),
+                work.publicationDate(),
+                work.citedByCount(),
+                work.keywords(),
+                work.authors(),
+                work.institutions()
+        );
     }
 
-    private boolean needsEnrichment(OpenAlexWork work) {
-        return (work.landingPageUrl() == null || work.landingPageUrl().isBlank())
-                || (work.pdfUrl() == null || work.pdfUrl().isBlank());
+    private static WorkFetcher httpFetcher(ExternalApiGuards apiGuards, String contactEmail) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        return doi -> {
+            URI uri = URI.create("https://api.crossref.org/works/" + url(doi));
+            HttpRequest.Builder b = HttpRequest.newBuilder(uri)
+                    .timeout(Duration.ofSeconds(15))
+                    .header("Accept", "application/json");
+            if (contactEmail != null && !contactEmail.isBlank()) {
+                b.header("User-Agent", "PAPER_RADAR (mailto:" + contactEmail.trim() + ")");
+            }
+            HttpRequest req = b.GET().build();
+            HttpResponse<String> res = apiGuards.crossref().execute(() -> httpClient.send(req, HttpResponse.BodyHandlers.ofString()));
+            return new CrossrefResponse(res.statusCode(), res.body());
+        };
     }
 
-    private String url(String s) {
+    private static String url(String s) {
         return URLEncoder.encode(s, StandardCharsets.UTF_8);
     }
 }
-
@@ -0,0 +1,193 @@
+package com.paperradar.ingest.service.enrich;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import com.paperradar.ingest.model.OpenAlexWork;
+import com.paperradar.work.link.WorkLink;
+import com.paperradar.work.link.WorkLinkPolicy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * {@link EnrichQueue}에 쌓인 works를 보강하고, 찾은 링크만 works에 부분 업데이트합니다.
+ * <p>
+ * 캐시에 결과(링크 없음 포함)가 남은 DOI는 완료로 보고, 일시적인 실패로 결과가 없으면 maxAttempts까지 다시 시도합니다.
+ */
+@Service
+public class DeferredLinkEnrichmentService {
+
+    private static final Logger log = LoggerFactory.getLogger(DeferredLinkEnrichmentService.class);
+
+    private static final String WORKS_INDEX = "works";
+
+    private final ElasticsearchClient esClient;
+    private final EnrichQueue queue;
+    private final CrossrefLinkCache cache;
+    private final WorkLinkEnricher enricher;
+    private final int maxAttempts;
+    private final WorksUpdater worksUpdater;
+
+    /**
+     * works 문서 id → 부분 업데이트 필드를 반영하고, 실패한 문서 id를 돌려줍니다.
+     */
+    interface WorksUpdater {
+        Set<String> update(Map<String, Map<String, Object>> updates);
+    }
+
+    @Autowired
+    public DeferredLinkEnrichmentService(
+            ElasticsearchClient esClient,
+            EnrichQueue queue,
+            CrossrefLinkCache cache,
+            WorkLinkEnricher enricher,
+            @Value("${paperradar.enrich.deferred.max-attempts:5}") int maxAttempts
+    ) {
+        this.esClient = esClient;
+        this.queue = queue;
+        this.cache = cache;
+        this.enricher = enricher;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.worksUpdater = this::updateWorks;
+    }
+
+    DeferredLinkEnrichmentService(
+            EnrichQueue queue,
+            CrossrefLinkCache cache,
+            WorkLinkEnricher enricher,
+            int maxAttempts,
+            WorksUpdater worksUpdater
+    ) {
+        this.esClient = null;
+        this.queue = queue;
+        this.cache = cache;
+        this.enricher = enricher;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.worksUpdater = worksUpdater;
+    }
+
+    /**
+     * 대기열에서 최대 batchSize개를 처리합니다.
+     *
+     * @return 처리한 대기열 항목 수 (0이면 대기열이 비어 있음)
+     */
+    public int drainOnce(int batchSize) {
+        List<EnrichQueue.Task> tasks = queue.peek(Math.max(1, batchSize));
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+
+        List<OpenAlexWork> works = tasks.stream().map(this::toWork).toList();
+        List<OpenAlexWork> enriched = enricher.enrichAll(works);
+        Set<String> resolved = cache.getAll(tasks.stream().map(EnrichQueue.Task::doi).toList()).keySet();
+
+        Map<String, Map<String, Object>> updates = new LinkedHashMap<>();
+        List<EnrichQueue.Task> done = new ArrayList<>();
+        List<EnrichQueue.Task> retry = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            EnrichQueue.Task t = tasks.get(i);
+            OpenAlexWork w = enriched.get(i);
+            boolean changed = !Objects.equals(w.landingPageUrl(), t.landingPageUrl()) || !Objects.equals(w.pdfUrl(), t.pdfUrl());
+            if (changed) {
+                updates.put(t.workDocId(), linkFields(w));
+            } else if (resolved.contains(CrossrefLinkCache.key(t.doi()))) {
+                done.add(t);
+            } else {
+                retryOrGiveUp(t, done, retry);
+            }
+        }
+
+        Set<String> failed = updates.isEmpty() ? Set.of() : worksUpdater.update(updates);
+        for (EnrichQueue.Task t : tasks) {
+            if (!updates.containsKey(t.workDocId())) continue;
+            if (failed.contains(t.workDocId())) {
+                retryOrGiveUp(t, done, retry);
+            } else {
+                done.add(t);
+            }
+        }
+        queue.settle(done, retry);
+        return tasks.size();
+    }
+
+    private void retryOrGiveUp(EnrichQueue.Task t, List<EnrichQueue.Task> done, List<EnrichQueue.Task> retry) {
+        if (t.attempts() + 1 >= maxAttempts) {
+            log.warn("Giving up link enrichment for {} after {} attempts.", t.workDocId(), t.attempts() + 1);
+            done.add(t);
+        } else {
+            retry.add(t);
+        }
+    }
+
+    private OpenAlexWork toWork(EnrichQueue.Task t) {
+        return new OpenAlexWork(
+                t.workDocId(),
+                t.doi(),
+                t.landingPageUrl(),
+                t.pdfUrl(),
+                t.openAccessUrl(),
+                null,
+                null,
+                null,
+                0,
+                List.of(),
+                List.of(),
+                List.of()
+        );
+    }
+
+    private Map<String, Object> linkFields(OpenAlexWork w) {
+        Map<String, Object> doc = new LinkedHashMap<>();
+        if (w.landingPageUrl() != null && !w.landingPageUrl().isBlank()) {
+            doc.put("landing_page_url", w.landingPageUrl().trim());
+        }
+        if (w.pdfUrl() != null && !w.pdfUrl().isBlank()) {
+            doc.put("pdf_url", w.pdfUrl().trim());
+        }
+        WorkLink best = WorkLinkPolicy.pickBestLink(w.doi(), w.landingPageUrl(), w.pdfUrl(), w.openAccessUrl());
+        doc.put("best_link_url", best == null ? "" : best.url());
+        doc.put("best_link_type", best == null ? "" : best.type().name());
+        return doc;
+    }
+
+    /**
+     * @return 업데이트에 실패한 works 문서 id (아직 색인 전이라 없는 문서 포함)
+     */
+    private Set<String> updateWorks(Map<String, Map<String, Object>> updates) {
+        if (updates.isEmpty()) {
+            return Set.of();
+        }
+        try {
+            BulkResponse res = esClient.bulk(b -> {
+                updates.forEach((id, doc) -> b.operations(op -> op.update(up -> up
+                        .index(WORKS_INDEX)
+                        .id(id)
+                        .action(a -> a.doc(doc))
+                )));
+                return b;
+            });
+            Set<String> failed = new HashSet<>();
+            for (var item : res.items()) {
+                if (item.error() != null || item.status() < 200 || item.status() >= 300) {
+                    failed.add(item.id());
+                }
+            }
+            if (!failed.isEmpty()) {
+                log.warn("Deferred link update failed for {} works.", failed.size());
+            }
+            return failed;
+        } catch (Exception e) {
+            log.warn("Deferred link update bulk failed (works={}).", updates.size(), e);
+            return updates.keySet();
+        }
+    }
+}
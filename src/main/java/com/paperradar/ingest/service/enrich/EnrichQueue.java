@@ -0,0 +1,183 @@
+package com.paperradar.ingest.service.enrich;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.Refresh;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 링크 보강을 미뤄 둔 works 목록(`enrich_queue` 인덱스). 문서 id는 works 문서 id와 같습니다.
+ * <p>
+ * 같은 work를 다시 넣으면 덮어쓰므로 대기열에는 work당 하나만 남습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EnrichQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(EnrichQueue.class);
+
+    static final String INDEX = "enrich_queue";
+
+    private final ElasticsearchClient esClient;
+
+    /**
+     * @param workDocId works 문서 id (예: openalex:W123)
+     * @param attempts 보강을 시도했지만 결과를 확정하지 못한 횟수
+     * @param seqNo {@link #peek(int)}로 읽은 시점의 버전 (새로 넣는 항목은 null)
+     */
+    public record Task(
+            String workDocId,
+            String doi,
+            String landingPageUrl,
+            String pdfUrl,
+            String openAccessUrl,
+            int attempts,
+            Long seqNo,
+            Long primaryTerm
+    ) {
+        public Task(String workDocId, String doi, String landingPageUrl, String pdfUrl, String openAccessUrl, int attempts) {
+            this(workDocId, doi, landingPageUrl, pdfUrl, openAccessUrl, attempts, null, null);
+        }
+    }
+
+    public void enqueue(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        String now = Instant.now().toString();
+        try {
+            BulkResponse res = esClient.bulk(b -> {
+                for (Task t : tasks) {
+                    Map<String, Object> doc = toDoc(t);
+                    doc.put("enqueued_at", now);
+                    b.operations(op -> op.index(i -> i.index(INDEX).id(t.workDocId()).document(doc)));
+                }
+                return b;
+            });
+            if (res.errors()) {
+                log.warn("Enrich queue bulk had errors.");
+            }
+        } catch (Exception e) {
+            log.warn("Failed to enqueue works for link enrichment (works={}).", tasks.size(), e);
+        }
+    }
+
+    /**
+     * 오래 기다린 순서로 최대 size개를 가져옵니다. (대기열에서 빼지는 않음)
+     */
+    public List<Task> peek(int size) {
+        try {
+            SearchResponse<Map> res = esClient.search(s -> s
+                            .index(INDEX)
+                            .size(size)
+                            .seqNoPrimaryTerm(true)
+                            .sort(so -> so.field(f -> f.field("enqueued_at").order(SortOrder.Asc))),
+                    Map.class);
+            List<Task> out = new ArrayList<>();
+            for (var hit : res.hits().hits()) {
+                Map<?, ?> src = hit.source();
+                if (src == null) continue;
+                out.add(new Task(
+                        hit.id(),
+                        asString(src.get("doi")),
+                        asString(src.get("landing_page_url")),
+                        asString(src.get("pdf_url")),
+                        asString(src.get("open_access_oa_url")),
+                        src.get("attempts") instanceof Number n ? n.intValue() : 0,
+                        hit.seqNo(),
+                        hit.primaryTerm()
+                ));
+            }
+            return out;
+        } catch (Exception e) {
+            log.warn("Failed to read enrich queue.", e);
+            return List.of();
+        }
+    }
+
+    /**
+     * 처리가 끝난 항목은 지우고, 다시 시도할 항목은 attempts를 올려 뒤로 보냅니다.
+     * <p>
+     * 읽은 뒤 수집 job이 같은 work를 다시 넣었으면 버전이 달라 건너뜁니다(새 항목 유지). 끝나면 refresh를 기다려서
+     * 바로 이어지는 {@link #peek(int)}가 처리한 항목을 다시 가져오지 않게 합니다.
+     */
+    public void settle(List<Task> done, List<Task> retry) {
+        if (done.isEmpty() && retry.isEmpty()) {
+            return;
+        }
+        String now = Instant.now().toString();
+        try {
+            BulkResponse res = esClient.bulk(b -> {
+                b.refresh(Refresh.WaitFor);
+                for (Task t : done) {
+                    b.operations(op -> op.delete(d -> {
+                        d.index(INDEX).id(t.workDocId());
+                        if (t.seqNo() != null && t.primaryTerm() != null) {
+                            d.ifSeqNo(t.seqNo()).ifPrimaryTerm(t.primaryTerm());
+                        }
+                        return d;
+                    }));
+                }
+                for (Task t : retry) {
+                    Map<String, Object> doc = toDoc(t);
+                    doc.put("attempts", t.attempts() + 1);
+                    doc.put("enqueued_at", now);
+                    b.operations(op -> op.index(i -> {
+                        i.index(INDEX).id(t.workDocId()).document(doc);
+                        if (t.seqNo() != null && t.primaryTerm() != null) {
+                            i.ifSeqNo(t.seqNo()).ifPrimaryTerm(t.primaryTerm());
+                        }
+                        return i;
+                    }));
+                }
+                return b;
+            });
+            if (res.errors()) {
+                int requeued = 0;
+                int failed = 0;
+                for (var item : res.items()) {
+                    if (item.error() == null) continue;
+                    if (item.status() == 409) {
+                        requeued++;
+                    } else {
+                        failed++;
+                    }
+                }
+                if (failed > 0) {
+                    log.warn("Enrich queue settle bulk had errors (failed={}).", failed);
+                }
+                if (requeued > 0) {
+                    log.debug("Skipped {} enrich queue entries re-enqueued while processing.", requeued);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to settle enrich queue (done={}, retry={}).", done.size(), retry.size(), e);
+        }
+    }
+
+    private Map<String, Object> toDoc(Task t) {
+        Map<String, Object> doc = new LinkedHashMap<>();
+        doc.put("doi", t.doi());
+        doc.put("landing_page_url", t.landingPageUrl());
+        doc.put("pdf_url", t.pdfUrl());
+        doc.put("open_access_oa_url", t.openAccessUrl());
+        doc.put("attempts", t.attempts());
+        return doc;
+    }
+
+    private static String asString(Object o) {
+        if (o == null) return null;
+        String s = String.valueOf(o);
+        return s.isBlank() ? null : s;
+    }
+}
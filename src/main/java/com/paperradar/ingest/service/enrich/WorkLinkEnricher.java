@@ -1,8 +1,26 @@
 package com.paperradar.ingest.service.enrich;
 
 import com.paperradar.ingest.model.OpenAlexWork;
+import java.util.List;
 
 public interface WorkLinkEnricher {
     OpenAlexWork enrich(OpenAlexWork work);
-}
 
+    /**
+     * 한 페이지 단위로 보강합니다. (순서 유지, 구현체가 외부 호출을 묶거나 병렬로 처리할 수 있음)
+     */
+    default List<OpenAlexWork> enrichAll(List<OpenAlexWork> works) {
+        return works.stream().map(this::enrich).toList();
+    }
+
+    /**
+     * DOI가 있고 landing/PDF 중 하나라도 비어 있으면 보강 대상입니다.
+     */
+    static boolean needsLinks(OpenAlexWork work) {
+        if (work == null || work.doi() == null || work.doi().isBlank()) {
+            return false;
+        }
+        return (work.landingPageUrl() == null || work.landingPageUrl().isBlank())
+                || (work.pdfUrl() == null || work.pdfUrl().isBlank());
+    }
+}
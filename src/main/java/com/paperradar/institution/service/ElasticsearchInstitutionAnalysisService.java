@@ -11,7 +11,7 @@ import com.paperradar.admin.model.InstitutionSummary;
 import com.paperradar.admin.service.InstitutionService;
 import com.paperradar.institution.model.InstitutionAnalysis;
 import com.paperradar.search.model.WorkSummary;
-import java.time.LocalDate;
+import com.paperradar.work.model.WorkDocument;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -46,7 +46,7 @@ public class ElasticsearchInstitutionAnalysisService implements InstitutionAnaly
             Query last90d = Query.of(q -> q.range(r -> r.date(dr -> dr.field("publication_date").gte("now-90d/d"))));
             Query keywordWindowRange = Query.of(q -> q.range(r -> r.date(dr -> dr.field("publication_date").gte("now-" + window + "d/d"))));
 
-            SearchResponse<Map> response = client.search(s -> {
+            SearchResponse<WorkDocument> response = client.search(s -> {
                         s.index("works");
                         s.size(Math.min(Math.max(recentSize, 1), 50));
                         s.query(q -> q.bool(b -> b.filter(instFilter)));
@@ -73,13 +73,13 @@ public class ElasticsearchInstitutionAnalysisService implements InstitutionAnaly
                         );
                         return s;
                     },
-                    Map.class);
+                    WorkDocument.class);
 
             Counts counts = parseCounts(response.aggregations().get("counts"));
             List<String> topKeywords = parseKeywordTermsFromFilter(response.aggregations().get("top_keywords"));
 
             List<WorkSummary> works = response.hits().hits().stream()
-                    .map(hit -> toSummary(hit.id(), (Map<?, ?>) hit.source()))
+                    .map(hit -> toSummary(hit.id(), hit.source()))
                     .filter(Objects::nonNull)
                     .toList();
 
@@ -149,55 +149,17 @@ public class ElasticsearchInstitutionAnalysisService implements InstitutionAnaly
         return key._toJsonString();
     }
 
-    private WorkSummary toSummary(String id, Map<?, ?> source) {
+    private WorkSummary toSummary(String id, WorkDocument source) {
         if (source == null) {
             return null;
         }
-
-        String title = asString(source.get("title"));
-        LocalDate publicationDate = parseDate(asString(source.get("publication_date")));
-        String institutions = extractInstitutionNames(source.get("institutions"));
-
-        String bestLinkType = asString(source.get("best_link_type"));
-        String bestLinkUrl = asString(source.get("best_link_url"));
-        return new WorkSummary(id, title, institutions, publicationDate, bestLinkType, bestLinkUrl);
-    }
-
-    private String extractInstitutionNames(Object institutionsValue) {
-        if (!(institutionsValue instanceof List<?> list)) {
-            return "";
-        }
-
-        List<String> names = new ArrayList<>();
-        for (Object entry : list) {
-            if (!(entry instanceof Map<?, ?> m)) {
-                continue;
-            }
-            String name = asString(m.get("name"));
-            if (name != null && !name.isBlank()) {
-                if (!names.contains(name)) {
-                    names.add(name);
-                }
-            }
-        }
-        return String.join(", ", names);
-    }
-
-    private String asString(Object value) {
-        if (value == null) {
-            return null;
-        }
-        return String.valueOf(value);
-    }
-
-    private LocalDate parseDate(String value) {
-        if (value == null || value.isBlank()) {
-            return null;
-        }
-        try {
-            return LocalDate.parse(value);
-        } catch (Exception e) {
-            return null;
-        }
+        return new WorkSummary(
+                id,
+                source.title(),
+                source.institutionNamesText(),
+                source.publicationLocalDate(),
+                source.bestLinkType(),
+                source.bestLinkUrl()
+        );
     }
 }
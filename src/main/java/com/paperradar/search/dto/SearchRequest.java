@@ -14,7 +14,8 @@ public record SearchRequest(
         String author,
         Sort sort,
         @Min(1) Integer page,
-        @Min(1) @Max(50) Integer size
+        @Min(1) @Max(50) Integer size,
+        String cursor
 ) {
     public SearchRequest {
         if (sort == null) {
@@ -28,6 +29,10 @@ public record SearchRequest(
         }
     }
 
+    public SearchRequest withPage(int page) {
+        return new SearchRequest(q, from, to, keyword, instId, author, sort, page, size, cursor);
+    }
+
     public boolean isEmptyQuery() {
         return (q == null || q.isBlank())
                 && (keyword == null || keyword.isBlank())
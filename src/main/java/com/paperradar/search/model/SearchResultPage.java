@@ -1,18 +1,42 @@
 package com.paperradar.search.model;
 
 import java.util.List;
+import java.util.Locale;
 
+/**
+ * @param nextCursor  다음 페이지가 번호 페이지 범위를 넘으면 다음 페이지용 커서 토큰, 아니면 null
+ * @param cursorPaged 커서(search_after)로 가져온 페이지인지 여부 (이전 페이지로는 이동할 수 없음)
+ * @param totalApprox total이 정확한 값이 아니라 하한(track_total_hits 상한에 걸림)인지 여부
+ */
 public record SearchResultPage(
         List<WorkSummary> items,
         long total,
         int page,
-        int size
+        int size,
+        String nextCursor,
+        boolean cursorPaged,
+        boolean totalApprox
 ) {
+    public SearchResultPage(List<WorkSummary> items, long total, int page, int size) {
+        this(items, total, page, size, null, false, false);
+    }
+
     public int totalPages() {
         if (size <= 0) {
             return 0;
         }
         return (int) Math.max(1, (total + size - 1) / size);
     }
+
+    /**
+     * 화면 표시용 건수. 하한이면 `10,000+`처럼 표시합니다.
+     */
+    public String totalLabel() {
+        return String.format(Locale.ROOT, "%,d", total) + (totalApprox ? "+" : "");
+    }
+
+    public String totalPagesLabel() {
+        return String.format(Locale.ROOT, "%,d", totalPages()) + (totalApprox ? "+" : "");
+    }
 }
 
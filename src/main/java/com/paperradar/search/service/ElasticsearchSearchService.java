@@ -1,26 +1,33 @@
 package com.paperradar.search.service;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.FieldValue;
 import co.elastic.clients.elasticsearch._types.SortOptions;
 import co.elastic.clients.elasticsearch._types.SortOrder;
 import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.elasticsearch.core.search.TotalHits;
+import co.elastic.clients.elasticsearch.core.search.TotalHitsRelation;
+import com.paperradar.infra.es.ElasticsearchErrorUtil;
 import com.paperradar.search.dto.SearchRequest;
 import com.paperradar.search.model.SearchResultPage;
 import com.paperradar.search.model.WorkSummary;
 import com.paperradar.util.KeywordNormalizeUtil;
+import com.paperradar.work.model.WorkDocument;
 import jakarta.validation.Valid;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -29,10 +36,72 @@ public class ElasticsearchSearchService implements SearchService {
 
     private static final Logger log = LoggerFactory.getLogger(ElasticsearchSearchService.class);
 
+    private static final String INDEX = "works";
+    private static final List<String> SUMMARY_FIELDS = List.of(
+            "title",
+            "publication_date",
+            "institutions",
+            "best_link_type",
+            "best_link_url"
+    );
+
     private final ElasticsearchClient client;
+    private final SearchResultCache cache;
+    private final SearchCursorCodec cursorCodec;
+    private final SearchTotalCounter totalCounter;
+
+    /**
+     * total을 이 값까지만 정확히 셉니다. 넘으면 하한(`10,000+`)으로 표시하고, 0 이하면 항상 정확히 셉니다.
+     */
+    @Value("${paperradar.search.track-total-hits:10000}")
+    private int trackTotalHitsUpTo;
+
+    /**
+     * from/size로 보여주는 번호 페이지 수. 그 뒤는 point-in-time + search_after 커서로 이어 봅니다.
+     */
+    @Value("${paperradar.search.numbered-pages:5}")
+    private int numberedPages;
+
+    /**
+     * 커서 페이지마다 연장되므로 페이지 사이 간격만 버티면 됩니다. 마지막 페이지에서는 바로 닫습니다.
+     */
+    @Value("${paperradar.search.cursor.keep-alive:1m}")
+    private String pitKeepAlive;
 
     @Override
     public SearchResultPage search(@Valid SearchRequest request) {
+        if (request.cursor() != null && !request.cursor().isBlank()) {
+            SearchCursorCodec.Cursor cursor = cursorCodec.decode(request.cursor(), request);
+            if (cursor != null) {
+                // PIT에 묶인 결과라 캐시하지 않음
+                SearchResultPage result = queryCursor(request, cursor);
+                return result != null ? result : new SearchResultPage(List.of(), 0, cursor.page(), request.size());
+            }
+            // 만료 키/다른 검색 조건의 토큰은 무시하고 번호 페이지로 처리
+        }
+        if (request.page() > numberedPages) {
+            // 깊은 from/size는 커서로만 허용 (토큰이 무효이거나 page만 직접 넣은 경우 마지막 번호 페이지로)
+            request = request.withPage(Math.max(1, numberedPages));
+        }
+
+        SearchResultPage cached = cache.get(request);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = cache.generation();
+        SearchResultPage result = query(request);
+        if (result == null) {
+            // 실패 결과는 캐시하지 않음
+            return new SearchResultPage(List.of(), 0, request.page(), request.size());
+        }
+        cache.put(request, result, generation);
+        return result;
+    }
+
+    /**
+     * @return ES 조회 실패 시 null
+     */
+    private SearchResultPage query(SearchRequest request) {
         int size = request.size();
         int page = request.page();
         int from = Math.max(0, (page - 1) * size);
@@ -41,40 +110,198 @@ public class ElasticsearchSearchService implements SearchService {
         List<SortOptions> sortOptions = buildSort(request.sort());
 
         try {
-            SearchResponse<Map> response = client.search(s -> {
-                        s.index("works");
+            SearchResponse<WorkDocument> response = client.search(s -> {
+                        s.index(INDEX);
                         s.from(from);
                         s.size(size);
-                        s.trackTotalHits(t -> t.enabled(true));
+                        if (trackTotalHitsUpTo > 0) {
+                            s.trackTotalHits(t -> t.count(trackTotalHitsUpTo));
+                        } else {
+                            s.trackTotalHits(t -> t.enabled(true));
+                        }
                         s.query(query);
                         if (!sortOptions.isEmpty()) {
                             s.sort(sortOptions);
                         }
-                        s.source(src -> src.filter(f -> f.includes(
-                                "title",
-                                "publication_date",
-                                "institutions",
-                                "best_link_type",
-                                "best_link_url"
-                        )));
+                        s.source(src -> src.filter(f -> f.includes(SUMMARY_FIELDS)));
                         return s;
                     },
-                    Map.class
+                    WorkDocument.class
             );
 
-            long total = response.hits().total() == null ? 0 : response.hits().total().value();
-            List<WorkSummary> items = response.hits().hits().stream()
-                    .map(hit -> toSummary(hit.id(), (Map<?, ?>) hit.source()))
-                    .filter(Objects::nonNull)
-                    .toList();
+            TotalHits hitsTotal = response.hits().total();
+            long total = hitsTotal == null ? 0 : hitsTotal.value();
+            boolean approx = hitsTotal != null && hitsTotal.relation() == TotalHitsRelation.Gte;
+            if (approx) {
+                Long exact = totalCounter.exactTotal(SearchCursorCodec.fingerprint(request));
+                if (exact != null) {
+                    total = exact;
+                    approx = false;
+                }
+            }
+            List<WorkSummary> items = toSummaries(response);
 
-            return new SearchResultPage(items, total, page, size);
+            // 마지막 번호 페이지에서는 다음 페이지를 커서(진입 토큰)로 연결
+            String nextCursor = null;
+            if (page >= numberedPages && (long) page * size < total) {
+                nextCursor = cursorCodec.encode(new SearchCursorCodec.Cursor(
+                        SearchCursorCodec.fingerprint(request), page + 1, total, approx, null, null));
+            }
+            return new SearchResultPage(items, total, page, size, nextCursor, false, approx);
         } catch (Exception e) {
             log.error("Elasticsearch search failed.", e);
-            return new SearchResultPage(List.of(), 0, page, size);
+            return null;
         }
     }
 
+    /**
+     * 커서 페이지. 진입 토큰이면 PIT를 열고 from으로 한 번 이동하고, 이후로는 search_after로 size만큼만 읽습니다.
+     *
+     * @return ES 조회 실패 시 null
+     */
+    private SearchResultPage queryCursor(SearchRequest request, SearchCursorCodec.Cursor cursor) {
+        try {
+            if (cursor.pitId() == null) {
+                return searchWithNewPit(request, cursor);
+            }
+            try {
+                return searchWithPit(request, cursor, cursor.pitId());
+            } catch (ElasticsearchException e) {
+                if (cursor.searchAfter() == null || !ElasticsearchErrorUtil.isSearchContextMissing(e)) {
+                    throw e;
+                }
+                // PIT 만료(keep-alive 초과): 같은 search_after 값으로 새 PIT에서 이어 읽음
+                log.info("Search PIT expired, reopening: {}", e.getMessage());
+                return searchWithNewPit(request, cursor);
+            }
+        } catch (Exception e) {
+            log.error("Elasticsearch cursor search failed.", e);
+            return null;
+        }
+    }
+
+    /**
+     * 새 PIT로 읽고, 실패하면 열어 둔 PIT를 바로 닫습니다.
+     */
+    private SearchResultPage searchWithNewPit(SearchRequest request, SearchCursorCodec.Cursor cursor) throws Exception {
+        String pitId = openPit();
+        try {
+            return searchWithPit(request, cursor, pitId);
+        } catch (Exception e) {
+            closePit(pitId);
+            throw e;
+        }
+    }
+
+    private SearchResultPage searchWithPit(SearchRequest request, SearchCursorCodec.Cursor cursor, String pitId) throws Exception {
+        int size = request.size();
+        Query query = buildQuery(request);
+        List<SortOptions> sortOptions = buildCursorSort(request.sort());
+
+        SearchResponse<WorkDocument> response = client.search(s -> {
+                    // PIT 검색은 index를 지정하지 않고, sort 뒤에 _shard_doc tiebreaker가 자동으로 붙음
+                    s.pit(p -> p.id(pitId).keepAlive(t -> t.time(pitKeepAlive)));
+                    s.size(size);
+                    s.trackTotalHits(t -> t.enabled(false));
+                    s.query(query);
+                    s.sort(sortOptions);
+                    if (cursor.searchAfter() != null) {
+                        s.searchAfter(toFieldValues(cursor.searchAfter()));
+                    } else {
+                        s.from(Math.max(0, (cursor.page() - 1) * size));
+                    }
+                    s.source(src -> src.filter(f -> f.includes(SUMMARY_FIELDS)));
+                    return s;
+                },
+                WorkDocument.class
+        );
+
+        List<Hit<WorkDocument>> hits = response.hits().hits();
+        long total = cursor.total();
+        boolean approx = cursor.totalApprox();
+        if (approx && hits.size() < size) {
+            // 끝에 닿았으면 정확한 건수를 바로 알 수 있음
+            total = (long) (cursor.page() - 1) * size + hits.size();
+            approx = false;
+        } else if (approx) {
+            Long exact = totalCounter.exactTotal(cursor.fingerprint());
+            if (exact != null) {
+                total = exact;
+                approx = false;
+            } else if ((long) (cursor.page() + 2) * size >= total) {
+                // 하한 근처(마지막 페이지들)까지 왔을 때만 정확한 건수를 백그라운드로 셈
+                totalCounter.countInBackground(cursor.fingerprint(), INDEX, query);
+            }
+        }
+
+        String nextPit = response.pitId() != null ? response.pitId() : pitId;
+        String nextCursor = null;
+        if (hits.size() == size && (approx || (long) cursor.page() * size < total)) {
+            nextCursor = cursorCodec.encode(new SearchCursorCodec.Cursor(
+                    cursor.fingerprint(), cursor.page() + 1, total, approx, nextPit, fromFieldValues(hits.getLast().sort())));
+        } else {
+            // 마지막 페이지: 더 이어 읽을 토큰이 없으므로 keep-alive를 기다리지 않고 닫음
+            closePit(nextPit);
+        }
+        return new SearchResultPage(toSummaries(response), total, cursor.page(), size, nextCursor, true, approx);
+    }
+
+    private String openPit() throws Exception {
+        return client.openPointInTime(o -> o.index(INDEX).keepAlive(t -> t.time(pitKeepAlive))).id();
+    }
+
+    private void closePit(String pitId) {
+        try {
+            client.closePointInTime(c -> c.id(pitId));
+        } catch (Exception e) {
+            // 닫지 못해도 keep-alive가 지나면 ES가 정리함
+            log.warn("Failed to close search PIT.", e);
+        }
+    }
+
+    private List<WorkSummary> toSummaries(SearchResponse<WorkDocument> response) {
+        return response.hits().hits().stream()
+                .map(hit -> toSummary(hit.id(), hit.source()))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static List<FieldValue> toFieldValues(List<Object> values) {
+        List<FieldValue> out = new ArrayList<>(values.size());
+        for (Object v : values) {
+            if (v == null) {
+                out.add(FieldValue.NULL);
+            } else if (v instanceof Double || v instanceof Float) {
+                out.add(FieldValue.of(((Number) v).doubleValue()));
+            } else if (v instanceof Number n) {
+                out.add(FieldValue.of(n.longValue()));
+            } else if (v instanceof Boolean b) {
+                out.add(FieldValue.of(b));
+            } else {
+                out.add(FieldValue.of(String.valueOf(v)));
+            }
+        }
+        return out;
+    }
+
+    private static List<Object> fromFieldValues(List<FieldValue> values) {
+        List<Object> out = new ArrayList<>(values.size());
+        for (FieldValue v : values) {
+            if (v.isLong()) {
+                out.add(v.longValue());
+            } else if (v.isDouble()) {
+                out.add(v.doubleValue());
+            } else if (v.isBoolean()) {
+                out.add(v.booleanValue());
+            } else if (v.isString()) {
+                out.add(v.stringValue());
+            } else {
+                out.add(null);
+            }
+        }
+        return out;
+    }
+
     private Query buildQuery(SearchRequest request) {
         List<Query> must = new ArrayList<>();
         List<Query> filter = new ArrayList<>();
@@ -211,53 +438,28 @@ public class ElasticsearchSearchService implements SearchService {
         };
     }
 
-    private WorkSummary toSummary(String id, Map<?, ?> source) {
-        if (source == null) {
-            return null;
-        }
-
-        String title = asString(source.get("title"));
-        LocalDate publicationDate = parseDate(asString(source.get("publication_date")));
-        String institutions = extractInstitutionNames(source.get("institutions"));
-        String bestLinkType = asString(source.get("best_link_type"));
-        String bestLinkUrl = asString(source.get("best_link_url"));
-
-        return new WorkSummary(id, title, institutions, publicationDate, bestLinkType, bestLinkUrl);
-    }
-
-    private String extractInstitutionNames(Object institutionsValue) {
-        if (!(institutionsValue instanceof List<?> list)) {
-            return "";
-        }
-
-        Set<String> names = new LinkedHashSet<>();
-        for (Object entry : list) {
-            if (!(entry instanceof Map<?, ?> m)) {
-                continue;
-            }
-            String name = asString(m.get("name"));
-            if (name != null && !name.isBlank()) {
-                names.add(name);
-            }
-        }
-        return String.join(", ", names);
-    }
-
-    private String asString(Object value) {
-        if (value == null) {
-            return null;
+    /**
+     * search_after는 sort가 명시돼야 하므로 relevance도 `_score desc`로 적습니다.
+     */
+    private List<SortOptions> buildCursorSort(SearchRequest.Sort sort) {
+        List<SortOptions> sortOptions = buildSort(sort);
+        if (!sortOptions.isEmpty()) {
+            return sortOptions;
         }
-        return String.valueOf(value);
+        return List.of(SortOptions.of(s -> s.score(sc -> sc.order(SortOrder.Desc))));
     }
 
-    private LocalDate parseDate(String value) {
-        if (value == null || value.isBlank()) {
-            return null;
-        }
-        try {
-            return LocalDate.parse(value);
-        } catch (Exception e) {
+    private WorkSummary toSummary(String id, WorkDocument source) {
+        if (source == null) {
             return null;
         }
+        return new WorkSummary(
+                id,
+                source.title(),
+                source.institutionNamesText(),
+                source.publicationLocalDate(),
+                source.bestLinkType(),
+                source.bestLinkUrl()
+        );
     }
 }
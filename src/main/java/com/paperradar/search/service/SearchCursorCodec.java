@@ -0,0 +1,134 @@
+package com.paperradar.search.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paperradar.search.dto.SearchRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 깊은 페이지용 커서 토큰(`cursor` 파라미터)을 만들고 검증합니다.
+ * <p>
+ * 토큰은 `base64url(JSON).base64url(HMAC-SHA256)` 형태입니다. URL에 노출되므로 서명으로 변조를 막고,
+ * 검색 조건 지문을 넣어 다른 검색에 재사용하지 못하게 합니다.
+ */
+@Component
+public class SearchCursorCodec {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchCursorCodec.class);
+
+    private static final String HMAC = "HmacSHA256";
+    private static final Base64.Encoder B64 = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder B64D = Base64.getUrlDecoder();
+
+    /**
+     * @param page        이 토큰으로 가져올 페이지 번호(표시용)
+     * @param total       진입 시점의 전체 건수 (커서 페이지에서는 다시 세지 않음)
+     * @param totalApprox total이 하한인지 여부
+     * @param pitId       point-in-time id, 진입 토큰이면 null
+     * @param searchAfter 이전 페이지 마지막 hit의 sort 값, 진입 토큰이면 null(from으로 이동)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Cursor(
+            @JsonProperty("f") String fingerprint,
+            @JsonProperty("p") int page,
+            @JsonProperty("t") long total,
+            @JsonProperty("ta") boolean totalApprox,
+            @JsonProperty("pit") String pitId,
+            @JsonProperty("a") List<Object> searchAfter
+    ) {}
+
+    private final ObjectMapper objectMapper;
+    private final SecretKeySpec key;
+
+    @Autowired
+    public SearchCursorCodec(
+            ObjectMapper objectMapper,
+            @Value("${paperradar.search.cursor.secret:}") String secret
+    ) {
+        this(objectMapper, secret == null || secret.isBlank() ? randomKey() : secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    SearchCursorCodec(ObjectMapper objectMapper, byte[] secret) {
+        this.objectMapper = objectMapper;
+        this.key = new SecretKeySpec(secret, HMAC);
+    }
+
+    /**
+     * page를 뺀 검색 조건 지문. 같은 조건이면 같은 값입니다.
+     */
+    static String fingerprint(SearchRequest request) {
+        try {
+            String canonical = SearchResultCache.Key.of(request).withPage(0).toString();
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return B64.encodeToString(Arrays.copyOf(digest, 12));
+        } catch (Exception e) {
+            throw new IllegalStateException("SHA-256 unavailable.", e);
+        }
+    }
+
+    public String encode(Cursor cursor) {
+        try {
+            byte[] payload = objectMapper.writeValueAsBytes(cursor);
+            return B64.encodeToString(payload) + "." + B64.encodeToString(sign(payload));
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to encode search cursor.", e);
+        }
+    }
+
+    /**
+     * @return 서명이 맞고 같은 검색 조건의 토큰이면 커서, 아니면 null
+     */
+    public Cursor decode(String token, SearchRequest request) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot == token.length() - 1) {
+            return null;
+        }
+        try {
+            byte[] payload = B64D.decode(token.substring(0, dot));
+            byte[] signature = B64D.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(sign(payload), signature)) {
+                log.debug("Rejected search cursor with bad signature.");
+                return null;
+            }
+            Cursor cursor = objectMapper.readValue(payload, Cursor.class);
+            if (cursor.page() < 1 || !fingerprint(request).equals(cursor.fingerprint())) {
+                return null;
+            }
+            return cursor;
+        } catch (Exception e) {
+            log.debug("Rejected malformed search cursor.", e);
+            return null;
+        }
+    }
+
+    private byte[] sign(byte[] payload) throws Exception {
+        Mac mac = Mac.getInstance(HMAC);
+        mac.init(key);
+        return mac.doFinal(payload);
+    }
+
+    private static byte[] randomKey() {
+        // 비워 두면 기동마다 새 키: 재기동/다른 인스턴스에서는 기존 토큰이 무효가 되어 번호 페이지로 돌아감
+        byte[] bytes = new byte[32];
+        new SecureRandom().nextBytes(bytes);
+        return bytes;
+    }
+}
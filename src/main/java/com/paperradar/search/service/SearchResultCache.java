@@ -0,0 +1,217 @@
+package com.paperradar.search.service;
+
+import com.paperradar.ingest.model.IngestJobFinishedEvent;
+import com.paperradar.search.dto.SearchRequest;
+import com.paperradar.search.model.SearchResultPage;
+import com.paperradar.util.KeywordNormalizeUtil;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 결과 페이지 캐시. (프로세스 내 LRU + TTL)
+ * <p>
+ * 항목 수와 총 weight(결과 item 수 합)로 크기를 제한하고, 수집 job이 끝나면 전부 비웁니다.
+ */
+@Component
+public class SearchResultCache {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchResultCache.class);
+
+    /**
+     * 관리 화면/API 표시용 통계.
+     */
+    public record Stats(
+            boolean enabled,
+            int entries,
+            long weight,
+            long hits,
+            long misses,
+            long evictions,
+            long invalidations,
+            double hitRate
+    ) {}
+
+    /**
+     * 결과가 같은 요청이 같은 key가 되도록 정규화한 값. (keyword/instId는 검색 서비스가 어차피 정규화/trim함)
+     */
+    record Key(
+            String q,
+            LocalDate from,
+            LocalDate to,
+            String keyword,
+            String instId,
+            String author,
+            SearchRequest.Sort sort,
+            int page,
+            int size
+    ) {
+        static Key of(SearchRequest r) {
+            return new Key(
+                    blankToNull(r.q()),
+                    r.from(),
+                    r.to(),
+                    blankToNull(KeywordNormalizeUtil.normalize(r.keyword())),
+                    blankToNull(r.instId() == null ? null : r.instId().trim()),
+                    blankToNull(r.author()),
+                    r.sort(),
+                    r.page(),
+                    r.size()
+            );
+        }
+
+        Key withPage(int page) {
+            return new Key(q, from, to, keyword, instId, author, sort, page, size);
+        }
+
+        private static String blankToNull(String s) {
+            return s == null || s.isBlank() ? null : s;
+        }
+    }
+
+    private record Entry(SearchResultPage page, long expiresAtNanos, int weight) {}
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long maxWeight;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long weight = 0;
+    private long generation = 0;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @Autowired
+    public SearchResultCache(
+            @Value("${paperradar.search.cache.enabled:true}") boolean enabled,
+            @Value("${paperradar.search.cache.max-entries:1000}") int maxEntries,
+            @Value("${paperradar.search.cache.max-weight:20000}") long maxWeight,
+            @Value("${paperradar.search.cache.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this(enabled, maxEntries, maxWeight, Duration.ofSeconds(Math.max(1, ttlSeconds)), System::nanoTime);
+    }
+
+    SearchResultCache(boolean enabled, int maxEntries, long maxWeight, Duration ttl, LongSupplier nanoClock) {
+        this.enabled = enabled;
+        this.maxEntries = Math.max(1, maxEntries);
+        this.maxWeight = Math.max(1, maxWeight);
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @return 캐시된 결과, 없거나 만료됐으면 null
+     */
+    public SearchResultPage get(SearchRequest request) {
+        if (!enabled) {
+            return null;
+        }
+        Key key = Key.of(request);
+        synchronized (this) {
+            Entry e = entries.get(key);
+            if (e != null && nanoClock.getAsLong() - e.expiresAtNanos < 0) {
+                hits.incrementAndGet();
+                return e.page;
+            }
+            if (e != null) {
+                remove(key);
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * 조회를 시작하기 전에 받아 두고 {@link #put}에 넘깁니다.
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * @param generation 조회 시작 전의 {@link #generation()}. 그사이 캐시가 비워졌으면(수집 완료) 저장하지 않습니다.
+     */
+    public void put(SearchRequest request, SearchResultPage page, long generation) {
+        if (!enabled || page == null) {
+            return;
+        }
+        Key key = Key.of(request);
+        int w = 1 + (page.items() == null ? 0 : page.items().size());
+        synchronized (this) {
+            if (generation != this.generation) {
+                return;
+            }
+            remove(key);
+            entries.put(key, new Entry(page, nanoClock.getAsLong() + ttlNanos, w));
+            weight += w;
+            evictIfNeeded();
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (this) {
+            entries.clear();
+            weight = 0;
+            generation++;
+        }
+        invalidations.incrementAndGet();
+    }
+
+    @EventListener
+    public void onIngestJobFinished(IngestJobFinishedEvent event) {
+        invalidateAll();
+        log.debug("Search cache cleared after ingest job {} ({}).", event.jobId(), event.status());
+    }
+
+    public Stats stats() {
+        long h = hits.get();
+        long m = misses.get();
+        synchronized (this) {
+            return new Stats(
+                    enabled,
+                    entries.size(),
+                    weight,
+                    h,
+                    m,
+                    evictions.get(),
+                    invalidations.get(),
+                    h + m == 0 ? 0.0 : (double) h / (h + m)
+            );
+        }
+    }
+
+    private void remove(Key key) {
+        Entry old = entries.remove(key);
+        if (old != null) {
+            weight -= old.weight;
+        }
+    }
+
+    /**
+     * 접근 순서가 가장 오래된 항목부터 버립니다.
+     */
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || weight > maxWeight) && it.hasNext()) {
+            Map.Entry<Key, Entry> eldest = it.next();
+            it.remove();
+            weight -= eldest.getValue().weight;
+            evictions.incrementAndGet();
+        }
+    }
+}
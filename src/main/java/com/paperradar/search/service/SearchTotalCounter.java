@@ -0,0 +1,102 @@
+package com.paperradar.search.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import com.paperradar.ingest.model.IngestJobFinishedEvent;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * track_total_hits 상한을 넘는 검색의 정확한 건수를 백그라운드에서 세어 둡니다.
+ * <p>
+ * 사용자가 하한 근처(마지막 페이지들)까지 넘겨 볼 때만 요청하고, 결과는 검색 조건 지문별로 보관합니다.
+ * 수집 job이 끝나면 비웁니다.
+ */
+@Component
+public class SearchTotalCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchTotalCounter.class);
+
+    private static final int MAX_ENTRIES = 256;
+
+    private final ElasticsearchClient client;
+    private final Executor executor;
+
+    private final Map<String, Long> totals = new LinkedHashMap<>(64, 0.75f, true);
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private long generation = 0;
+
+    @Autowired
+    public SearchTotalCounter(ElasticsearchClient client) {
+        this(client, Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("search-count-", 0).factory()));
+    }
+
+    SearchTotalCounter(ElasticsearchClient client, Executor executor) {
+        this.client = client;
+        this.executor = executor;
+    }
+
+    /**
+     * @return 세어 둔 정확한 건수, 아직 없으면 null
+     */
+    public synchronized Long exactTotal(String fingerprint) {
+        return totals.get(fingerprint);
+    }
+
+    public void countInBackground(String fingerprint, String index, Query query) {
+        countInBackground(fingerprint, () -> client.count(c -> c.index(index).query(query)).count());
+    }
+
+    /**
+     * 같은 지문을 이미 세고 있거나 세어 뒀으면 무시합니다. 실패는 기록하지 않아 다음 요청에서 다시 시도합니다.
+     */
+    void countInBackground(String fingerprint, Callable<Long> count) {
+        if (exactTotal(fingerprint) != null || !inFlight.add(fingerprint)) {
+            return;
+        }
+        long startedAt;
+        synchronized (this) {
+            startedAt = generation;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    Long total = count.call();
+                    synchronized (this) {
+                        if (startedAt != generation) {
+                            // 세는 도중 수집이 끝났으면 버림
+                            return;
+                        }
+                        totals.put(fingerprint, total);
+                        if (totals.size() > MAX_ENTRIES) {
+                            totals.remove(totals.keySet().iterator().next());
+                        }
+                    }
+                } catch (Exception e) {
+                    log.warn("Background exact count failed.", e);
+                } finally {
+                    inFlight.remove(fingerprint);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(fingerprint);
+            log.warn("Failed to schedule background exact count.", e);
+        }
+    }
+
+    @EventListener
+    public synchronized void onIngestJobFinished(IngestJobFinishedEvent event) {
+        generation++;
+        totals.clear();
+    }
+}
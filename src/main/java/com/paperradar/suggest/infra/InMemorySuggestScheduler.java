@@ -0,0 +1,26 @@
+package com.paperradar.suggest.infra;
+
+import com.paperradar.suggest.service.InMemorySuggestEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수집 job 없이 바뀐 데이터(기관명 등)도 반영되도록 메모리 자동완성 인덱스를 주기적으로 전체 재구성합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "paperradar.suggest.memory.enabled", havingValue = "true")
+public class InMemorySuggestScheduler {
+
+    private final InMemorySuggestEngine engine;
+
+    @Scheduled(
+            initialDelayString = "${paperradar.suggest.memory.full-rebuild-interval-millis:21600000}",
+            fixedDelayString = "${paperradar.suggest.memory.full-rebuild-interval-millis:21600000}"
+    )
+    public void rebuild() {
+        engine.requestFullRebuild();
+    }
+}
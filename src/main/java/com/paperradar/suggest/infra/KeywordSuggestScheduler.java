@@ -0,0 +1,26 @@
+package com.paperradar.suggest.infra;
+
+import com.paperradar.suggest.service.KeywordSuggestIndexer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수집 job 종료 시에는 바뀐 키워드만 갱신하므로, works에서 빠진 키워드 정리와 문서 수 보정을 위해 주기적으로 전체 재구성합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "paperradar.suggest.keyword.index-enabled", havingValue = "true", matchIfMissing = true)
+public class KeywordSuggestScheduler {
+
+    private final KeywordSuggestIndexer indexer;
+
+    @Scheduled(
+            initialDelayString = "${paperradar.suggest.keyword.full-rebuild-interval-millis:21600000}",
+            fixedDelayString = "${paperradar.suggest.keyword.full-rebuild-interval-millis:21600000}"
+    )
+    public void rebuild() {
+        indexer.requestRebuild();
+    }
+}
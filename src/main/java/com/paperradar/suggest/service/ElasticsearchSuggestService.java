@@ -3,11 +3,15 @@ package com.paperradar.suggest.service;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
 import co.elastic.clients.elasticsearch._types.aggregations.StringTermsBucket;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.CompletionSuggestOption;
+import co.elastic.clients.elasticsearch.core.search.Suggestion;
 import com.paperradar.ingest.openalex.OpenAlexInstitutionClient;
 import com.paperradar.suggest.model.SuggestItem;
 import com.paperradar.util.RegexEscapeUtil;
 import com.paperradar.util.KeywordNormalizeUtil;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -23,8 +27,15 @@ public class ElasticsearchSuggestService implements SuggestService {
 
     private static final Logger log = LoggerFactory.getLogger(ElasticsearchSuggestService.class);
 
+    private static final long AUTHOR_NAME_SUGGEST_RECHECK_NANOS = Duration.ofMinutes(5).toNanos();
+
     private final ElasticsearchClient client;
     private final OpenAlexInstitutionClient openAlexInstitutionClient;
+    private final KeywordSuggestIndexer keywordSuggestIndexer;
+    private final InMemorySuggestEngine memoryEngine;
+
+    private volatile boolean authorNameSuggestReady;
+    private volatile long nextAuthorNameSuggestCheckNanos = System.nanoTime();
 
     @Override
     public List<SuggestItem> suggestKeywords(String prefix, int size) {
@@ -32,6 +43,49 @@ public class ElasticsearchSuggestService implements SuggestService {
         if (normalized.isBlank()) {
             return List.of();
         }
+        List<SuggestItem> inMemory = memoryEngine.suggestKeywords(normalized, size);
+        if (inMemory != null && !inMemory.isEmpty()) {
+            return inMemory;
+        }
+        if (keywordSuggestIndexer.isReady()) {
+            try {
+                return suggestKeywordsByCompletion(normalized, size);
+            } catch (Exception e) {
+                log.warn("Keyword completion suggest failed, falling back to terms aggregation.", e);
+            }
+        }
+        return suggestKeywordsByTerms(normalized, size);
+    }
+
+    /**
+     * `keyword_suggest` completion 필드 접두어 조회. (문서 수 weight 순)
+     */
+    private List<SuggestItem> suggestKeywordsByCompletion(String normalized, int size) throws Exception {
+        SearchResponse<Void> response = client.search(s -> s
+                        .index(KeywordSuggestIndexer.INDEX)
+                        .source(src -> src.fetch(false))
+                        .suggest(sg -> sg.suggesters("keywords", fs -> fs
+                                .prefix(normalized)
+                                .completion(c -> c.field("suggest").size(size).skipDuplicates(true))
+                        )),
+                Void.class
+        );
+        List<SuggestItem> items = new ArrayList<>();
+        for (Suggestion<Void> suggestion : response.suggest().getOrDefault("keywords", List.of())) {
+            if (!suggestion.isCompletion()) continue;
+            for (CompletionSuggestOption<Void> option : suggestion.completion().options()) {
+                String keyword = option.text();
+                if (keyword == null || keyword.isBlank()) continue;
+                items.add(new SuggestItem(keyword, keyword));
+            }
+        }
+        return items;
+    }
+
+    /**
+     * 인덱스가 아직 비어 있을 때 쓰는 기존 방식. (works term 사전을 regex로 훑음)
+     */
+    private List<SuggestItem> suggestKeywordsByTerms(String normalized, int size) {
         String regex = RegexEscapeUtil.escapeForElasticsearchRegex(normalized) + ".*";
         try {
             SearchResponse<Void> response = client.search(s -> s
@@ -59,8 +113,15 @@ public class ElasticsearchSuggestService implements SuggestService {
             return List.of();
         }
 
+        String trimmed = prefix.trim();
+        if (!looksLikeInstitutionId(trimmed)) {
+            List<SuggestItem> inMemory = memoryEngine.suggestInstitutions(trimmed, size);
+            if (inMemory != null && !inMemory.isEmpty()) {
+                return inMemory;
+            }
+        }
+
         try {
-            String trimmed = prefix.trim();
             String openAlexUrlPrefix = trimmed.startsWith("I") ? "https://openalex.org/" + trimmed : null;
             SearchResponse<Map> response = client.search(s -> s
                             .index("institutions")
@@ -117,6 +178,93 @@ public class ElasticsearchSuggestService implements SuggestService {
 
     @Override
     public List<SuggestItem> suggestAuthors(String prefix, int size) {
+        if (prefix != null && !prefix.isBlank()) {
+            List<SuggestItem> inMemory = memoryEngine.suggestAuthors(prefix.trim(), size);
+            if (inMemory != null && !inMemory.isEmpty()) {
+                return inMemory;
+            }
+        }
+        String normalized = KeywordNormalizeUtil.normalize(prefix);
+        if (!normalized.isBlank() && isAuthorNameSuggestReady()) {
+            try {
+                return suggestAuthorsByPrefix(normalized, size);
+            } catch (Exception e) {
+                log.warn("Author prefix suggest failed, falling back to terms aggregation.", e);
+            }
+        }
+        return suggestAuthorsByTerms(prefix, size);
+    }
+
+    /**
+     * `authors.name_suggest` prefix로 맞는 저자만 골라 works 수 순으로 돌려줍니다.
+     */
+    private List<SuggestItem> suggestAuthorsByPrefix(String normalized, int size) throws Exception {
+        Query byPrefix = Query.of(q -> q.prefix(p -> p.field("authors.name_suggest").value(normalized)));
+        SearchResponse<Void> response = client.search(s -> s
+                        .index("works")
+                        .size(0)
+                        .query(q -> q.nested(n -> n.path("authors").query(byPrefix)))
+                        .aggregations("authors", a -> a
+                                .nested(n -> n.path("authors"))
+                                .aggregations("matched", a2 -> a2
+                                        .filter(byPrefix)
+                                        .aggregations("names", a3 -> a3
+                                                .terms(t -> t.field("authors.name").size(size))
+                                        )
+                                )
+                        ),
+                Void.class
+        );
+
+        Aggregate nested = response.aggregations().get("authors");
+        if (nested == null || !nested.isNested()) {
+            return List.of();
+        }
+        Aggregate matched = nested.nested().aggregations().get("matched");
+        if (matched == null || !matched.isFilter()) {
+            return List.of();
+        }
+        return termsToItems(matched.filter().aggregations().get("names"));
+    }
+
+    /**
+     * name_suggest가 없는 예전 문서가 남아 있으면 빠지는 저자가 생기므로 기존 방식을 씁니다.
+     * (한 번 다 채워지면 이후 수집 문서에는 항상 들어가므로 다시 확인하지 않음)
+     */
+    private boolean isAuthorNameSuggestReady() {
+        if (authorNameSuggestReady) {
+            return true;
+        }
+        long now = System.nanoTime();
+        if (now - nextAuthorNameSuggestCheckNanos < 0) {
+            return false;
+        }
+        nextAuthorNameSuggestCheckNanos = now + AUTHOR_NAME_SUGGEST_RECHECK_NANOS;
+        try {
+            long missing = client.count(c -> c
+                    .index("works")
+                    .query(q -> q.nested(n -> n
+                            .path("authors")
+                            .query(nq -> nq.bool(b -> b
+                                    .filter(f -> f.exists(e -> e.field("authors.name")))
+                                    .mustNot(mn -> mn.exists(e -> e.field("authors.name_suggest")))
+                            ))
+                    ))
+            ).count();
+            authorNameSuggestReady = missing == 0;
+            if (!authorNameSuggestReady) {
+                log.info("{} works still lack authors.name_suggest; run the backfill in /admin/maintenance.", missing);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to check authors.name_suggest backfill status.", e);
+        }
+        return authorNameSuggestReady;
+    }
+
+    /**
+     * 예전 방식. (nested 저자명 전체를 대소문자 무시 regex로 훑음)
+     */
+    private List<SuggestItem> suggestAuthorsByTerms(String prefix, int size) {
         String regex = toAsciiCaseInsensitivePrefixRegex(prefix);
         try {
             SearchResponse<Void> response = client.search(s -> s
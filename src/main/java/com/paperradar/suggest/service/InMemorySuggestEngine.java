@@ -0,0 +1,278 @@
+package com.paperradar.suggest.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.aggregations.CompositeAggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.CompositeAggregationSource;
+import co.elastic.clients.elasticsearch._types.aggregations.CompositeBucket;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.util.ObjectBuilder;
+import com.paperradar.ingest.model.IngestJobFinishedEvent;
+import com.paperradar.suggest.model.SuggestItem;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 앱 메모리에 두는 키워드/저자/기관명 자동완성. (`paperradar.suggest.memory.enabled=true`)
+ * <p>
+ * 기동 시와 수집 job이 끝날 때 works를 composite 집계로 훑어 전체를 새로 만든 뒤 통째로 교체합니다.
+ * (다시 수집된 works의 이전 내용을 알 수 없어 증분으로 더하면 중복 집계되므로 항상 전체를 셉니다)
+ * 만드는 동안에는 이전 인덱스로 응답하고, 아직 만들어지지 않았거나 꺼져 있으면 null을 돌려주며 호출 측은 ES/OpenAlex로 조회합니다.
+ */
+@Component
+public class InMemorySuggestEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemorySuggestEngine.class);
+
+    private static final int PAGE_SIZE = 1000;
+
+    private record Snapshot(
+            PrefixSuggestIndex keywords,
+            PrefixSuggestIndex authors,
+            PrefixSuggestIndex institutions
+    ) {}
+
+    private final ElasticsearchClient client;
+    private final boolean enabled;
+    private final int maxEntriesPerType;
+
+    private volatile Snapshot snapshot;
+
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+    private final ExecutorService builder = Executors.newSingleThreadExecutor(
+            Thread.ofVirtual().name("suggest-memory-", 0).factory());
+
+    public InMemorySuggestEngine(
+            ElasticsearchClient client,
+            @Value("${paperradar.suggest.memory.enabled:false}") boolean enabled,
+            @Value("${paperradar.suggest.memory.max-entries-per-type:200000}") int maxEntriesPerType
+    ) {
+        this.client = client;
+        this.enabled = enabled;
+        this.maxEntriesPerType = Math.max(1, maxEntriesPerType);
+    }
+
+    /**
+     * @return 준비 전/꺼짐이면 null
+     */
+    public List<SuggestItem> suggestKeywords(String normalizedPrefix, int size) {
+        Snapshot s = snapshot;
+        return s == null ? null : toItems(s.keywords().top(normalizedPrefix, size));
+    }
+
+    public List<SuggestItem> suggestAuthors(String prefix, int size) {
+        Snapshot s = snapshot;
+        return s == null ? null : toItems(s.authors().top(prefix, size));
+    }
+
+    public List<SuggestItem> suggestInstitutions(String prefix, int size) {
+        Snapshot s = snapshot;
+        return s == null ? null : toItems(s.institutions().top(prefix, size));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        requestFullRebuild();
+    }
+
+    @EventListener
+    public void onIngestJobFinished(IngestJobFinishedEvent event) {
+        requestFullRebuild();
+    }
+
+    /**
+     * 백그라운드 전체 재구성을 예약합니다. 이미 대기 중이면 합칩니다.
+     */
+    public void requestFullRebuild() {
+        if (!enabled || !rebuildQueued.compareAndSet(false, true)) {
+            return;
+        }
+        builder.execute(() -> {
+            rebuildQueued.set(false);
+            rebuild();
+        });
+    }
+
+    private void rebuild() {
+        try {
+            Map<String, Long> keywords = new HashMap<>();
+            Map<String, Long> authors = new HashMap<>();
+            Map<String, Long> institutionWeights = new HashMap<>();
+            scanWorks(keywords, authors, institutionWeights);
+
+            snapshot = new Snapshot(
+                    index(toEntries(keywords)),
+                    index(toEntries(authors)),
+                    institutionIndex(institutionWeights)
+            );
+            log.info("Built in-memory suggest index (keywords={}, authors={}, institutions={}).",
+                    snapshot.keywords().size(), snapshot.authors().size(), snapshot.institutions().size());
+        } catch (Exception e) {
+            log.warn("Failed to build in-memory suggest index.", e);
+        }
+    }
+
+    private void scanWorks(
+            Map<String, Long> keywords,
+            Map<String, Long> authors,
+            Map<String, Long> institutionWeights
+    ) throws Exception {
+        scanTerms("keyword_candidates", null, (term, count) -> keywords.merge(term, count, Long::sum));
+        scanTerms("authors.name", "authors", (term, count) -> authors.merge(term, count, Long::sum));
+        scanTerms("institutions.id", null, (term, count) -> institutionWeights.merge(tailId(term), count, Long::sum));
+    }
+
+    /**
+     * composite 집계로 필드의 모든 값과 문서 수를 페이지 단위로 훑습니다. (nested 필드는 nestedPath 지정)
+     */
+    private void scanTerms(String field, String nestedPath, BiConsumer<String, Long> sink) throws Exception {
+        Map<String, FieldValue> after = null;
+        while (true) {
+            Map<String, FieldValue> afterKey = after;
+            Function<Aggregation.Builder, ObjectBuilder<Aggregation>> composite = a -> a.composite(c -> {
+                c.size(PAGE_SIZE);
+                c.sources(Map.of("term", CompositeAggregationSource.of(cs -> cs.terms(t -> t.field(field)))));
+                if (afterKey != null) {
+                    c.after(afterKey);
+                }
+                return c;
+            });
+            SearchResponse<Void> res = client.search(s -> {
+                        s.index("works").size(0);
+                        if (nestedPath == null) {
+                            s.aggregations("terms", composite);
+                        } else {
+                            s.aggregations("nested", a -> a.nested(n -> n.path(nestedPath)).aggregations("terms", composite));
+                        }
+                        return s;
+                    },
+                    Void.class
+            );
+
+            Aggregate agg = nestedPath == null
+                    ? res.aggregations().get("terms")
+                    : res.aggregations().get("nested").nested().aggregations().get("terms");
+            CompositeAggregate page = agg.composite();
+            List<CompositeBucket> buckets = page.buckets().array();
+            for (CompositeBucket b : buckets) {
+                FieldValue key = b.key().get("term");
+                if (key != null && key.isString() && !key.stringValue().isBlank()) {
+                    sink.accept(key.stringValue(), b.docCount());
+                }
+            }
+            after = page.afterKey();
+            if (buckets.isEmpty() || after == null || after.isEmpty()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * institutions 인덱스의 이름에 works 문서 수를 붙입니다. (이름이 없는 기관은 제외)
+     * ES 조회(display_name match_phrase_prefix + name_aliases prefix)와 같게, 이름의 각 단어 시작과 별칭으로도 찾습니다.
+     */
+    private PrefixSuggestIndex institutionIndex(Map<String, Long> weights) throws Exception {
+        List<PrefixSuggestIndex.Entry> out = new ArrayList<>();
+        Map<String, List<String>> aliasesById = new HashMap<>();
+        List<FieldValue> searchAfter = null;
+        while (true) {
+            List<FieldValue> afterValues = searchAfter;
+            SearchResponse<Map> res = client.search(s -> {
+                        s.index("institutions")
+                                .size(PAGE_SIZE)
+                                .sort(so -> so.field(f -> f.field("id").order(SortOrder.Asc)))
+                                .source(src -> src.filter(f -> f.includes("id", "display_name", "name_aliases")));
+                        if (afterValues != null) {
+                            s.searchAfter(afterValues);
+                        }
+                        return s;
+                    },
+                    Map.class
+            );
+            List<Hit<Map>> hits = res.hits().hits();
+            for (Hit<Map> hit : hits) {
+                Map<?, ?> src = hit.source();
+                if (src == null || src.get("id") == null || src.get("display_name") == null) continue;
+                String id = String.valueOf(src.get("id"));
+                String name = String.valueOf(src.get("display_name"));
+                out.add(new PrefixSuggestIndex.Entry(id, name, weights.getOrDefault(tailId(id), 0L)));
+                List<String> aliases = asStrings(src.get("name_aliases"));
+                if (!aliases.isEmpty()) {
+                    aliasesById.put(id, aliases);
+                }
+            }
+            if (hits.size() < PAGE_SIZE) {
+                return index(out, e -> {
+                    List<String> keys = PrefixSuggestIndex.wordStarts(e.label());
+                    keys.addAll(aliasesById.getOrDefault(e.value(), List.of()));
+                    return keys;
+                });
+            }
+            searchAfter = hits.getLast().sort();
+        }
+    }
+
+    private static List<PrefixSuggestIndex.Entry> toEntries(Map<String, Long> weights) {
+        List<PrefixSuggestIndex.Entry> out = new ArrayList<>(weights.size());
+        weights.forEach((term, weight) -> out.add(new PrefixSuggestIndex.Entry(term, term, weight)));
+        return out;
+    }
+
+    private PrefixSuggestIndex index(List<PrefixSuggestIndex.Entry> entries) {
+        return PrefixSuggestIndex.build(capped(entries));
+    }
+
+    private PrefixSuggestIndex index(
+            List<PrefixSuggestIndex.Entry> entries,
+            Function<PrefixSuggestIndex.Entry, Collection<String>> keysOf
+    ) {
+        return PrefixSuggestIndex.build(capped(entries), keysOf);
+    }
+
+    /**
+     * 항목이 상한을 넘으면 문서 수가 많은 것만 남깁니다.
+     */
+    private List<PrefixSuggestIndex.Entry> capped(List<PrefixSuggestIndex.Entry> entries) {
+        if (entries.size() <= maxEntriesPerType) {
+            return entries;
+        }
+        entries.sort(Comparator.comparingLong(PrefixSuggestIndex.Entry::weight).reversed());
+        return entries.subList(0, maxEntriesPerType);
+    }
+
+    private static List<String> asStrings(Object value) {
+        if (value instanceof Collection<?> c) {
+            return c.stream().filter(Objects::nonNull).map(String::valueOf).toList();
+        }
+        return value == null ? List.of() : List.of(String.valueOf(value));
+    }
+
+    private static List<SuggestItem> toItems(List<PrefixSuggestIndex.Entry> entries) {
+        return entries.stream().map(e -> new SuggestItem(e.value(), e.label())).toList();
+    }
+
+    private static String tailId(String id) {
+        int idx = id.lastIndexOf('/');
+        return idx >= 0 ? id.substring(idx + 1) : id;
+    }
+}
@@ -0,0 +1,393 @@
+package com.paperradar.suggest.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.Conflicts;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.aggregations.CompositeAggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.CompositeAggregationSource;
+import co.elastic.clients.elasticsearch._types.aggregations.CompositeBucket;
+import co.elastic.clients.elasticsearch._types.aggregations.StringTermsBucket;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import com.paperradar.ingest.model.IngestJobFinishedEvent;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 키워드 자동완성용 `keyword_suggest` 인덱스를 채웁니다.
+ * <p>
+ * 수집 job이 끝나면 그 job에서 바뀐 works의 키워드만 문서 수를 다시 세어 덮어쓰고, 전체 재구성(사라진 키워드 정리 포함)은
+ * {@code KeywordSuggestScheduler}가 주기적으로 실행합니다. 입력마다 term 사전 전체를 regex로 훑던 것을 접두어 조회로 바꾸기 위한 것입니다.
+ */
+@Component
+public class KeywordSuggestIndexer {
+
+    private static final Logger log = LoggerFactory.getLogger(KeywordSuggestIndexer.class);
+
+    static final String INDEX = "keyword_suggest";
+    private static final int PAGE_SIZE = 1000;
+    // 문서 id로 쓰므로 너무 긴 값은 제외 (ES id 상한 512 bytes)
+    private static final int MAX_KEYWORD_LENGTH = 200;
+    private static final long READY_RECHECK_NANOS = Duration.ofMinutes(1).toNanos();
+
+    private final KeywordStore store;
+    private final Executor rebuilder;
+    private final boolean enabled;
+
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+    // 대기 중인 증분 갱신의 시작 시각, 여러 job이 밀리면 가장 이른 시각으로 합침
+    private final AtomicReference<Instant> pendingSince = new AtomicReference<>();
+
+    private volatile boolean ready = false;
+    private volatile long nextReadyCheckNanos = System.nanoTime();
+
+    /**
+     * works 키워드 집계와 `keyword_suggest` 읽기/쓰기.
+     */
+    interface KeywordStore {
+        long countSuggestions() throws Exception;
+
+        /**
+         * works의 `keyword_candidates`를 한 페이지 훑습니다. {@code updatedSince}가 있으면 그 이후 색인된 works만 봅니다.
+         */
+        KeywordPage scanKeywords(String updatedSince, Map<String, FieldValue> afterKey) throws Exception;
+
+        /**
+         * 주어진 키워드들의 works 전체 기준 문서 수.
+         */
+        Map<String, Long> countDocFreqs(List<String> keywords) throws Exception;
+
+        /**
+         * @return 쓰지 못한 키워드 수
+         */
+        int writeSuggestions(Map<String, Long> docFreqs, String stamp) throws Exception;
+
+        /**
+         * {@code stamp}보다 먼저 쓰인(이번 재구성에서 나오지 않은) 키워드를 지웁니다.
+         */
+        void deleteOlderThan(String stamp) throws Exception;
+    }
+
+    /**
+     * 키워드 → 이 페이지 집계의 문서 수. {@code afterKey}가 없으면 마지막 페이지입니다.
+     */
+    record KeywordPage(Map<String, Long> docFreqs, Map<String, FieldValue> afterKey) {}
+
+    @Autowired
+    public KeywordSuggestIndexer(
+            ElasticsearchClient client,
+            @Value("${paperradar.suggest.keyword.index-enabled:true}") boolean enabled
+    ) {
+        this(
+                new ElasticsearchKeywordStore(client),
+                Executors.newSingleThreadExecutor(Thread.ofVirtual().name("keyword-suggest-", 0).factory()),
+                enabled
+        );
+    }
+
+    KeywordSuggestIndexer(KeywordStore store, Executor rebuilder, boolean enabled) {
+        this.store = store;
+        this.rebuilder = rebuilder;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 인덱스에 키워드가 채워져 있어 접두어 조회를 쓸 수 있는지. 주기적으로 다시 확인하고, 비어 있으면(첫 배포, 인덱스 초기화 등) 재구성을 예약합니다.
+     */
+    public boolean isReady() {
+        if (!enabled) {
+            return false;
+        }
+        long now = System.nanoTime();
+        if (now - nextReadyCheckNanos < 0) {
+            return ready;
+        }
+        nextReadyCheckNanos = now + READY_RECHECK_NANOS;
+        long count;
+        try {
+            count = store.countSuggestions();
+        } catch (Exception e) {
+            log.warn("Failed to check {} index.", INDEX, e);
+            ready = false;
+            return false;
+        }
+        ready = count > 0;
+        if (!ready) {
+            requestRebuild();
+        }
+        return ready;
+    }
+
+    /**
+     * 백그라운드 전체 재구성을 예약합니다. 이미 대기 중이면 합칩니다.
+     */
+    public void requestRebuild() {
+        if (!enabled || !rebuildQueued.compareAndSet(false, true)) {
+            return;
+        }
+        rebuilder.execute(() -> {
+            rebuildQueued.set(false);
+            rebuild();
+        });
+    }
+
+    /**
+     * {@code since} 이후 바뀐 works의 키워드만 갱신하도록 예약합니다. 이미 대기 중이면 더 이른 시각으로 합칩니다.
+     */
+    public void requestRefresh(Instant since) {
+        if (!enabled) {
+            return;
+        }
+        Instant prev = pendingSince.getAndAccumulate(since, (a, b) -> a == null || b.isBefore(a) ? b : a);
+        if (prev != null) {
+            return;
+        }
+        rebuilder.execute(() -> {
+            Instant from = pendingSince.getAndSet(null);
+            if (from != null) {
+                refreshSince(from);
+            }
+        });
+    }
+
+    @EventListener
+    public void onIngestJobFinished(IngestJobFinishedEvent event) {
+        if (event.created() + event.updated() == 0) {
+            return;
+        }
+        // 아직 한 번도 채우지 않았으면 증분으로는 부족함
+        if (!ready || event.startedAt() == null) {
+            requestRebuild();
+            return;
+        }
+        requestRefresh(event.startedAt());
+    }
+
+    /**
+     * works 전체 키워드로 다시 채우고, 이번에 나오지 않은 키워드는 지웁니다.
+     * 일부 키워드 쓰기가 실패하면 그 키워드가 지워지지 않도록 정리 단계를 건너뜁니다.
+     *
+     * @return 색인한 키워드 수, 실패 시 -1
+     */
+    public synchronized int rebuild() {
+        String stamp = Instant.now().toString();
+        int written = 0;
+        int failed = 0;
+        try {
+            Map<String, FieldValue> after = null;
+            while (true) {
+                KeywordPage scanned = store.scanKeywords(null, after);
+                PageResult page = writePage(scanned.docFreqs(), stamp);
+                written += page.written();
+                failed += page.failed();
+                after = scanned.afterKey();
+                if (after == null || after.isEmpty()) {
+                    break;
+                }
+            }
+
+            if (failed > 0) {
+                // 실패한 키워드는 이전 updated_at 그대로라 정리 조건에 걸리므로 이번에는 지우지 않음
+                log.warn("Rebuilt {} with {} keywords but {} failed; skipped stale keyword cleanup.", INDEX, written, failed);
+            } else {
+                store.deleteOlderThan(stamp);
+                log.info("Rebuilt {} with {} keywords.", INDEX, written);
+            }
+            ready = written > 0;
+            return written;
+        } catch (Exception e) {
+            log.warn("Failed to rebuild {} (written={}).", INDEX, written, e);
+            return -1;
+        }
+    }
+
+    /**
+     * {@code since} 이후 색인된 works에 나오는 키워드만 works 전체 기준 문서 수를 다시 세어 덮어씁니다.
+     * 삭제는 하지 않으므로 works에서 빠진 키워드는 다음 전체 재구성 때 정리됩니다.
+     *
+     * @return 갱신한 키워드 수, 실패 시 -1
+     */
+    public synchronized int refreshSince(Instant since) {
+        String stamp = Instant.now().toString();
+        String from = since.toString();
+        int written = 0;
+        int failed = 0;
+        try {
+            Map<String, FieldValue> after = null;
+            while (true) {
+                KeywordPage scanned = store.scanKeywords(from, after);
+                if (!scanned.docFreqs().isEmpty()) {
+                    List<String> keywords = new ArrayList<>(scanned.docFreqs().keySet());
+                    PageResult page = writePage(store.countDocFreqs(keywords), stamp);
+                    written += page.written();
+                    failed += page.failed();
+                }
+                after = scanned.afterKey();
+                if (after == null || after.isEmpty()) {
+                    break;
+                }
+            }
+            log.info("Refreshed {} keywords in {} for works updated since {} (failed={}).", written, INDEX, from, failed);
+            return written;
+        } catch (Exception e) {
+            log.warn("Failed to refresh {} since {} (written={}).", INDEX, from, written, e);
+            return -1;
+        }
+    }
+
+    private PageResult writePage(Map<String, Long> docFreqs, String stamp) throws Exception {
+        if (docFreqs.isEmpty()) {
+            return new PageResult(0, 0);
+        }
+        int failed = store.writeSuggestions(docFreqs, stamp);
+        return new PageResult(docFreqs.size() - failed, failed);
+    }
+
+    private static Map<String, Object> toDoc(String keyword, long docFreq, String stamp) {
+        Map<String, Object> doc = new LinkedHashMap<>();
+        doc.put("keyword", keyword);
+        doc.put("doc_freq", docFreq);
+        // completion은 weight 순으로 돌려주므로 문서 수가 많은 키워드가 먼저 나옴
+        doc.put("suggest", Map.of(
+                "input", List.of(keyword),
+                "weight", (int) Math.min(docFreq, Integer.MAX_VALUE)
+        ));
+        doc.put("updated_at", stamp);
+        return doc;
+    }
+
+    private record PageResult(int written, int failed) {}
+
+    private static final class ElasticsearchKeywordStore implements KeywordStore {
+
+        private final ElasticsearchClient client;
+
+        private ElasticsearchKeywordStore(ElasticsearchClient client) {
+            this.client = client;
+        }
+
+        @Override
+        public long countSuggestions() throws Exception {
+            return client.count(c -> c.index(INDEX)).count();
+        }
+
+        /**
+         * composite 집계 한 페이지. 너무 긴 키워드는 건너뜁니다.
+         */
+        @Override
+        public KeywordPage scanKeywords(String updatedSince, Map<String, FieldValue> afterKey) throws Exception {
+            SearchResponse<Void> res = client.search(s -> {
+                        s.index("works").size(0);
+                        if (updatedSince != null) {
+                            s.query(q -> q.range(r -> r.date(dr -> dr.field("updated_at").gte(updatedSince))));
+                        }
+                        s.aggregations("kw", a -> a.composite(c -> {
+                            c.size(PAGE_SIZE);
+                            c.sources(Map.of("kw", CompositeAggregationSource.of(cs -> cs
+                                    .terms(t -> t.field("keyword_candidates")))));
+                            if (afterKey != null) {
+                                c.after(afterKey);
+                            }
+                            return c;
+                        }));
+                        return s;
+                    },
+                    Void.class
+            );
+            CompositeAggregate agg = res.aggregations().get("kw").composite();
+            List<CompositeBucket> buckets = agg.buckets().array();
+            if (buckets.isEmpty()) {
+                return new KeywordPage(Map.of(), null);
+            }
+            Map<String, Long> docFreqs = new LinkedHashMap<>();
+            for (CompositeBucket b : buckets) {
+                String keyword = keywordOf(b);
+                if (keyword != null) {
+                    docFreqs.put(keyword, b.docCount());
+                }
+            }
+            return new KeywordPage(docFreqs, agg.afterKey());
+        }
+
+        /**
+         * include로 정확히 그 키워드만 집계하므로 샤드별 상위 N 오차가 없습니다.
+         */
+        @Override
+        public Map<String, Long> countDocFreqs(List<String> keywords) throws Exception {
+            List<FieldValue> values = keywords.stream().map(FieldValue::of).toList();
+            SearchResponse<Void> res = client.search(s -> s
+                            .index("works")
+                            .size(0)
+                            .query(q -> q.terms(t -> t.field("keyword_candidates").terms(tv -> tv.value(values))))
+                            .aggregations("kw", a -> a.terms(t -> t
+                                    .field("keyword_candidates")
+                                    .size(keywords.size())
+                                    .include(i -> i.terms(keywords)))),
+                    Void.class
+            );
+            Map<String, Long> docFreqs = new LinkedHashMap<>();
+            for (StringTermsBucket b : res.aggregations().get("kw").sterms().buckets().array()) {
+                docFreqs.put(b.key().stringValue(), b.docCount());
+            }
+            return docFreqs;
+        }
+
+        @Override
+        public int writeSuggestions(Map<String, Long> docFreqs, String stamp) throws Exception {
+            BulkResponse res = client.bulk(bk -> {
+                docFreqs.forEach((keyword, docFreq) -> bk.operations(op -> op.index(i -> i
+                        .index(INDEX)
+                        .id(keyword)
+                        .document(toDoc(keyword, docFreq, stamp)))));
+                return bk;
+            });
+            if (!res.errors()) {
+                return 0;
+            }
+            int failed = 0;
+            for (var item : res.items()) {
+                if (item.error() != null) {
+                    failed++;
+                    if (failed == 1) {
+                        log.warn("{} bulk item failed (id={}, errorType={}, reason={})",
+                                INDEX, item.id(), item.error().type(), item.error().reason());
+                    }
+                }
+            }
+            log.warn("{} bulk had {} failed item(s).", INDEX, failed);
+            return failed;
+        }
+
+        @Override
+        public void deleteOlderThan(String stamp) throws Exception {
+            // 새로 쓴 문서가 보이게 한 뒤 이전 실행의 문서만 지움
+            client.indices().refresh(r -> r.index(INDEX));
+            client.deleteByQuery(d -> d
+                    .index(INDEX)
+                    .conflicts(Conflicts.Proceed)
+                    .query(q -> q.range(r -> r.date(dr -> dr.field("updated_at").lt(stamp)))));
+        }
+
+        private static String keywordOf(CompositeBucket b) {
+            FieldValue key = b.key().get("kw");
+            if (key == null || !key.isString()) return null;
+            String keyword = key.stringValue();
+            if (keyword.isBlank() || keyword.length() > MAX_KEYWORD_LENGTH) return null;
+            return keyword;
+        }
+    }
+}
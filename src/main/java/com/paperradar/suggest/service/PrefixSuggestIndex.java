@@ -0,0 +1,196 @@
+package com.paperradar.suggest.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 문서 수(weight) 순 접두어 자동완성용 읽기 전용 인덱스.
+ * <p>
+ * 소문자 key로 정렬한 배열이라 같은 접두어의 항목이 연속으로 모여 있습니다. 후보가 많은 짧은 접두어(2~3자)는
+ * 상위 {@link #MAX_RESULTS}개를 미리 뽑아 두고, 더 긴 접두어는 이진 탐색한 구간만 훑습니다.
+ * 한 항목에 key를 여러 개(단어 시작 위치, 별칭 등) 둘 수 있고, 결과에는 항목이 한 번만 나옵니다.
+ */
+final class PrefixSuggestIndex {
+
+    static final int MAX_RESULTS = 20;
+    private static final int MIN_CACHED_PREFIX = 2;
+    private static final int MAX_CACHED_PREFIX = 3;
+
+    /**
+     * @param value  선택 시 쓰는 값 (키워드/저자명/기관 id)
+     * @param label  표시 이름, 접두어 비교 대상
+     * @param weight 문서 수
+     */
+    record Entry(String value, String label, long weight) {}
+
+    private static final Comparator<Entry> BY_WEIGHT_DESC = Comparator
+            .comparingLong(Entry::weight).reversed()
+            .thenComparing(Entry::label);
+
+    static final PrefixSuggestIndex EMPTY = build(List.of());
+
+    private final String[] keys;
+    private final Entry[] entries;
+    private final Map<String, Entry[]> topByShortPrefix;
+    private final int size;
+
+    private PrefixSuggestIndex(String[] keys, Entry[] entries, Map<String, Entry[]> topByShortPrefix, int size) {
+        this.keys = keys;
+        this.entries = entries;
+        this.topByShortPrefix = topByShortPrefix;
+        this.size = size;
+    }
+
+    /**
+     * label 전체의 접두어로만 찾습니다.
+     */
+    static PrefixSuggestIndex build(Collection<Entry> source) {
+        return build(source, e -> List.of(e.label()));
+    }
+
+    /**
+     * @param keysOf 항목을 찾을 때 접두어를 비교할 문자열들
+     */
+    static PrefixSuggestIndex build(Collection<Entry> source, Function<Entry, Collection<String>> keysOf) {
+        List<String> keyList = new ArrayList<>();
+        List<Entry> entryList = new ArrayList<>();
+        int size = 0;
+        for (Entry e : source) {
+            if (e == null || e.label() == null || e.label().isBlank() || e.value() == null) {
+                continue;
+            }
+            size++;
+            Set<String> distinct = new HashSet<>();
+            for (String k : keysOf.apply(e)) {
+                String normalized = k == null ? "" : key(k);
+                if (!normalized.isEmpty() && distinct.add(normalized)) {
+                    keyList.add(normalized);
+                    entryList.add(e);
+                }
+            }
+        }
+        Integer[] order = new Integer[keyList.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing((Integer i) -> keyList.get(i)).thenComparing(i -> entryList.get(i).value()));
+
+        String[] sortedKeys = new String[order.length];
+        Entry[] sortedEntries = new Entry[order.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedKeys[i] = keyList.get(order[i]);
+            sortedEntries[i] = entryList.get(order[i]);
+        }
+
+        Map<String, Entry[]> top = new HashMap<>();
+        for (int len = MIN_CACHED_PREFIX; len <= MAX_CACHED_PREFIX; len++) {
+            int start = 0;
+            while (start < sortedKeys.length) {
+                if (sortedKeys[start].length() < len) {
+                    start++;
+                    continue;
+                }
+                String prefix = sortedKeys[start].substring(0, len);
+                int end = start + 1;
+                while (end < sortedKeys.length && sortedKeys[end].startsWith(prefix)) {
+                    end++;
+                }
+                top.put(prefix, topK(sortedEntries, start, end, MAX_RESULTS));
+                start = end;
+            }
+        }
+        return new PrefixSuggestIndex(sortedKeys, sortedEntries, top, size);
+    }
+
+    /**
+     * @return weight 내림차순 상위 limit개 (limit은 {@link #MAX_RESULTS}까지)
+     */
+    List<Entry> top(String prefix, int limit) {
+        if (prefix == null || limit <= 0) {
+            return List.of();
+        }
+        String p = key(prefix);
+        if (p.isEmpty()) {
+            return List.of();
+        }
+        int k = Math.min(limit, MAX_RESULTS);
+        if (p.length() >= MIN_CACHED_PREFIX && p.length() <= MAX_CACHED_PREFIX) {
+            Entry[] cached = topByShortPrefix.get(p);
+            return cached == null ? List.of() : List.of(cached).subList(0, Math.min(k, cached.length));
+        }
+        int start = lowerBound(p);
+        int end = start;
+        while (end < keys.length && keys[end].startsWith(p)) {
+            end++;
+        }
+        return List.of(topK(entries, start, end, k));
+    }
+
+    /**
+     * @return 항목 수 (key 수가 아님)
+     */
+    int size() {
+        return size;
+    }
+
+    static String key(String label) {
+        return label.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 공백으로 나뉜 각 단어에서 시작하는 꼬리 문자열들. (`match_phrase_prefix`처럼 이름 중간 단어부터 찾을 때)
+     */
+    static List<String> wordStarts(String label) {
+        List<String> out = new ArrayList<>();
+        for (int i = 0; i < label.length(); i++) {
+            if (!Character.isWhitespace(label.charAt(i)) && (i == 0 || Character.isWhitespace(label.charAt(i - 1)))) {
+                out.add(label.substring(i));
+            }
+        }
+        return out;
+    }
+
+    private int lowerBound(String p) {
+        int lo = 0;
+        int hi = keys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid].compareTo(p) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static Entry[] topK(Entry[] entries, int start, int end, int k) {
+        // 가장 약한 항목이 head인 크기 k 힙. key가 여럿인 항목은 한 번만 넣음
+        PriorityQueue<Entry> heap = new PriorityQueue<>(k + 1, BY_WEIGHT_DESC.reversed());
+        Set<Entry> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = start; i < end; i++) {
+            if (!seen.add(entries[i])) {
+                continue;
+            }
+            heap.add(entries[i]);
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        }
+        List<Entry> out = new ArrayList<>(heap);
+        out.sort(BY_WEIGHT_DESC);
+        return out.toArray(Entry[]::new);
+    }
+}
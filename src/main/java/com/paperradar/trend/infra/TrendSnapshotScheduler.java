@@ -0,0 +1,24 @@
+package com.paperradar.trend.infra;
+
+import com.paperradar.trend.service.TrendSnapshotService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수집이 없어도 날짜가 바뀌면 이동평균이 달라지므로 트렌드 스냅샷을 주기적으로 다시 계산합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TrendSnapshotScheduler {
+
+    private final TrendSnapshotService snapshotService;
+
+    @Scheduled(
+            initialDelayString = "${paperradar.trend.snapshot.initial-delay-millis:10000}",
+            fixedDelayString = "${paperradar.trend.snapshot.refresh-interval-millis:900000}"
+    )
+    public void refresh() {
+        snapshotService.refresh();
+    }
+}
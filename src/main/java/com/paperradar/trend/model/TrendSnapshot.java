@@ -0,0 +1,35 @@
+package com.paperradar.trend.model;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 미리 계산해 둔 키워드/기관 트렌드. 각 목록은 이미 정렬되어 있어 앞에서부터 잘라 씁니다.
+ */
+public record TrendSnapshot(
+        List<TrendItem> keywordTrends,
+        List<TrendItem> institutionTrends,
+        Instant computedAt
+) {
+
+    public TrendSnapshot {
+        keywordTrends = keywordTrends == null ? List.of() : List.copyOf(keywordTrends);
+        institutionTrends = institutionTrends == null ? List.of() : List.copyOf(institutionTrends);
+    }
+
+    public static TrendSnapshot empty() {
+        return new TrendSnapshot(List.of(), List.of(), Instant.EPOCH);
+    }
+
+    public List<TrendItem> keywordTrends(int topN) {
+        return head(keywordTrends, topN);
+    }
+
+    public List<TrendItem> institutionTrends(int topN) {
+        return head(institutionTrends, topN);
+    }
+
+    private static List<TrendItem> head(List<TrendItem> items, int topN) {
+        return items.size() <= topN ? items : items.subList(0, Math.max(topN, 0));
+    }
+}
@@ -7,11 +7,13 @@ import com.paperradar.admin.model.InstitutionSummary;
 import com.paperradar.admin.service.ConfigService;
 import com.paperradar.admin.service.InstitutionService;
 import com.paperradar.trend.model.TrendItem;
+import com.paperradar.trend.model.TrendSnapshot;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -41,9 +43,45 @@ public class ElasticsearchTrendService implements TrendService {
     @Value("${ELASTICSEARCH_URL:${elasticsearch.url:http://localhost:9200}}")
     private String elasticsearchUrl;
 
+    /**
+     * java: 최근 31일 일별 문서 수만 받아 이동평균을 직접 계산 / script: ES moving_fn + bucket_script
+     */
+    @Value("${paperradar.trend.compute:java}")
+    private String computeMode;
+
     @Override
     public List<TrendItem> keywordTrends(int topN) {
+        try {
+            return computeKeywordTrends(configService.getActiveConfig(), topN);
+        } catch (Exception e) {
+            log.warn("Trend query error.", e);
+            return List.of();
+        }
+    }
+
+    @Override
+    public List<TrendItem> institutionTrends(int topN) {
+        try {
+            return computeInstitutionTrends(configService.getActiveConfig(), topN);
+        } catch (Exception e) {
+            log.warn("Trend query error.", e);
+            return List.of();
+        }
+    }
+
+    /**
+     * 키워드/기관 트렌드를 한 번에 계산합니다. 스냅샷용이라 ES 오류를 빈 결과로 바꾸지 않고 그대로 던집니다.
+     */
+    TrendSnapshot computeSnapshot(int topN) throws Exception {
         ActiveConfig cfg = configService.getActiveConfig();
+        return new TrendSnapshot(
+                computeKeywordTrends(cfg, topN),
+                computeInstitutionTrends(cfg, topN),
+                Instant.now()
+        );
+    }
+
+    private List<TrendItem> computeKeywordTrends(ActiveConfig cfg, int topN) throws Exception {
         if (cfg.enabledKeywords().isEmpty()) {
             return List.of();
         }
@@ -59,9 +97,7 @@ public class ElasticsearchTrendService implements TrendService {
         return sortAndLimit(items, topN);
     }
 
-    @Override
-    public List<TrendItem> institutionTrends(int topN) {
-        ActiveConfig cfg = configService.getActiveConfig();
+    private List<TrendItem> computeInstitutionTrends(ActiveConfig cfg, int topN) throws Exception {
         if (cfg.enabledInstitutions().isEmpty()) {
             return List.of();
         }
@@ -94,47 +130,53 @@ public class ElasticsearchTrendService implements TrendService {
         return sortAndLimit(labeled, topN);
     }
 
-    private List<TrendItem> runTrendAgg(String aggName, String field, List<String> include, int topN) {
-        try {
-            URI base = toBaseUri(elasticsearchUrl);
-            String body = objectMapper.writeValueAsString(trendQuery(field, include, Math.max(topN, include.size())));
-
-            HttpRequest request = HttpRequest.newBuilder(base.resolve("/works/_search"))
-                    .timeout(Duration.ofSeconds(20))
-                    .header("Content-Type", "application/json")
-                    .POST(HttpRequest.BodyPublishers.ofString(body))
-                    .build();
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            if (response.statusCode() < 200 || response.statusCode() >= 300) {
-                log.warn("Trend query failed (status={}): {}", response.statusCode(), response.body());
-                return List.of();
-            }
-
-            JsonNode root = objectMapper.readTree(response.body());
-            JsonNode buckets = root.path("aggregations").path(aggName).path("buckets");
-            if (!buckets.isArray()) {
-                return List.of();
-            }
+    private List<TrendItem> runTrendAgg(String aggName, String field, List<String> include, int topN) throws Exception {
+        URI base = toBaseUri(elasticsearchUrl);
+        boolean scripted = "script".equalsIgnoreCase(computeMode == null ? "" : computeMode.trim());
+        String body = objectMapper.writeValueAsString(trendQuery(field, include, Math.max(topN, include.size()), scripted));
+
+        HttpRequest request = HttpRequest.newBuilder(base.resolve("/works/_search"))
+                .timeout(Duration.ofSeconds(20))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() < 200 || response.statusCode() >= 300) {
+            throw new IllegalStateException("Trend query failed (status=%d): %s".formatted(response.statusCode(), response.body()));
+        }
 
-            List<TrendItem> out = new ArrayList<>();
-            for (JsonNode b : buckets) {
-                String key = b.path("key").asText("");
-                if (key.isBlank()) continue;
+        JsonNode root = objectMapper.readTree(response.body());
+        return parseBuckets(root.path("aggregations").path(aggName).path("buckets"), scripted);
+    }
 
-                JsonNode days = b.path("per_day").path("buckets");
-                TrendNumbers nums = extractLastValues(days);
-                out.add(new TrendItem(key, key, nums.trendScore, nums.ma7, nums.ma30, nums.total30));
-            }
-            return out;
-        } catch (Exception e) {
-            log.warn("Trend query error.", e);
+    /**
+     * terms 버킷마다 마지막 날짜 기준 수치를 구합니다. (label은 key 그대로)
+     */
+    static List<TrendItem> parseBuckets(JsonNode buckets, boolean scripted) {
+        if (!buckets.isArray()) {
             return List.of();
         }
+
+        List<TrendItem> out = new ArrayList<>();
+        for (JsonNode b : buckets) {
+            String key = b.path("key").asText("");
+            if (key.isBlank()) continue;
+
+            JsonNode days = b.path("per_day").path("buckets");
+            TrendNumbers nums = scripted ? extractLastValues(days) : TrendWindow.lastValues(dailyCounts(days));
+            out.add(new TrendItem(key, key, nums.trendScore(), nums.ma7(), nums.ma30(), nums.total30()));
+        }
+        return out;
     }
 
-    private Map<String, Object> trendQuery(String field, List<String> includeTerms, int bucketSize) {
+    /**
+     * 두 모드 모두 최근 90일 works로 term 버킷을 고르고, java 모드는 일별 집계만 마지막(오늘) 버킷과 직전 30일로 줄입니다.
+     * (31~90일 전에만 문서가 있는 term도 두 모드에서 똑같이 0점으로 나오도록)
+     */
+    static Map<String, Object> trendQuery(String field, List<String> includeTerms, int bucketSize, boolean scripted) {
+        String termsFrom = "now-90d/d";
         Map<String, Object> range = Map.of("range", Map.of(
-                "publication_date", Map.of("gte", "now-90d/d", "lte", "now/d")
+                "publication_date", Map.of("gte", termsFrom, "lte", "now/d")
         ));
 
         Map<String, Object> query = Map.of("bool", Map.of("filter", List.of(range)));
@@ -149,9 +191,21 @@ public class ElasticsearchTrendService implements TrendService {
                 "field", "publication_date",
                 "calendar_interval", "day",
                 "min_doc_count", 0,
-                "extended_bounds", Map.of("min", "now-90d/d", "max", "now/d")
+                "extended_bounds", Map.of("min", termsFrom, "max", "now/d")
         );
 
+        if (!scripted) {
+            String daysFrom = "now-" + TrendWindow.LONG + "d/d";
+            Map<String, Object> recentDays = Map.of(
+                    "field", "publication_date",
+                    "calendar_interval", "day",
+                    "min_doc_count", 0,
+                    "extended_bounds", Map.of("min", daysFrom, "max", "now/d"),
+                    "hard_bounds", Map.of("min", daysFrom, "max", "now/d")
+            );
+            return aggQuery(query, field, terms, Map.of("date_histogram", recentDays));
+        }
+
         Map<String, Object> perDayAggs = Map.of(
                 "ma7", Map.of("moving_fn", Map.of(
                         "buckets_path", "_count",
@@ -179,6 +233,10 @@ public class ElasticsearchTrendService implements TrendService {
                 "aggs", perDayAggs
         );
 
+        return aggQuery(query, field, terms, perDay);
+    }
+
+    private static Map<String, Object> aggQuery(Map<String, Object> query, String field, Map<String, Object> terms, Map<String, Object> perDay) {
         Map<String, Object> by = Map.of(
                 "terms", terms,
                 "aggs", Map.of("per_day", perDay)
@@ -193,9 +251,24 @@ public class ElasticsearchTrendService implements TrendService {
         );
     }
 
-    private record TrendNumbers(double trendScore, double ma7, double ma30, double total30) {}
+    /**
+     * date_histogram 버킷의 doc_count를 순서대로 꺼냅니다.
+     */
+    static long[] dailyCounts(JsonNode dayBuckets) {
+        if (!dayBuckets.isArray()) {
+            return new long[0];
+        }
+        long[] counts = new long[dayBuckets.size()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = dayBuckets.get(i).path("doc_count").asLong(0);
+        }
+        return counts;
+    }
 
-    private TrendNumbers extractLastValues(JsonNode dayBuckets) {
+    /**
+     * script 모드 응답에서 값이 있는 마지막 버킷의 이동평균/trend score를 꺼냅니다.
+     */
+    static TrendNumbers extractLastValues(JsonNode dayBuckets) {
         double lastTrend = 0;
         double lastMa7 = 0;
         double lastMa30 = 0;
@@ -227,7 +300,7 @@ public class ElasticsearchTrendService implements TrendService {
         return new TrendNumbers(lastTrend, lastMa7, lastMa30, lastTotal30);
     }
 
-    private Double numberValue(JsonNode node) {
+    private static Double numberValue(JsonNode node) {
         if (node == null || node.isMissingNode() || node.isNull()) {
             return null;
         }
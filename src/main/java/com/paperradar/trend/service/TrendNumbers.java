@@ -0,0 +1,6 @@
+package com.paperradar.trend.service;
+
+/**
+ * 한 키워드/기관의 마지막 날짜 기준 트렌드 수치.
+ */
+record TrendNumbers(double trendScore, double ma7, double ma30, double total30) {}
@@ -0,0 +1,200 @@
+package com.paperradar.trend.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.core.GetResponse;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.paperradar.admin.model.ActiveConfigChangedEvent;
+import com.paperradar.infra.es.ElasticsearchErrorUtil;
+import com.paperradar.ingest.model.IngestJobFinishedEvent;
+import com.paperradar.trend.model.TrendItem;
+import com.paperradar.trend.model.TrendSnapshot;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * 메인 화면용 트렌드 스냅샷. 요청마다 집계하지 않고 메모리에 둔 최신 스냅샷을 돌려줍니다.
+ * <p>
+ * 수집 job 종료/활성 설정 변경 시 백그라운드에서 다시 계산하고(주기 갱신은 {@code TrendSnapshotScheduler}),
+ * 재기동 직후에도 바로 보이도록 `trend_snapshots` 인덱스에 마지막 결과를 저장해 둡니다.
+ */
+@Service
+public class TrendSnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(TrendSnapshotService.class);
+
+    private static final String INDEX = "trend_snapshots";
+    private static final String ID = "latest";
+
+    private final ElasticsearchTrendService trendService;
+    private final SnapshotStore store;
+    private final Executor refresher;
+    private final int topN;
+
+    private final AtomicReference<TrendSnapshot> current = new AtomicReference<>();
+    private final AtomicBoolean refreshQueued = new AtomicBoolean();
+
+    /**
+     * 마지막 스냅샷 저장소. (재기동 직후 계산 없이 보여주기 위함)
+     */
+    interface SnapshotStore {
+        /**
+         * @return 저장된 스냅샷, 없거나 읽지 못하면 null
+         */
+        TrendSnapshot load();
+
+        void save(TrendSnapshot snapshot);
+    }
+
+    @Autowired
+    public TrendSnapshotService(
+            ElasticsearchTrendService trendService,
+            ElasticsearchClient client,
+            @Value("${paperradar.trend.snapshot.top-n:50}") int topN
+    ) {
+        this(
+                trendService,
+                new ElasticsearchSnapshotStore(client),
+                Executors.newSingleThreadExecutor(Thread.ofVirtual().name("trend-snapshot-", 0).factory()),
+                topN
+        );
+    }
+
+    TrendSnapshotService(ElasticsearchTrendService trendService, SnapshotStore store, Executor refresher, int topN) {
+        this.trendService = trendService;
+        this.store = store;
+        this.refresher = refresher;
+        this.topN = Math.max(topN, 1);
+    }
+
+    /**
+     * 최신 스냅샷. 아직 없으면(기동 직후) 저장본을 읽고, 저장본도 없으면 한 번 계산합니다.
+     */
+    public TrendSnapshot current() {
+        TrendSnapshot snapshot = current.get();
+        return snapshot != null ? snapshot : loadOrCompute();
+    }
+
+    /**
+     * 지금 다시 계산합니다. 실패하면 기존 스냅샷을 유지합니다.
+     *
+     * @return 갱신된 스냅샷, 실패 시 기존 스냅샷(없으면 null)
+     */
+    public synchronized TrendSnapshot refresh() {
+        try {
+            TrendSnapshot snapshot = trendService.computeSnapshot(topN);
+            current.set(snapshot);
+            store.save(snapshot);
+            return snapshot;
+        } catch (Exception e) {
+            log.warn("Failed to refresh trend snapshot.", e);
+            return current.get();
+        }
+    }
+
+    /**
+     * 백그라운드 갱신을 예약합니다. 이미 대기 중인 갱신이 있으면 합칩니다.
+     */
+    public void requestRefresh() {
+        if (!refreshQueued.compareAndSet(false, true)) {
+            return;
+        }
+        refresher.execute(() -> {
+            refreshQueued.set(false);
+            refresh();
+        });
+    }
+
+    @EventListener
+    public void onIngestJobFinished(IngestJobFinishedEvent event) {
+        requestRefresh();
+    }
+
+    @EventListener
+    public void onActiveConfigChanged(ActiveConfigChangedEvent event) {
+        requestRefresh();
+    }
+
+    private synchronized TrendSnapshot loadOrCompute() {
+        TrendSnapshot snapshot = current.get();
+        if (snapshot != null) {
+            return snapshot;
+        }
+        snapshot = store.load();
+        if (snapshot != null) {
+            current.set(snapshot);
+            return snapshot;
+        }
+        snapshot = refresh();
+        return snapshot != null ? snapshot : TrendSnapshot.empty();
+    }
+
+    private static Instant parseInstant(String value) {
+        try {
+            return value == null ? Instant.EPOCH : Instant.parse(value);
+        } catch (Exception e) {
+            return Instant.EPOCH;
+        }
+    }
+
+    private static final class ElasticsearchSnapshotStore implements SnapshotStore {
+
+        private final ElasticsearchClient client;
+
+        private ElasticsearchSnapshotStore(ElasticsearchClient client) {
+            this.client = client;
+        }
+
+        @Override
+        public TrendSnapshot load() {
+            try {
+                GetResponse<StoredTrendSnapshot> response = client.get(g -> g.index(INDEX).id(ID), StoredTrendSnapshot.class);
+                if (!response.found() || response.source() == null) {
+                    return null;
+                }
+                StoredTrendSnapshot stored = response.source();
+                return new TrendSnapshot(stored.keywordTrends(), stored.institutionTrends(), parseInstant(stored.computedAt()));
+            } catch (ElasticsearchException e) {
+                if (!ElasticsearchErrorUtil.isIndexNotFound(e)) {
+                    log.warn("Failed to load trend snapshot.", e);
+                }
+                return null;
+            } catch (Exception e) {
+                log.warn("Failed to load trend snapshot.", e);
+                return null;
+            }
+        }
+
+        @Override
+        public void save(TrendSnapshot snapshot) {
+            try {
+                StoredTrendSnapshot doc = new StoredTrendSnapshot(
+                        snapshot.computedAt().toString(),
+                        snapshot.keywordTrends(),
+                        snapshot.institutionTrends()
+                );
+                client.index(i -> i.index(INDEX).id(ID).document(doc));
+            } catch (Exception e) {
+                log.warn("Failed to persist trend snapshot.", e);
+            }
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record StoredTrendSnapshot(
+            @JsonProperty("computed_at") String computedAt,
+            @JsonProperty("keyword_trends") List<TrendItem> keywordTrends,
+            @JsonProperty("institution_trends") List<TrendItem> institutionTrends
+    ) {}
+}
@@ -0,0 +1,38 @@
+package com.paperradar.trend.service;
+
+/**
+ * 일별 문서 수로 마지막 버킷의 MA7/MA30/30일 합계/trend score를 계산합니다.
+ * <p>
+ * ES `moving_fn`(shift=0)과 같게 현재 버킷은 빼고 직전 window개 버킷만 사용하므로,
+ * script 모드의 마지막 버킷 값과 같은 결과가 나옵니다.
+ */
+final class TrendWindow {
+
+    static final int SHORT = 7;
+    static final int LONG = 30;
+
+    private TrendWindow() {}
+
+    static TrendNumbers lastValues(long[] dailyCounts) {
+        int end = dailyCounts.length - 1;
+        if (end < 1) {
+            return new TrendNumbers(0, 0, 0, 0);
+        }
+
+        int shortFrom = Math.max(0, end - SHORT);
+        int longFrom = Math.max(0, end - LONG);
+        double shortSum = 0;
+        double longSum = 0;
+        for (int i = longFrom; i < end; i++) {
+            longSum += dailyCounts[i];
+        }
+        for (int i = shortFrom; i < end; i++) {
+            shortSum += dailyCounts[i];
+        }
+
+        double ma7 = shortSum / (end - shortFrom);
+        double ma30 = longSum / (end - longFrom);
+        double trendScore = (ma7 - ma30) / Math.max(ma30, 1);
+        return new TrendNumbers(trendScore, ma7, ma30, longSum);
+    }
+}
@@ -6,16 +6,85 @@ public final class KeywordNormalizeUtil {
 
     private KeywordNormalizeUtil() {}
 
+    /**
+     * trim → 공백 문자(`\s`) 연속을 공백 하나로 → 소문자(Locale.ROOT).
+     * <p>
+     * 한 번 훑으면서 처리하고, 이미 정규화된 입력은 새 문자열을 만들지 않고 그대로 돌려줍니다.
+     * ASCII가 아닌 문자가 있으면 소문자 변환만 {@link String#toLowerCase(Locale)}에 맡깁니다.
+     */
     public static String normalize(String raw) {
         if (raw == null) {
             return "";
         }
-        String trimmed = raw.trim();
-        if (trimmed.isEmpty()) {
+        int end = raw.length();
+        int start = 0;
+        while (start < end && raw.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && raw.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
             return "";
         }
-        String collapsedWhitespace = trimmed.replaceAll("\\s+", " ");
-        return collapsedWhitespace.toLowerCase(Locale.ROOT);
+
+        // 바뀌는 문자를 처음 만났을 때만 버퍼를 만듦
+        char[] out = null;
+        int n = 0;
+        boolean prevSpace = false;
+        boolean nonAscii = false;
+        for (int i = start; i < end; i++) {
+            char c = raw.charAt(i);
+            char mapped;
+            if (isWhitespace(c)) {
+                if (prevSpace) {
+                    if (out == null) {
+                        out = copyOf(raw, start, i, end);
+                        n = i - start;
+                    }
+                    continue;
+                }
+                prevSpace = true;
+                mapped = ' ';
+            } else {
+                prevSpace = false;
+                if (c >= 'A' && c <= 'Z') {
+                    mapped = (char) (c + ('a' - 'A'));
+                } else {
+                    nonAscii |= c >= 0x80;
+                    mapped = c;
+                }
+            }
+            if (out == null && mapped != c) {
+                out = copyOf(raw, start, i, end);
+                n = i - start;
+            }
+            if (out != null) {
+                out[n++] = mapped;
+            }
+        }
+
+        String collapsed;
+        if (out != null) {
+            collapsed = new String(out, 0, n);
+        } else if (start == 0 && end == raw.length()) {
+            collapsed = raw;
+        } else {
+            collapsed = raw.substring(start, end);
+        }
+        return nonAscii ? collapsed.toLowerCase(Locale.ROOT) : collapsed;
+    }
+
+    /**
+     * 정규식 `\s`와 같은 집합: [ \t\n\x0B\f\r]
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
     }
-}
 
+    private static char[] copyOf(String raw, int start, int upTo, int end) {
+        char[] out = new char[end - start];
+        raw.getChars(start, upTo, out, 0);
+        return out;
+    }
+}
@@ -1,6 +1,7 @@
 package com.paperradar.web;
 
-import com.paperradar.trend.service.TrendService;
+import com.paperradar.trend.model.TrendSnapshot;
+import com.paperradar.trend.service.TrendSnapshotService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -10,12 +11,13 @@ import org.springframework.web.bind.annotation.GetMapping;
 @RequiredArgsConstructor
 public class HomeController {
 
-    private final TrendService trendService;
+    private final TrendSnapshotService trendSnapshotService;
 
     @GetMapping("/")
     public String index(Model model) {
-        model.addAttribute("keywordTrends", trendService.keywordTrends(10));
-        model.addAttribute("institutionTrends", trendService.institutionTrends(10));
+        TrendSnapshot snapshot = trendSnapshotService.current();
+        model.addAttribute("keywordTrends", snapshot.keywordTrends(10));
+        model.addAttribute("institutionTrends", snapshot.institutionTrends(10));
         return "index";
     }
 }
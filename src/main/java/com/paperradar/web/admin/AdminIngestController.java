@@ -2,6 +2,7 @@ package com.paperradar.web.admin;
 
 import com.paperradar.admin.model.ActiveConfig;
 import com.paperradar.admin.service.ConfigService;
+import com.paperradar.ingest.infra.ExternalApiGuards;
 import com.paperradar.ingest.model.IngestJob;
 import com.paperradar.ingest.model.IngestStatus;
 import com.paperradar.ingest.service.IngestJobService;
@@ -23,6 +24,7 @@ public class AdminIngestController {
 
     private final IngestJobService ingestJobService;
     private final ConfigService configService;
+    private final ExternalApiGuards apiGuards;
 
     @Value("${INGEST_LOOKBACK_YEARS:3}")
     private int lookbackYears;
@@ -70,6 +72,7 @@ public class AdminIngestController {
         model.addAttribute("runningCount", runningCount);
         model.addAttribute("staleRunningCount", staleRunningCount);
         model.addAttribute("staleThresholdMinutes", threshold);
+        model.addAttribute("apiGuards", apiGuards.snapshots());
         return "admin/ingest";
     }
 }
@@ -1,5 +1,6 @@
 package com.paperradar.web.admin;
 
+import com.paperradar.admin.maintenance.service.AuthorNameSuggestBackfillRunRegistry;
 import com.paperradar.admin.maintenance.service.MaintenanceRunRegistry;
 import com.paperradar.admin.maintenance.service.MaintenanceJobService;
 import com.paperradar.admin.maintenance.service.InstitutionIdBackfillRunRegistry;
@@ -14,6 +15,7 @@ public class AdminMaintenanceController {
 
     private final MaintenanceRunRegistry registry;
     private final InstitutionIdBackfillRunRegistry institutionIdRegistry;
+    private final AuthorNameSuggestBackfillRunRegistry authorNameSuggestRegistry;
     private final MaintenanceJobService maintenanceJobService;
 
     @GetMapping("/admin/maintenance")
@@ -24,6 +26,9 @@ public class AdminMaintenanceController {
         model.addAttribute("instIdRunning", institutionIdRegistry.isRunning());
         model.addAttribute("instIdLastResult", institutionIdRegistry.lastResult());
         model.addAttribute("instIdLastRunAt", institutionIdRegistry.lastRunAt());
+        model.addAttribute("authorSuggestRunning", authorNameSuggestRegistry.isRunning());
+        model.addAttribute("authorSuggestLastResult", authorNameSuggestRegistry.lastResult());
+        model.addAttribute("authorSuggestLastRunAt", authorNameSuggestRegistry.lastRunAt());
         model.addAttribute("jobs", maintenanceJobService.recentJobs(20));
         return "admin/maintenance";
     }
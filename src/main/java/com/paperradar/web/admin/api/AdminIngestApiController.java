@@ -2,6 +2,7 @@ package com.paperradar.web.admin.api;
 
 import com.paperradar.ingest.model.IngestJob;
 import com.paperradar.ingest.model.IngestMode;
+import com.paperradar.ingest.model.IngestResumeClaim;
 import com.paperradar.ingest.service.IngestService;
 import com.paperradar.ingest.service.IngestJobService;
 import jakarta.validation.constraints.NotNull;
@@ -9,6 +10,7 @@ import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.beans.factory.annotation.Value;
@@ -50,6 +52,27 @@ public class AdminIngestApiController {
         return Map.of("status", "started", "mode", req.mode().name());
     }
 
+    @PostMapping("/api/admin/ingest/resume")
+    public Map<String, String> resume(@RequestBody IngestResumeRequest req) {
+        if (req == null || req.jobId() == null || req.jobId().isBlank()) {
+            return Map.of("status", "error", "message", "jobId는 필수입니다.");
+        }
+        String jobId = req.jobId().trim();
+        // 시작 전에 원래 job을 선점하므로 같은 job을 두 번 이어받지 않음
+        IngestResumeClaim claim = ingestService.claimResume(jobId).orElse(null);
+        if (claim == null) {
+            return Map.of("status", "error", "message", "이어서 실행할 수 없는 job입니다. (실패한 job이고 남은 소스가 있어야 하며, 이미 이어받은 job은 안 됩니다)");
+        }
+        try {
+            CompletableFuture.runAsync(() -> ingestService.resume(claim), ingestTaskExecutor);
+        } catch (RejectedExecutionException e) {
+            // 실행 대기열이 가득 차 시작하지 못했으면 다시 이어받을 수 있게 선점을 되돌림
+            ingestJobService.releaseResumeClaim(jobId, claim.jobId());
+            return Map.of("status", "error", "message", "수집 작업 대기열이 가득 찼습니다. 잠시 후 다시 시도하세요.");
+        }
+        return Map.of("status", "started", "resumedFrom", jobId, "jobId", claim.jobId());
+    }
+
     @PostMapping("/api/admin/ingest/cleanup")
     public Map<String, Object> cleanup(@RequestBody CleanupRequest req) {
         int defaultMinutes = Math.max(1, staleThresholdMinutes);
@@ -60,5 +83,7 @@ public class AdminIngestApiController {
 
     public record IngestRunRequest(@NotNull IngestMode mode, LocalDate from, LocalDate to) {}
 
+    public record IngestResumeRequest(String jobId) {}
+
     public record CleanupRequest(Integer olderThanMinutes) {}
 }
@@ -1,8 +1,11 @@
 package com.paperradar.web.admin.api;
 
+import com.paperradar.admin.maintenance.model.AuthorNameSuggestBackfillResult;
 import com.paperradar.admin.maintenance.model.WorkLinkBackfillResult;
 import com.paperradar.admin.maintenance.model.WorkInstitutionIdBackfillResult;
 import com.paperradar.admin.maintenance.model.MaintenanceJobType;
+import com.paperradar.admin.maintenance.service.AuthorNameSuggestBackfillRunRegistry;
+import com.paperradar.admin.maintenance.service.AuthorNameSuggestBackfillService;
 import com.paperradar.admin.maintenance.service.InstitutionIdBackfillRunRegistry;
 import com.paperradar.admin.maintenance.service.MaintenanceJobService;
 import com.paperradar.admin.maintenance.service.MaintenanceRunRegistry;
@@ -24,9 +27,11 @@ public class AdminMaintenanceApiController {
 
     private final WorkLinkBackfillService backfillService;
     private final WorkInstitutionIdBackfillService institutionIdBackfillService;
+    private final AuthorNameSuggestBackfillService authorNameSuggestBackfillService;
     private final MaintenanceJobService maintenanceJobService;
     private final MaintenanceRunRegistry registry;
     private final InstitutionIdBackfillRunRegistry institutionIdRegistry;
+    private final AuthorNameSuggestBackfillRunRegistry authorNameSuggestRegistry;
     private final ThreadPoolTaskExecutor ingestTaskExecutor;
 
     @PostMapping("/api/admin/maintenance/recompute-work-links")
@@ -81,6 +86,32 @@ public class AdminMaintenanceApiController {
         return Map.of("status", "started");
     }
 
+    @PostMapping("/api/admin/maintenance/backfill-author-name-suggest")
+    public Map<String, String> backfillAuthorNameSuggest(@RequestBody BackfillRequest req) {
+        if (!authorNameSuggestRegistry.tryStart()) {
+            return Map.of("status", "busy");
+        }
+
+        var job = maintenanceJobService.start(MaintenanceJobType.backfill_author_name_suggest);
+        CompletableFuture.runAsync(() -> {
+            try {
+                AuthorNameSuggestBackfillResult result = authorNameSuggestBackfillService.fillAuthorNameSuggest(req.batchSize(), req.maxDocs());
+                maintenanceJobService.markSuccess(job.jobId(), result.scanned(), result.updatedDocs(), result.failed(), result.failedDocIds());
+                authorNameSuggestRegistry.finish(result);
+            } catch (Exception e) {
+                maintenanceJobService.markFailed(
+                        job.jobId(),
+                        e.getClass().getSimpleName() + ": " + (e.getMessage() == null ? "" : e.getMessage()),
+                        0,
+                        java.util.List.of()
+                );
+                authorNameSuggestRegistry.abort();
+            }
+        }, ingestTaskExecutor);
+
+        return Map.of("status", "started");
+    }
+
     public record BackfillRequest(
             @Min(1) @Max(200) int batchSize,
             @Min(1) @Max(20000) int maxDocs
@@ -0,0 +1,26 @@
+package com.paperradar.web.admin.api;
+
+import com.paperradar.search.service.SearchResultCache;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class AdminSearchCacheApiController {
+
+    private final SearchResultCache searchResultCache;
+
+    @GetMapping("/api/admin/search-cache")
+    public SearchResultCache.Stats stats() {
+        return searchResultCache.stats();
+    }
+
+    @PostMapping("/api/admin/search-cache/clear")
+    public Map<String, String> clear() {
+        searchResultCache.invalidateAll();
+        return Map.of("status", "ok");
+    }
+}
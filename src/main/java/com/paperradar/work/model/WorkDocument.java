@@ -0,0 +1,102 @@
+package com.paperradar.work.model;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * `works` 인덱스 문서. 수집 색인과 검색/상세/백필의 `_source` 역직렬화에 같이 씁니다.
+ * <p>
+ * `_source` 필터로 일부 필드만 받으면 나머지는 null입니다. 색인 시 null 필드는 쓰지 않습니다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record WorkDocument(
+        @JsonProperty("source") String source,
+        @JsonProperty("source_work_id") String sourceWorkId,
+        @JsonProperty("title") String title,
+        @JsonProperty("abstract") String abstractText,
+        @JsonProperty("publication_date") String publicationDate,
+        @JsonProperty("cited_by_count") Integer citedByCount,
+        @JsonProperty("keywords")
+        @JsonFormat(with = JsonFormat.Feature.ACCEPT_SINGLE_VALUE_AS_ARRAY) List<String> keywords,
+        @JsonProperty("keyword_candidates")
+        @JsonFormat(with = JsonFormat.Feature.ACCEPT_SINGLE_VALUE_AS_ARRAY) List<String> keywordCandidates,
+        @JsonProperty("authors")
+        @JsonFormat(with = JsonFormat.Feature.ACCEPT_SINGLE_VALUE_AS_ARRAY) List<Author> authors,
+        @JsonProperty("institutions")
+        @JsonFormat(with = JsonFormat.Feature.ACCEPT_SINGLE_VALUE_AS_ARRAY) List<Institution> institutions,
+        @JsonProperty("doi") String doi,
+        @JsonProperty("landing_page_url") String landingPageUrl,
+        @JsonProperty("pdf_url") String pdfUrl,
+        @JsonProperty("open_access_oa_url") String openAccessOaUrl,
+        @JsonProperty("best_link_url") String bestLinkUrl,
+        @JsonProperty("best_link_type") String bestLinkType,
+        @JsonProperty("content_hash") String contentHash,
+        @JsonProperty("created_at") String createdAt,
+        @JsonProperty("updated_at") String updatedAt
+) {
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Author(
+            @JsonProperty("id") String id,
+            @JsonProperty("name") String name,
+            // 자동완성 접두어 조회용 정규화(소문자) 이름. 예전 문서에는 없을 수 있음
+            @JsonProperty("name_suggest") String nameSuggest
+    ) {}
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Institution(
+            @JsonProperty("id") String id,
+            @JsonProperty("name") String name
+    ) {}
+
+    public WorkDocument withContentHash(String hash) {
+        return new WorkDocument(
+                source, sourceWorkId, title, abstractText, publicationDate, citedByCount,
+                keywords, keywordCandidates, authors, institutions,
+                doi, landingPageUrl, pdfUrl, openAccessOaUrl, bestLinkUrl, bestLinkType,
+                hash, createdAt, updatedAt
+        );
+    }
+
+    /**
+     * @return 날짜 형식이 아니거나 없으면 null
+     */
+    @JsonIgnore
+    public LocalDate publicationLocalDate() {
+        if (publicationDate == null || publicationDate.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(publicationDate);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 기관명(중복/빈 값 제외)을 `, `로 이어 붙입니다.
+     */
+    @JsonIgnore
+    public String institutionNamesText() {
+        if (institutions == null || institutions.isEmpty()) {
+            return "";
+        }
+        List<String> names = new ArrayList<>(institutions.size());
+        for (Institution inst : institutions) {
+            if (inst == null || inst.name() == null || inst.name().isBlank()) continue;
+            if (!names.contains(inst.name())) {
+                names.add(inst.name());
+            }
+        }
+        return String.join(", ", names);
+    }
+}
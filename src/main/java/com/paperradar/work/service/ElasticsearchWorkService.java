@@ -6,8 +6,9 @@ import com.paperradar.work.link.WorkLinkPolicy;
 import com.paperradar.work.link.WorkLinkType;
 import com.paperradar.work.model.WorkDetail;
 import com.paperradar.work.model.WorkDetail.InstitutionRef;
-import java.time.LocalDate;
+import com.paperradar.work.model.WorkDocument;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -34,27 +35,29 @@ public class ElasticsearchWorkService implements WorkService {
         }
 
         try {
-            var res = client.get(g -> g.index("works").id(docId), Map.class);
+            var res = client.get(g -> g.index("works").id(docId), WorkDocument.class);
             if (!res.found() || res.source() == null) {
                 return Optional.empty();
             }
-            Map<?, ?> src = (Map<?, ?>) res.source();
+            WorkDocument src = res.source();
 
-            String title = asString(src.get("title"));
-            String abstractText = asString(src.get("abstract"));
-            LocalDate publicationDate = parseDate(asString(src.get("publication_date")));
-            List<InstitutionRef> institutions = extractInstitutions(src.get("institutions"));
+            List<InstitutionRef> institutions = extractInstitutions(src.institutions());
             String institutionsText = String.join(", ", institutions.stream().map(InstitutionRef::name).filter(this::isNonBlank).toList());
-            List<String> authors = extractAuthors(src.get("authors"));
-            List<String> keywords = extractStringList(src.get("keywords"));
-
-            String doi = asString(src.get("doi"));
-            String landing = asString(src.get("landing_page_url"));
-            String pdf = asString(src.get("pdf_url"));
-            String oa = asString(src.get("open_access_oa_url"));
-            List<WorkLink> links = buildLinks(doi, landing, pdf, oa);
-
-            return Optional.of(new WorkDetail(docId, title, abstractText, publicationDate, institutionsText, institutions, authors, keywords, links));
+            List<String> authors = extractAuthors(src.authors());
+            List<String> keywords = extractStringList(src.keywords());
+            List<WorkLink> links = buildLinks(src.doi(), src.landingPageUrl(), src.pdfUrl(), src.openAccessOaUrl());
+
+            return Optional.of(new WorkDetail(
+                    docId,
+                    src.title(),
+                    src.abstractText(),
+                    src.publicationLocalDate(),
+                    institutionsText,
+                    institutions,
+                    authors,
+                    keywords,
+                    links
+            ));
         } catch (Exception e) {
             log.warn("Failed to load work {}", docId, e);
             return Optional.empty();
@@ -107,15 +110,15 @@ public class ElasticsearchWorkService implements WorkService {
         return s != null && !s.isBlank();
     }
 
-    private List<InstitutionRef> extractInstitutions(Object institutionsValue) {
-        if (!(institutionsValue instanceof List<?> list)) {
+    private List<InstitutionRef> extractInstitutions(List<WorkDocument.Institution> institutions) {
+        if (institutions == null) {
             return List.of();
         }
-        Map<String, InstitutionRef> byKey = new java.util.LinkedHashMap<>();
-        for (Object entry : list) {
-            if (!(entry instanceof Map<?, ?> m)) continue;
-            String id = asString(m.get("id"));
-            String name = asString(m.get("name"));
+        Map<String, InstitutionRef> byKey = new LinkedHashMap<>();
+        for (WorkDocument.Institution inst : institutions) {
+            if (inst == null) continue;
+            String id = inst.id();
+            String name = inst.name();
             if (!isNonBlank(id) && !isNonBlank(name)) {
                 continue;
             }
@@ -125,42 +128,21 @@ public class ElasticsearchWorkService implements WorkService {
         return List.copyOf(byKey.values());
     }
 
-    private List<String> extractAuthors(Object authorsValue) {
-        if (!(authorsValue instanceof List<?> list)) {
+    private List<String> extractAuthors(List<WorkDocument.Author> authors) {
+        if (authors == null) {
             return List.of();
         }
         Set<String> names = new LinkedHashSet<>();
-        for (Object entry : list) {
-            if (!(entry instanceof Map<?, ?> m)) continue;
-            String name = asString(m.get("name"));
-            if (isNonBlank(name)) names.add(name);
+        for (WorkDocument.Author a : authors) {
+            if (a != null && isNonBlank(a.name())) names.add(a.name());
         }
         return List.copyOf(names);
     }
 
-    private List<String> extractStringList(Object value) {
-        if (!(value instanceof List<?> list)) {
+    private List<String> extractStringList(List<String> values) {
+        if (values == null) {
             return List.of();
         }
-        List<String> out = new ArrayList<>();
-        for (Object o : list) {
-            String s = asString(o);
-            if (isNonBlank(s)) out.add(s);
-        }
-        return out.stream().distinct().toList();
-    }
-
-    private String asString(Object value) {
-        if (value == null) return null;
-        return String.valueOf(value);
-    }
-
-    private LocalDate parseDate(String value) {
-        if (!isNonBlank(value)) return null;
-        try {
-            return LocalDate.parse(value);
-        } catch (Exception e) {
-            return null;
-        }
+        return values.stream().filter(this::isNonBlank).distinct().toList();
     }
 }
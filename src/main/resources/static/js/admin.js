@@ -210,6 +210,24 @@
     }
   });
 
+  onClick('button[data-action="ingest-resume"]', async (btn) => {
+    const msg = document.getElementById("ingestMsg");
+    const ok = confirm("실패한 수집을 마지막 체크포인트(소스별 cursor)부터 이어서 실행합니다.\n\n계속 진행할까요?");
+    if (!ok) return;
+
+    try {
+      const res = await postJson("/api/admin/ingest/resume", { jobId: btn.dataset.jobId });
+      if (res && res.status === "error") {
+        setMsg(msg, res.message || "이어서 실행 실패", "danger");
+        return;
+      }
+      setMsg(msg, "이어서 수집을 시작했습니다. 새로고침 버튼으로 진행 상황을 확인하세요.", "info");
+      setTimeout(() => location.reload(), 800);
+    } catch (e) {
+      setMsg(msg, `이어서 실행 실패: ${e && e.message ? e.message : ""}`.trim(), "danger");
+    }
+  });
+
   onClick('button[data-action="ingest-cleanup"]', async (btn) => {
     const msg = document.getElementById("ingestMsg");
     const minutes = Number(btn.dataset.minutes || "30");
@@ -275,6 +293,30 @@
     }
   });
 
+  onClick('button[data-action="maintenance-backfill-author-suggest"]', async () => {
+    const msg = document.getElementById("maintenanceAuthorSuggestMsg");
+    const batch = document.getElementById("authorSuggestBatch");
+    const max = document.getElementById("authorSuggestMax");
+    const batchSize = batch ? Number(batch.value || "200") : 200;
+    const maxDocs = max ? Number(max.value || "20000") : 20000;
+    try {
+      const res = await postJson("/api/admin/maintenance/backfill-author-name-suggest", {
+        batchSize,
+        maxDocs,
+      });
+      if (msg) {
+        msg.classList.remove("hidden");
+        msg.textContent = res.status === "busy" ? "이미 실행 중입니다." : "시작했습니다. 완료 후 새로고침하세요.";
+      }
+      setTimeout(() => location.reload(), 800);
+    } catch (e) {
+      if (msg) {
+        msg.classList.remove("hidden");
+        msg.textContent = "실행 실패";
+      }
+    }
+  });
+
   async function fetchSuggestInstitutions(prefix) {
     const url = `/api/suggest/institution?prefix=${encodeURIComponent(prefix)}&size=10`;
     const res = await fetch(url, { headers: { Accept: "application/json" } });
@@ -0,0 +1,234 @@
+package com.paperradar.infra.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.net.ssl.SSLSession;
+import org.junit.jupiter.api.Test;
+
+class ExternalApiGuardTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final List<Long> sleeps = new ArrayList<>();
+
+    private ExternalApiGuard guard(int maxRetries, int failureThreshold) {
+        return guard(null, maxRetries, failureThreshold);
+    }
+
+    private ExternalApiGuard guard(TokenBucketRateLimiter rateLimiter, int maxRetries, int failureThreshold) {
+        return new ExternalApiGuard(
+                "test",
+                rateLimiter,
+                2,
+                maxRetries,
+                Duration.ofMillis(100),
+                Duration.ofSeconds(5),
+                failureThreshold,
+                Duration.ofSeconds(30),
+                nanos::get,
+                sleeps::add
+        );
+    }
+
+    @Test
+    void retriesRetryableStatusHonoringRetryAfter() throws Exception {
+        ExternalApiGuard g = guard(2, 10);
+        AtomicInteger calls = new AtomicInteger();
+
+        HttpResponse<String> res = g.execute(() -> calls.incrementAndGet() == 1
+                ? response(429, Map.of("Retry-After", List.of("2")))
+                : response(200, Map.of()));
+
+        assertEquals(200, res.statusCode());
+        assertEquals(2, calls.get());
+        assertEquals(List.of(2000L), sleeps);
+        assertEquals(ExternalApiGuard.State.CLOSED, g.snapshot().state());
+    }
+
+    @Test
+    void opensAfterConsecutiveFailuresAndProbesAfterOpenDuration() throws Exception {
+        ExternalApiGuard g = guard(0, 2);
+        for (int i = 0; i < 2; i++) {
+            assertThrows(IOException.class, () -> g.execute(() -> {
+                throw new IOException("timeout");
+            }));
+        }
+        assertEquals(ExternalApiGuard.State.OPEN, g.snapshot().state());
+        assertThrows(ExternalApiGuard.RejectedException.class, () -> g.execute(() -> response(200, Map.of())));
+        assertEquals(1, g.snapshot().rejected());
+
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+        assertEquals(ExternalApiGuard.State.HALF_OPEN, g.snapshot().state());
+        assertEquals(200, g.execute(() -> response(200, Map.of())).statusCode());
+        assertEquals(ExternalApiGuard.State.CLOSED, g.snapshot().state());
+        assertEquals(0, g.snapshot().consecutiveFailures());
+    }
+
+    @Test
+    void failedProbeReopensCircuit() throws Exception {
+        ExternalApiGuard g = guard(0, 1);
+        g.execute(() -> response(503, Map.of()));
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        assertEquals(503, g.execute(() -> response(503, Map.of())).statusCode());
+        assertEquals(ExternalApiGuard.State.OPEN, g.snapshot().state());
+    }
+
+    @Test
+    void failureThatOpensCircuitIsNotRetriedIntoRejection() throws Exception {
+        ExternalApiGuard g = guard(3, 1);
+        AtomicInteger calls = new AtomicInteger();
+        IOException first = assertThrows(IOException.class, () -> g.execute(() -> {
+            calls.incrementAndGet();
+            throw new IOException("timeout");
+        }));
+        assertEquals("timeout", first.getMessage());
+        assertEquals(1, calls.get());
+        assertEquals(ExternalApiGuard.State.OPEN, g.snapshot().state());
+
+        // half-open 시험 호출이 실패하면 재시도 없이 원래 예외/응답을 돌려줌
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+        IOException probe = assertThrows(IOException.class, () -> g.execute(() -> {
+            calls.incrementAndGet();
+            throw new IOException("still down");
+        }));
+        assertEquals("still down", probe.getMessage());
+        assertEquals(2, calls.get());
+
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+        assertEquals(503, g.execute(() -> {
+            calls.incrementAndGet();
+            return response(503, Map.of());
+        }).statusCode());
+        assertEquals(3, calls.get());
+        assertEquals(List.of(), sleeps);
+        assertEquals(0, g.snapshot().rejected());
+        assertEquals(ExternalApiGuard.State.OPEN, g.snapshot().state());
+    }
+
+    @Test
+    void rateLimitedResponsesDoNotTripBreaker() throws Exception {
+        ExternalApiGuard g = guard(0, 1);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(429, g.execute(() -> response(429, Map.of())).statusCode());
+        }
+        assertEquals(ExternalApiGuard.State.CLOSED, g.snapshot().state());
+        assertEquals(0, g.snapshot().consecutiveFailures());
+    }
+
+    @Test
+    void rateLimitedProbeKeepsCircuitHalfOpen() throws Exception {
+        ExternalApiGuard g = guard(0, 1);
+        g.execute(() -> response(503, Map.of()));
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        assertEquals(429, g.execute(() -> response(429, Map.of())).statusCode());
+        assertEquals(ExternalApiGuard.State.HALF_OPEN, g.snapshot().state());
+        assertEquals(200, g.execute(() -> response(200, Map.of())).statusCode());
+        assertEquals(ExternalApiGuard.State.CLOSED, g.snapshot().state());
+    }
+
+    @Test
+    void waitsForRateLimitTokenOutsideBulkhead() throws Exception {
+        ExternalApiGuard g = guard(new TokenBucketRateLimiter(1, 1), 0, 10);
+        g.execute(() -> response(200, Map.of()));
+
+        CountDownLatch called = new CountDownLatch(1);
+        Thread waiting = Thread.ofVirtual().start(() -> {
+            try {
+                g.execute(() -> {
+                    called.countDown();
+                    return response(200, Map.of());
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // 다음 토큰(약 1초 뒤)을 기다리는 동안에는 bulkhead 자리를 차지하지 않음
+        Thread.sleep(200);
+        assertEquals(1L, called.getCount());
+        assertEquals(0, g.snapshot().inFlight());
+        assertTrue(called.await(5, TimeUnit.SECONDS));
+        waiting.join();
+    }
+
+    @Test
+    void clientErrorsDoNotTripBreaker() throws Exception {
+        ExternalApiGuard g = guard(3, 1);
+        assertEquals(404, g.execute(() -> response(404, Map.of())).statusCode());
+        assertEquals(ExternalApiGuard.State.CLOSED, g.snapshot().state());
+        assertEquals(List.of(), sleeps);
+    }
+
+    @Test
+    void parsesRetryAfter() {
+        Instant now = Instant.parse("2024-06-01T00:00:00Z");
+        assertEquals(5000L, ExternalApiGuard.retryAfterMillis("5", now));
+        assertEquals(10_000L, ExternalApiGuard.retryAfterMillis("Sat, 01 Jun 2024 00:00:10 GMT", now));
+        assertNull(ExternalApiGuard.retryAfterMillis("soon", now));
+        assertNull(ExternalApiGuard.retryAfterMillis(null, now));
+    }
+
+    private static HttpResponse<String> response(int status, Map<String, List<String>> headers) {
+        return new HttpResponse<>() {
+            @Override
+            public int statusCode() {
+                return status;
+            }
+
+            @Override
+            public HttpRequest request() {
+                return null;
+            }
+
+            @Override
+            public Optional<HttpResponse<String>> previousResponse() {
+                return Optional.empty();
+            }
+
+            @Override
+            public HttpHeaders headers() {
+                return HttpHeaders.of(headers, (k, v) -> true);
+            }
+
+            @Override
+            public String body() {
+                return "";
+            }
+
+            @Override
+            public Optional<SSLSession> sslSession() {
+                return Optional.empty();
+            }
+
+            @Override
+            public URI uri() {
+                return URI.create("https://example.org/");
+            }
+
+            @Override
+            public HttpClient.Version version() {
+                return HttpClient.Version.HTTP_1_1;
+            }
+        };
+    }
+}
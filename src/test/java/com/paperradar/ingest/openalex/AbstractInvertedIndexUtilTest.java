@@ -2,6 +2,7 @@ package com.paperradar.ingest.openalex;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 
@@ -26,5 +27,56 @@ class AbstractInvertedIndexUtilTest {
         assertEquals("", AbstractInvertedIndexUtil.toText(om.readTree("null")));
         assertEquals("", AbstractInvertedIndexUtil.toText(om.readTree("[]")));
     }
-}
 
+    @Test
+    void skipsGapsAndUsesLastTokenForDuplicatePositions() throws Exception {
+        String json = """
+                {
+                  "deep": [0],
+                  "learning": [3, 1],
+                  "models": [1],
+                  "bad": [-1, 1000000, "x"]
+                }
+                """;
+        assertEquals("deep models learning", AbstractInvertedIndexUtil.toText(om.readTree(json)));
+    }
+
+    @Test
+    void keepsPositionsBelowCapAndDropsOnesAtOrAboveIt() throws Exception {
+        int last = AbstractInvertedIndexUtil.MAX_POSITIONS - 1;
+        String json = """
+                {
+                  "first": [0],
+                  "last": [%d],
+                  "over": [%d, %d]
+                }
+                """.formatted(last, last + 1, Integer.MAX_VALUE);
+
+        assertEquals("first last", AbstractInvertedIndexUtil.toText(om.readTree(json)));
+        JsonParser p = om.getFactory().createParser(json);
+        p.nextToken();
+        assertEquals("first last", AbstractInvertedIndexUtil.toText(p));
+    }
+
+    @Test
+    void streamingMatchesTreeForLongAbstract() throws Exception {
+        // 위치를 역순으로 배정: w499가 첫 단어
+        StringBuilder json = new StringBuilder("{");
+        for (int i = 0; i < 500; i++) {
+            if (i > 0) json.append(',');
+            json.append("\"w").append(i).append("\": [").append(499 - i).append(']');
+        }
+        json.append('}');
+        StringBuilder expected = new StringBuilder();
+        for (int i = 499; i >= 0; i--) {
+            if (i < 499) expected.append(' ');
+            expected.append('w').append(i);
+        }
+
+        JsonParser p = om.getFactory().createParser(json.toString());
+        p.nextToken();
+        String streamed = AbstractInvertedIndexUtil.toText(p);
+        assertEquals(AbstractInvertedIndexUtil.toText(om.readTree(json.toString())), streamed);
+        assertEquals(expected.toString(), streamed);
+    }
+}
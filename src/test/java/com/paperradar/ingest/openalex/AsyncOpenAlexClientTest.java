@@ -0,0 +1,199 @@
+package com.paperradar.ingest.openalex;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paperradar.ingest.infra.ExternalApiGuards;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.net.Authenticator;
+import java.net.CookieHandler;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSession;
+import org.junit.jupiter.api.Test;
+
+class AsyncOpenAlexClientTest {
+
+    private final ObjectMapper om = new ObjectMapper();
+
+    @Test
+    void decodesGzipBodyWhileParsing() throws Exception {
+        byte[] plain = fixture("openalex/works-page.json");
+        ByteArrayOutputStream gz = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(gz)) {
+            out.write(plain);
+        }
+
+        OpenAlexWorkPage expected = OpenAlexStreamingJsonMapper.parsePage(om.getFactory(), new ByteArrayInputStream(plain));
+        try (InputStream body = AsyncOpenAlexClient.decode(new ByteArrayInputStream(gz.toByteArray()), "gzip")) {
+            assertEquals(expected, OpenAlexStreamingJsonMapper.parsePage(om.getFactory(), body));
+        }
+    }
+
+    @Test
+    void passesThroughIdentityBody() throws Exception {
+        InputStream body = new ByteArrayInputStream(new byte[0]);
+        assertSame(body, AsyncOpenAlexClient.decode(body, ""));
+        assertSame(body, AsyncOpenAlexClient.decode(body, null));
+    }
+
+    @Test
+    void requestsNextPageWhileConsumerHandlesCurrentOne() {
+        StubHttpClient http = new StubHttpClient(cursor -> CompletableFuture.completedFuture(
+                response(cursor.equals("*") ? page("c2") : page(""))));
+        AsyncOpenAlexClient client = client(http);
+
+        List<String> seenAtFirstPage = new CopyOnWriteArrayList<>();
+        List<OpenAlexWorkPage> pages = new CopyOnWriteArrayList<>();
+        client.streamWorksByKeyword("llm", null, null, null, page -> {
+            if (pages.isEmpty()) {
+                http.awaitRequests(2);
+                seenAtFirstPage.addAll(http.cursors);
+            }
+            pages.add(page);
+        });
+        client.close();
+
+        assertEquals(List.of("*", "c2"), seenAtFirstPage);
+        assertEquals(2, pages.size());
+        assertEquals("", pages.get(1).nextCursor());
+    }
+
+    @Test
+    void closesPrefetchedBodyArrivingAfterStreamStops() throws Exception {
+        CountDownLatch closed = new CountDownLatch(1);
+        InputStream lateBody = new ByteArrayInputStream(page("").getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() {
+                closed.countDown();
+            }
+        };
+        // 취소 요청을 무시하는 future: 응답이 이미 오는 중인 상황
+        CompletableFuture<HttpResponse<InputStream>> late = new CompletableFuture<>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                return false;
+            }
+        };
+        StubHttpClient http = new StubHttpClient(cursor -> cursor.equals("*")
+                ? CompletableFuture.completedFuture(response(page("c2")))
+                : late);
+        AsyncOpenAlexClient client = client(http);
+
+        assertThrows(IllegalStateException.class, () -> client.streamWorksByKeyword("llm", null, null, null, page -> {
+            http.awaitRequests(2);
+            throw new IllegalStateException("indexing failed");
+        }));
+        late.complete(new StubResponse(200, lateBody));
+
+        assertTrue(closed.await(5, TimeUnit.SECONDS));
+        client.close();
+    }
+
+    private AsyncOpenAlexClient client(HttpClient http) {
+        ExternalApiGuards guards = new ExternalApiGuards(null, 8, 0, 5, 30, 4, 0, 5, 5, 5, 60);
+        return new AsyncOpenAlexClient(om, guards, new HttpOpenAlexClient(om, guards), http);
+    }
+
+    private static String page(String nextCursor) {
+        return """
+                {"meta": {"next_cursor": "%s"}, "results": [{"id": "https://openalex.org/W1", "title": "T"}]}
+                """.formatted(nextCursor);
+    }
+
+    private static HttpResponse<InputStream> response(String json) {
+        return new StubResponse(200, new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private record StubResponse(int statusCode, InputStream body) implements HttpResponse<InputStream> {
+        @Override public HttpRequest request() { return null; }
+        @Override public Optional<HttpResponse<InputStream>> previousResponse() { return Optional.empty(); }
+        @Override public HttpHeaders headers() { return HttpHeaders.of(Map.of(), (k, v) -> true); }
+        @Override public Optional<SSLSession> sslSession() { return Optional.empty(); }
+        @Override public URI uri() { return null; }
+        @Override public HttpClient.Version version() { return HttpClient.Version.HTTP_2; }
+    }
+
+    /**
+     * 요청 URI의 cursor별로 정해 둔 응답을 돌려주는 HttpClient.
+     */
+    private static final class StubHttpClient extends HttpClient {
+
+        private static final Pattern CURSOR = Pattern.compile("[?&]cursor=([^&]*)");
+
+        private final Function<String, CompletableFuture<HttpResponse<InputStream>>> responses;
+        private final List<String> cursors = new CopyOnWriteArrayList<>();
+
+        StubHttpClient(Function<String, CompletableFuture<HttpResponse<InputStream>>> responses) {
+            this.responses = responses;
+        }
+
+        void awaitRequests(int count) {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (cursors.size() < count && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> handler) {
+            Matcher m = CURSOR.matcher(request.uri().getRawQuery());
+            String cursor = m.find() ? m.group(1) : "";
+            cursors.add(cursor);
+            return (CompletableFuture<HttpResponse<T>>) (CompletableFuture<?>) responses.apply(cursor);
+        }
+
+        @Override
+        public <T> CompletableFuture<HttpResponse<T>> sendAsync(
+                HttpRequest request, HttpResponse.BodyHandler<T> handler, HttpResponse.PushPromiseHandler<T> push) {
+            return sendAsync(request, handler);
+        }
+
+        @Override
+        public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override public Optional<CookieHandler> cookieHandler() { return Optional.empty(); }
+        @Override public Optional<Duration> connectTimeout() { return Optional.empty(); }
+        @Override public Redirect followRedirects() { return Redirect.NEVER; }
+        @Override public Optional<ProxySelector> proxy() { return Optional.empty(); }
+        @Override public SSLContext sslContext() { return null; }
+        @Override public SSLParameters sslParameters() { return null; }
+        @Override public Optional<Authenticator> authenticator() { return Optional.empty(); }
+        @Override public Version version() { return Version.HTTP_2; }
+        @Override public Optional<Executor> executor() { return Optional.empty(); }
+    }
+
+    private static byte[] fixture(String path) throws Exception {
+        try (InputStream in = AsyncOpenAlexClientTest.class.getClassLoader().getResourceAsStream(path)) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.paperradar.ingest.openalex;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class OpenAlexSelectProjectionTest {
+
+    private final ObjectMapper om = new ObjectMapper();
+
+    @Test
+    void mappersGiveSameWorksOnProjectedResponse() throws Exception {
+        JsonNode full = om.readTree(fixture("openalex/works-page.json"));
+        JsonNode projected = project(full, Set.copyOf(OpenAlexJsonMapper.CONSUMED_FIELDS));
+
+        assertEquals(OpenAlexJsonMapper.parseWorks(full), OpenAlexJsonMapper.parseWorks(projected));
+
+        byte[] projectedBytes = om.writeValueAsBytes(projected);
+        OpenAlexWorkPage streamed = OpenAlexStreamingJsonMapper.parsePage(om.getFactory(), new ByteArrayInputStream(projectedBytes));
+        assertEquals(OpenAlexJsonMapper.parseWorks(full), streamed.works());
+    }
+
+    @Test
+    void buildsSelectParam() {
+        assertEquals(String.join(",", OpenAlexJsonMapper.CONSUMED_FIELDS), OpenAlexJsonMapper.selectParam(""));
+        assertEquals(String.join(",", OpenAlexJsonMapper.CONSUMED_FIELDS), OpenAlexJsonMapper.selectParam(null));
+        assertEquals("id,title,doi", OpenAlexJsonMapper.selectParam(" title, doi ,title"));
+        assertNull(OpenAlexJsonMapper.selectParam("*"));
+    }
+
+    /**
+     * OpenAlex `select=`처럼 각 work의 최상위 필드만 남깁니다.
+     */
+    private JsonNode project(JsonNode page, Set<String> fields) {
+        ObjectNode copy = page.deepCopy();
+        for (JsonNode w : copy.path("results")) {
+            if (w instanceof ObjectNode obj) {
+                List<String> names = obj.properties().stream().map(e -> e.getKey()).toList();
+                names.stream().filter(n -> !fields.contains(n)).forEach(obj::remove);
+            }
+        }
+        return copy;
+    }
+
+    private static byte[] fixture(String path) throws Exception {
+        try (InputStream in = OpenAlexSelectProjectionTest.class.getClassLoader().getResourceAsStream(path)) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.paperradar.ingest.openalex;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paperradar.ingest.model.OpenAlexWork;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class OpenAlexStreamingJsonMapperTest {
+
+    private final ObjectMapper om = new ObjectMapper();
+
+    @Test
+    void producesSameWorksAsTreeMapper() throws Exception {
+        byte[] json = fixture("openalex/works-page.json");
+        JsonNode root = om.readTree(json);
+
+        OpenAlexWorkPage page = OpenAlexStreamingJsonMapper.parsePage(om.getFactory(), new ByteArrayInputStream(json));
+
+        assertEquals(OpenAlexJsonMapper.parseWorks(root), page.works());
+        assertEquals(root.path("meta").path("next_cursor").asText(""), page.nextCursor());
+    }
+
+    @Test
+    void mapsFixtureFields() throws Exception {
+        byte[] json = fixture("openalex/works-page.json");
+        List<OpenAlexWork> works = OpenAlexStreamingJsonMapper.parsePage(om.getFactory(), new ByteArrayInputStream(json)).works();
+
+        assertEquals(3, works.size());
+        OpenAlexWork first = works.getFirst();
+        assertEquals("10.1109/TNNLS.2024.1234567", first.doi());
+        assertEquals("https://arxiv.org/pdf/2403.01234", first.pdfUrl());
+        assertEquals("Graph neural networks predict molecular properties. We benchmark eight Graph models.", first.abstractText());
+        assertEquals(List.of("Graph Neural Network", "molecular property"), first.keywords());
+        assertEquals(2, first.institutions().size());
+
+        assertEquals(List.of("Artificial intelligence", "Medicine"), works.get(1).keywords());
+        assertEquals(List.of(), works.get(2).keywords());
+    }
+
+    @Test
+    void emptyOrUnexpectedBodyGivesEmptyPage() throws Exception {
+        OpenAlexWorkPage empty = OpenAlexStreamingJsonMapper.parsePage(om.getFactory(), stream("{}"));
+        assertEquals(List.of(), empty.works());
+        assertEquals("", empty.nextCursor());
+
+        OpenAlexWorkPage array = OpenAlexStreamingJsonMapper.parsePage(om.getFactory(), stream("[]"));
+        assertEquals(List.of(), array.works());
+    }
+
+    private static InputStream stream(String s) {
+        return new ByteArrayInputStream(s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] fixture(String path) throws Exception {
+        try (InputStream in = OpenAlexStreamingJsonMapperTest.class.getClassLoader().getResourceAsStream(path)) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.paperradar.ingest.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.paperradar.ingest.model.IngestCheckpoint;
+import com.paperradar.ingest.model.IngestMode;
+import com.paperradar.ingest.model.IngestSource;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+class IngestCheckpointTrackerTest {
+
+    private final IngestSource llm = IngestSource.keyword("llm");
+    private final IngestSource snu = IngestSource.institution("I139264467");
+
+    @Test
+    void commitsCursorOnlyAfterPageIsFlushed() {
+        IngestCheckpointTracker tracker = new IngestCheckpointTracker(IngestMode.full, LocalDate.of(2024, 1, 1), null);
+        tracker.register(llm, null);
+
+        tracker.pageIndexed(llm, "c1", 200);
+        tracker.pageIndexed(llm, "c2", 400);
+        tracker.commit(200);
+
+        IngestCheckpoint.SourceCursor s = tracker.snapshot().sources().getFirst();
+        assertEquals("c1", s.cursor());
+        assertFalse(s.done());
+
+        tracker.commit(400);
+        assertEquals("c2", tracker.snapshot().sources().getFirst().cursor());
+    }
+
+    @Test
+    void marksDoneOnlyWhenFetchSucceededAndAllPagesFlushed() {
+        IngestCheckpointTracker tracker = new IngestCheckpointTracker(IngestMode.full, null, null);
+        tracker.register(llm, null);
+        tracker.register(snu, "start");
+
+        tracker.pageIndexed(llm, "", 50);
+        tracker.sourceFinished(llm, true);
+        tracker.sourceFinished(snu, false);
+        tracker.commit(10);
+        assertFalse(tracker.snapshot().sources().get(0).done());
+
+        tracker.commit(50);
+        IngestCheckpoint cp = tracker.snapshot();
+        assertTrue(cp.sources().get(0).done());
+        assertNull(cp.sources().get(0).cursor());
+        assertFalse(cp.sources().get(1).done());
+        assertEquals("start", cp.sources().get(1).cursor());
+        assertTrue(cp.hasRemaining());
+    }
+}
@@ -0,0 +1,88 @@
+package com.paperradar.ingest.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.paperradar.ingest.service.IngestWindowPlanner.Plan;
+import com.paperradar.ingest.service.IngestWindowPlanner.Window;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class IngestWindowPlannerTest {
+
+    private static final LocalDate JAN_1 = LocalDate.of(2024, 1, 1);
+    private static final LocalDate JAN_8 = LocalDate.of(2024, 1, 8);
+
+    /**
+     * 날짜별 work 수를 더해서 구간 count를 돌려주는 가짜 counter.
+     */
+    private static IngestWindowPlanner.WorkCounter perDay(Map<LocalDate, Long> counts) {
+        return (from, to) -> counts.entrySet().stream()
+                .filter(e -> !e.getKey().isBefore(from) && !e.getKey().isAfter(to))
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+    }
+
+    @Test
+    void keepsWholeRangeWhenWithinCap() {
+        Plan plan = IngestWindowPlanner.plan(JAN_1, JAN_8, 100, 64, perDay(Map.of(JAN_1, 40L, JAN_8, 60L)));
+
+        assertFalse(plan.split());
+        assertEquals(1, plan.windows().size());
+        assertEquals(100, plan.windows().getFirst().count());
+        assertTrue(plan.oversized().isEmpty());
+    }
+
+    @Test
+    void bisectsUntilEveryWindowFitsAndDropsEmptyWindows() {
+        Map<LocalDate, Long> counts = Map.of(
+                JAN_1, 90L,
+                LocalDate.of(2024, 1, 2), 90L,
+                JAN_8, 90L
+        );
+        Plan plan = IngestWindowPlanner.plan(JAN_1, JAN_8, 100, 64, perDay(counts));
+
+        assertTrue(plan.split());
+        assertTrue(plan.oversized().isEmpty());
+        assertEquals(270, plan.windows().stream().mapToLong(Window::count).sum());
+        assertTrue(plan.windows().stream().allMatch(w -> w.count() > 0 && w.count() <= 100));
+        assertEquals(JAN_1, plan.windows().getFirst().from());
+        assertEquals(JAN_8, plan.windows().getLast().to());
+    }
+
+    @Test
+    void marksSingleDayOverCapAsOversized() {
+        Plan plan = IngestWindowPlanner.plan(JAN_1, JAN_8, 100, 64, perDay(Map.of(JAN_1, 500L, JAN_8, 10L)));
+
+        assertEquals(1, plan.oversized().size());
+        Window w = plan.oversized().getFirst();
+        assertEquals(JAN_1, w.from());
+        assertEquals(JAN_1, w.to());
+        assertEquals(510, plan.windows().stream().mapToLong(Window::count).sum());
+    }
+
+    @Test
+    void stopsSplittingAtMaxWindows() {
+        Map<LocalDate, Long> counts = new HashMap<>();
+        for (LocalDate d = JAN_1; !d.isAfter(JAN_8); d = d.plusDays(1)) {
+            counts.put(d, 100L);
+        }
+        Plan plan = IngestWindowPlanner.plan(JAN_1, JAN_8, 100, 4, perDay(counts));
+
+        assertTrue(plan.windows().size() <= 4);
+        assertEquals(800, plan.windows().stream().mapToLong(Window::count).sum());
+        assertFalse(plan.oversized().isEmpty());
+    }
+
+    @Test
+    void doesNotSplitWhenCountUnknown() {
+        Plan plan = IngestWindowPlanner.plan(JAN_1, JAN_8, 100, 64, (from, to) -> -1);
+
+        assertFalse(plan.split());
+        assertEquals(1, plan.windows().size());
+        assertTrue(plan.oversized().isEmpty());
+    }
+}
@@ -0,0 +1,50 @@
+package com.paperradar.ingest.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import com.paperradar.work.model.WorkDocument;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class WorkContentHashTest {
+
+    @Test
+    void ignoresTimestampsAndStoredHash() {
+        WorkDocument a = doc("Graph Neural Network", 3, List.of("gnn"), "2026-01-01T00:00:00Z");
+        WorkDocument b = doc("Graph Neural Network", 3, List.of("gnn"), "2026-02-01T00:00:00Z").withContentHash("stale");
+
+        assertEquals(WorkContentHash.of(a), WorkContentHash.of(b));
+    }
+
+    @Test
+    void changesWhenContentChanges() {
+        WorkDocument a = doc("Graph Neural Network", 3, List.of("gnn"), null);
+        WorkDocument b = doc("Graph Neural Network", 4, List.of("gnn"), null);
+
+        assertNotEquals(WorkContentHash.of(a), WorkContentHash.of(b));
+    }
+
+    @Test
+    void distinguishesValuesThatWouldConcatenateTheSame() {
+        assertNotEquals(
+                WorkContentHash.of(doc("t", 3, List.of("a,b"), null)),
+                WorkContentHash.of(doc("t", 3, List.of("a", "b"), null))
+        );
+        assertNotEquals(
+                WorkContentHash.of(doc("", 3, List.of(), null)),
+                WorkContentHash.of(doc(null, 3, List.of(), null))
+        );
+    }
+
+    private static WorkDocument doc(String title, int citedByCount, List<String> keywords, String updatedAt) {
+        return new WorkDocument(
+                "openalex", "https://openalex.org/W1", title, null, "2025-05-01", citedByCount,
+                keywords, keywords,
+                List.of(new WorkDocument.Author("A1", "Kim", "kim")),
+                List.of(new WorkDocument.Institution("I1", "KAIST")),
+                null, null, null, null, null, null,
+                null, updatedAt, updatedAt
+        );
+    }
+}
@@ -0,0 +1,70 @@
+package com.paperradar.ingest.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.paperradar.ingest.model.OpenAlexWork;
+import com.paperradar.work.model.WorkDocument;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class WorkDocumentBuilderTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 10);
+    private static final Instant NOW = Instant.parse("2026-01-10T00:00:00Z");
+
+    @Test
+    void buildsDocIdFromOpenAlexUrl() {
+        assertEquals("openalex:W123", WorkDocumentBuilder.docId(work("https://openalex.org/W123", null, "10.1/x")));
+        assertNull(WorkDocumentBuilder.docId(work(" ", null, null)));
+        assertNull(WorkDocumentBuilder.docId(null));
+    }
+
+    @Test
+    void normalizesKeywordsAndPicksBestLink() {
+        WorkDocument doc = WorkDocumentBuilder.build(work("https://openalex.org/W1", LocalDate.of(2025, 5, 1), "10.1/x"), TODAY, NOW);
+
+        assertEquals(List.of("graph neural network", "llm"), doc.keywords());
+        assertEquals(doc.keywords(), doc.keywordCandidates());
+        assertEquals("2025-05-01", doc.publicationDate());
+        assertEquals("https://doi.org/10.1/x", doc.bestLinkUrl());
+        assertEquals("DOI", doc.bestLinkType());
+        assertEquals(List.of(new WorkDocument.Author("A1", "Jisoo  KIM", "jisoo kim")), doc.authors());
+        assertEquals(List.of(new WorkDocument.Institution("I1", "KAIST")), doc.institutions());
+        assertEquals(NOW.toString(), doc.updatedAt());
+    }
+
+    @Test
+    void dropsFuturePublicationDate() {
+        WorkDocument doc = WorkDocumentBuilder.build(work("W1", TODAY.plusDays(1), null), TODAY, NOW);
+        assertNull(doc.publicationDate());
+        assertNull(doc.bestLinkUrl());
+    }
+
+    @Test
+    void contentHashMatchesLegacyMapDocument() {
+        // 예전에 Map 문서로 색인할 때 저장된 content_hash. 달라지면 기존 문서가 모두 변경으로 잡혀 다시 색인됨
+        WorkDocument doc = WorkDocumentBuilder.build(work("https://openalex.org/W1", LocalDate.of(2025, 5, 1), "10.1/x"), TODAY, NOW);
+
+        assertEquals("737bf2085b9e2285633b2d5aec5ad7b98e378f0436a20cbc675748c2aeb21f2e", doc.contentHash());
+    }
+
+    private static OpenAlexWork work(String id, LocalDate publicationDate, String doi) {
+        return new OpenAlexWork(
+                id,
+                doi,
+                null,
+                null,
+                null,
+                "Title",
+                null,
+                publicationDate,
+                3,
+                List.of(" Graph  Neural Network", "LLM", "llm", " "),
+                List.of(new OpenAlexWork.AuthorRef("A1", "Jisoo  KIM")),
+                List.of(new OpenAlexWork.InstitutionRef("https://openalex.org/I1", " KAIST "))
+        );
+    }
+}
@@ -0,0 +1,60 @@
+package com.paperradar.ingest.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class WorkIdDedupSetTest {
+
+    @Test
+    void treatsUrlAndShortFormAsSameWork() {
+        WorkIdDedupSet set = new WorkIdDedupSet();
+        assertTrue(set.add("https://openalex.org/W2741809807"));
+        assertFalse(set.add("W2741809807"));
+        assertFalse(set.add(" https://openalex.org/W2741809807 "));
+        assertEquals(1, set.size());
+        assertEquals(2, set.duplicates());
+    }
+
+    @Test
+    void keepsNonNumericIdsInFallbackSet() {
+        WorkIdDedupSet set = new WorkIdDedupSet();
+        assertTrue(set.add("https://openalex.org/Wabc"));
+        assertFalse(set.add("Wabc"));
+        assertTrue(set.add("W123"));
+        assertEquals(2, set.size());
+    }
+
+    @Test
+    void blankIdsAreNeverAdded() {
+        WorkIdDedupSet set = new WorkIdDedupSet();
+        assertFalse(set.add(null));
+        assertFalse(set.add("  "));
+        assertEquals(0, set.size());
+        assertEquals(0, set.duplicates());
+    }
+
+    @Test
+    void growsBeyondInitialCapacity() {
+        WorkIdDedupSet set = new WorkIdDedupSet(4);
+        for (int i = 1; i <= 10_000; i++) {
+            assertTrue(set.add("W" + i));
+        }
+        for (int i = 1; i <= 10_000; i++) {
+            assertFalse(set.add("https://openalex.org/W" + i));
+        }
+        assertEquals(10_000, set.size());
+        assertEquals(10_000, set.duplicates());
+    }
+
+    @Test
+    void parsesNumericPart() {
+        assertEquals(123L, WorkIdDedupSet.parseNumericId("W123"));
+        assertEquals(123L, WorkIdDedupSet.parseNumericId("https://openalex.org/W123"));
+        assertEquals(-1L, WorkIdDedupSet.parseNumericId("A123"));
+        assertEquals(-1L, WorkIdDedupSet.parseNumericId("W"));
+        assertEquals(-1L, WorkIdDedupSet.parseNumericId("W12x"));
+    }
+}
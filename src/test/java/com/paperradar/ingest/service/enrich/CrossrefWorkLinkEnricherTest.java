@@ -0,0 +1,148 @@
+package com.paperradar.ingest.service.enrich;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paperradar.ingest.model.OpenAlexWork;
+import com.paperradar.ingest.service.enrich.CrossrefLinkCache.CrossrefLinks;
+import com.paperradar.ingest.service.enrich.CrossrefWorkLinkEnricher.CrossrefResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+class CrossrefWorkLinkEnricherTest {
+
+    private final ObjectMapper om = new ObjectMapper();
+    private final StubCache cache = new StubCache();
+    private final Map<String, CrossrefResponse> responses = new HashMap<>();
+    private final List<String> fetched = new ArrayList<>();
+
+    @Test
+    void picksPdfAndLandingFromLinks() throws Exception {
+        String json = """
+                {"link": [
+                  {"URL": "https://example.org/article", "content-type": "text/html"},
+                  {"URL": "https://example.org/article.pdf", "content-type": "unspecified"}
+                ]}
+                """;
+        CrossrefLinks links = CrossrefWorkLinkEnricher.parseLinks(om.readTree(json));
+
+        assertEquals("https://example.org/article", links.landingPageUrl());
+        assertEquals("https://example.org/article.pdf", links.pdfUrl());
+    }
+
+    @Test
+    void returnsNoneWithoutLinks() throws Exception {
+        assertTrue(CrossrefWorkLinkEnricher.parseLinks(om.readTree("{\"title\": [\"x\"]}")).empty());
+        assertTrue(CrossrefWorkLinkEnricher.parseLinks(om.readTree("{\"link\": []}")).empty());
+    }
+
+    @Test
+    void negativeEntriesExpireSooner() {
+        CrossrefLinkCache cache = new CrossrefLinkCache(null, 30, 7);
+        Instant now = Instant.parse("2024-06-01T00:00:00Z");
+        Instant tenDaysAgo = now.minus(Duration.ofDays(10));
+
+        assertTrue(cache.isFresh(tenDaysAgo, false, now));
+        assertFalse(cache.isFresh(tenDaysAgo, true, now));
+        assertFalse(cache.isFresh(null, false, now));
+        assertEquals("10.1000/abc", CrossrefLinkCache.key(" 10.1000/ABC "));
+    }
+
+    @Test
+    void cacheHitSkipsFetch() {
+        cache.cached.put("10.1/hit", new CrossrefLinks("https://example.org/hit", null));
+
+        List<OpenAlexWork> out = enrichAll(List.of(work("10.1/HIT")));
+
+        assertEquals(List.of(), fetched);
+        assertEquals("https://example.org/hit", out.getFirst().landingPageUrl());
+        assertEquals(List.of(), cache.written);
+    }
+
+    @Test
+    void notFoundAndNoLinksAreCachedAsNegative() {
+        responses.put("10.1/missing", new CrossrefResponse(404, ""));
+        responses.put("10.1/bare", new CrossrefResponse(200, "{\"message\": {\"title\": [\"x\"]}}"));
+        OpenAlexWork missing = work("10.1/missing");
+        OpenAlexWork bare = work("10.1/bare");
+
+        List<OpenAlexWork> out = enrichAll(List.of(missing, bare));
+
+        assertEquals(List.of(missing, bare), out);
+        assertEquals(List.of(Map.of("10.1/missing", CrossrefLinks.NONE, "10.1/bare", CrossrefLinks.NONE)), cache.written);
+    }
+
+    @Test
+    void transientFailuresAreNotCached() {
+        responses.put("10.1/busy", new CrossrefResponse(503, ""));
+        responses.put("10.1/found", new CrossrefResponse(200,
+                "{\"message\": {\"link\": [{\"URL\": \"https://example.org/found.pdf\", \"content-type\": \"application/pdf\"}]}}"));
+        OpenAlexWork busy = work("10.1/busy");
+
+        List<OpenAlexWork> out = enrichAll(List.of(busy, work("10.1/down"), work("10.1/found")));
+
+        assertEquals(busy, out.getFirst());
+        assertEquals("https://example.org/found.pdf", out.getLast().pdfUrl());
+        assertEquals(List.of(Map.of("10.1/found", new CrossrefLinks("https://example.org/found.pdf", "https://example.org/found.pdf"))), cache.written);
+    }
+
+    private List<OpenAlexWork> enrichAll(List<OpenAlexWork> works) {
+        CrossrefWorkLinkEnricher enricher = new CrossrefWorkLinkEnricher(om, cache, doi -> {
+            synchronized (fetched) {
+                fetched.add(doi);
+            }
+            CrossrefResponse res = responses.get(doi);
+            if (res == null) {
+                throw new IOException("connection reset");
+            }
+            return res;
+        }, Executors.newFixedThreadPool(2));
+        try {
+            return enricher.enrichAll(works);
+        } finally {
+            enricher.close();
+        }
+    }
+
+    private static OpenAlexWork work(String doi) {
+        return new OpenAlexWork("https://openalex.org/W1", doi, null, null, null, "Title", null, null, 0, List.of(), List.of(), List.of());
+    }
+
+    private static final class StubCache extends CrossrefLinkCache {
+        private final Map<String, CrossrefLinks> cached = new LinkedHashMap<>();
+        private final List<Map<String, CrossrefLinks>> written = new ArrayList<>();
+
+        private StubCache() {
+            super(null, 30, 7);
+        }
+
+        @Override
+        public Map<String, CrossrefLinks> getAll(Collection<String> dois) {
+            Map<String, CrossrefLinks> out = new HashMap<>();
+            dois.forEach(doi -> {
+                if (cached.containsKey(doi)) {
+                    out.put(doi, cached.get(doi));
+                }
+            });
+            return out;
+        }
+
+        @Override
+        public void putAll(Map<String, CrossrefLinks> entries) {
+            if (!entries.isEmpty()) {
+                written.add(Map.copyOf(entries));
+            }
+        }
+    }
+}
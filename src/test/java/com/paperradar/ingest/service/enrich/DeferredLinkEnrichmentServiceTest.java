@@ -0,0 +1,135 @@
+package com.paperradar.ingest.service.enrich;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.paperradar.ingest.model.OpenAlexWork;
+import com.paperradar.ingest.service.enrich.CrossrefLinkCache.CrossrefLinks;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class DeferredLinkEnrichmentServiceTest {
+
+    private final StubQueue queue = new StubQueue();
+    private final Map<String, CrossrefLinks> cached = new HashMap<>();
+    private final Map<String, Map<String, Object>> updated = new HashMap<>();
+    private Set<String> failedUpdates = Set.of();
+
+    @Test
+    void writesFoundLinksAndRemovesEntry() {
+        EnrichQueue.Task t = task("openalex:W1", "10.1000/a", 0);
+        queue.tasks.add(t);
+
+        int n = service(w -> withPdf(w, "https://example.org/a.pdf"), 5).drainOnce(10);
+
+        assertEquals(1, n);
+        assertEquals("https://example.org/a.pdf", updated.get("openalex:W1").get("pdf_url"));
+        assertEquals(List.of(t), queue.done);
+        assertTrue(queue.retry.isEmpty());
+    }
+
+    @Test
+    void removesEntrySettledByCacheWithoutUpdatingWorks() {
+        EnrichQueue.Task t = task("openalex:W1", "10.1000/A", 0);
+        queue.tasks.add(t);
+        cached.put("10.1000/a", new CrossrefLinks(null, null));
+
+        service(w -> w, 5).drainOnce(10);
+
+        assertTrue(updated.isEmpty());
+        assertEquals(List.of(t), queue.done);
+        assertTrue(queue.retry.isEmpty());
+    }
+
+    @Test
+    void retriesUnresolvedEntriesUntilMaxAttempts() {
+        EnrichQueue.Task fresh = task("openalex:W1", "10.1000/a", 0);
+        EnrichQueue.Task last = task("openalex:W2", "10.1000/b", 2);
+        queue.tasks.addAll(List.of(fresh, last));
+
+        service(w -> w, 3).drainOnce(10);
+
+        assertEquals(List.of(fresh), queue.retry);
+        assertEquals(List.of(last), queue.done);
+    }
+
+    @Test
+    void retriesWhenWorksUpdateFails() {
+        EnrichQueue.Task t = task("openalex:W1", "10.1000/a", 0);
+        queue.tasks.add(t);
+        failedUpdates = Set.of("openalex:W1");
+
+        service(w -> withPdf(w, "https://example.org/a.pdf"), 5).drainOnce(10);
+
+        assertEquals(List.of(t), queue.retry);
+        assertTrue(queue.done.isEmpty());
+    }
+
+    @Test
+    void emptyQueueProcessesNothing() {
+        assertEquals(0, service(w -> w, 5).drainOnce(10));
+        assertEquals(0, queue.settled);
+    }
+
+    private DeferredLinkEnrichmentService service(WorkLinkEnricher enricher, int maxAttempts) {
+        CrossrefLinkCache cache = new CrossrefLinkCache(null, 30, 7) {
+            @Override
+            public Map<String, CrossrefLinks> getAll(Collection<String> dois) {
+                return cached;
+            }
+        };
+        return new DeferredLinkEnrichmentService(queue, cache, enricher, maxAttempts, updates -> {
+            updated.putAll(updates);
+            return failedUpdates;
+        });
+    }
+
+    private static EnrichQueue.Task task(String id, String doi, int attempts) {
+        return new EnrichQueue.Task(id, doi, "https://example.org/landing", null, null, attempts, 1L, 1L);
+    }
+
+    private static OpenAlexWork withPdf(OpenAlexWork w, String pdfUrl) {
+        return new OpenAlexWork(
+                w.id(),
+                w.doi(),
+                w.landingPageUrl(),
+                pdfUrl,
+                w.openAccessUrl(),
+                null,
+                null,
+                null,
+                0,
+                List.of(),
+                List.of(),
+                List.of()
+        );
+    }
+
+    private static final class StubQueue extends EnrichQueue {
+        private final List<Task> tasks = new ArrayList<>();
+        private final List<Task> done = new ArrayList<>();
+        private final List<Task> retry = new ArrayList<>();
+        private int settled = 0;
+
+        private StubQueue() {
+            super(null);
+        }
+
+        @Override
+        public List<Task> peek(int size) {
+            return tasks.stream().limit(size).toList();
+        }
+
+        @Override
+        public void settle(List<Task> done, List<Task> retry) {
+            settled++;
+            this.done.addAll(done);
+            this.retry.addAll(retry);
+        }
+    }
+}
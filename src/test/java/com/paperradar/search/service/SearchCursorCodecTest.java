@@ -0,0 +1,61 @@
+package com.paperradar.search.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paperradar.search.dto.SearchRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SearchCursorCodecTest {
+
+    private final SearchCursorCodec codec = codec("secret-a");
+
+    @Test
+    void roundTripsCursorForSameSearch() {
+        SearchRequest request = request("llm", 6);
+        SearchCursorCodec.Cursor cursor = new SearchCursorCodec.Cursor(
+                SearchCursorCodec.fingerprint(request), 7, 12_345, true, "pit-1", Arrays.asList(12.5, 1_700_000_000_000L, "W1", null));
+
+        SearchCursorCodec.Cursor decoded = codec.decode(codec.encode(cursor), request("llm", 7));
+
+        assertEquals(7, decoded.page());
+        assertEquals(12_345, decoded.total());
+        assertTrue(decoded.totalApprox());
+        assertEquals("pit-1", decoded.pitId());
+        assertEquals(Arrays.asList(12.5, 1_700_000_000_000L, "W1", null), decoded.searchAfter());
+    }
+
+    @Test
+    void rejectsTokenForDifferentSearch() {
+        SearchRequest request = request("llm", 6);
+        String token = codec.encode(new SearchCursorCodec.Cursor(SearchCursorCodec.fingerprint(request), 6, 100, false, null, null));
+
+        assertNull(codec.decode(token, request("robotics", 6)));
+    }
+
+    @Test
+    void rejectsTamperedOrForeignTokens() {
+        SearchRequest request = request("llm", 6);
+        String token = codec.encode(new SearchCursorCodec.Cursor(SearchCursorCodec.fingerprint(request), 6, 100, false, "pit-1", List.of(1L)));
+        String forged = codec("secret-b").encode(new SearchCursorCodec.Cursor(SearchCursorCodec.fingerprint(request), 6, 100, false, "pit-2", List.of(1L)));
+        String swapped = forged.substring(0, forged.indexOf('.')) + token.substring(token.indexOf('.'));
+
+        assertNull(codec.decode(forged, request));
+        assertNull(codec.decode(swapped, request));
+        assertNull(codec.decode("not-a-token", request));
+        assertNull(codec.decode("a.b", request));
+    }
+
+    private static SearchCursorCodec codec(String secret) {
+        return new SearchCursorCodec(new ObjectMapper(), secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static SearchRequest request(String q, int page) {
+        return new SearchRequest(q, null, null, null, null, null, null, page, 10, null);
+    }
+}
@@ -0,0 +1,83 @@
+package com.paperradar.search.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.paperradar.search.dto.SearchRequest;
+import com.paperradar.search.model.SearchResultPage;
+import com.paperradar.search.model.WorkSummary;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class SearchResultCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private SearchResultCache cache(int maxEntries, long maxWeight) {
+        return new SearchResultCache(true, maxEntries, maxWeight, Duration.ofSeconds(60), nanos::get);
+    }
+
+    @Test
+    void normalizedRequestsShareEntry() {
+        SearchResultCache cache = cache(10, 1000);
+        SearchResultPage page = page(3);
+        cache.put(request("gnn", " Graph  Neural Network", 1), page, cache.generation());
+
+        assertSame(page, cache.get(request("gnn", "graph neural network", 1)));
+        assertNull(cache.get(request("gnn", "graph neural network", 2)));
+        assertEquals(1, cache.stats().hits());
+        assertEquals(1, cache.stats().misses());
+    }
+
+    @Test
+    void expiresAfterTtl() {
+        SearchResultCache cache = cache(10, 1000);
+        cache.put(request("llm", null, 1), page(1), cache.generation());
+        nanos.addAndGet(Duration.ofSeconds(61).toNanos());
+
+        assertNull(cache.get(request("llm", null, 1)));
+        assertEquals(0, cache.stats().entries());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedByCountAndWeight() {
+        SearchResultCache cache = cache(2, 1000);
+        cache.put(request("a", null, 1), page(1), cache.generation());
+        cache.put(request("b", null, 1), page(1), cache.generation());
+        cache.get(request("a", null, 1));
+        cache.put(request("c", null, 1), page(1), cache.generation());
+
+        assertNull(cache.get(request("b", null, 1)));
+        assertEquals(1, cache.stats().evictions());
+
+        SearchResultCache weighted = cache(10, 12);
+        weighted.put(request("a", null, 1), page(5), weighted.generation());
+        weighted.put(request("b", null, 1), page(5), weighted.generation());
+        weighted.put(request("c", null, 1), page(5), weighted.generation());
+        assertNull(weighted.get(request("a", null, 1)));
+        assertEquals(12, weighted.stats().weight());
+    }
+
+    @Test
+    void dropsResultsStartedBeforeInvalidation() {
+        SearchResultCache cache = cache(10, 1000);
+        long generation = cache.generation();
+        cache.invalidateAll();
+        cache.put(request("a", null, 1), page(1), generation);
+
+        assertNull(cache.get(request("a", null, 1)));
+        assertEquals(1, cache.stats().invalidations());
+    }
+
+    private static SearchRequest request(String q, String keyword, int page) {
+        return new SearchRequest(q, null, null, keyword, null, null, null, page, 10, null);
+    }
+
+    private static SearchResultPage page(int items) {
+        WorkSummary w = new WorkSummary("openalex:W1", "t", "", null, "DOI", "https://doi.org/10.1/x");
+        return new SearchResultPage(Collections.nCopies(items, w), items, 1, 10);
+    }
+}
@@ -0,0 +1,64 @@
+package com.paperradar.search.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.paperradar.ingest.model.IngestJobFinishedEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SearchTotalCounterTest {
+
+    private final List<Runnable> queued = new ArrayList<>();
+    private final SearchTotalCounter counter = new SearchTotalCounter(null, queued::add);
+
+    @Test
+    void countsOncePerFingerprint() {
+        AtomicInteger calls = new AtomicInteger();
+        counter.countInBackground("fp", () -> 10L + calls.incrementAndGet());
+        counter.countInBackground("fp", () -> 10L + calls.incrementAndGet());
+        assertEquals(1, queued.size());
+        assertNull(counter.exactTotal("fp"));
+
+        runQueued();
+        assertEquals(11L, counter.exactTotal("fp"));
+
+        counter.countInBackground("fp", () -> 10L + calls.incrementAndGet());
+        assertEquals(0, queued.size());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void failedCountIsRetriedLater() {
+        counter.countInBackground("fp", () -> {
+            throw new IllegalStateException("es down");
+        });
+        runQueued();
+        assertNull(counter.exactTotal("fp"));
+
+        counter.countInBackground("fp", () -> 42L);
+        runQueued();
+        assertEquals(42L, counter.exactTotal("fp"));
+    }
+
+    @Test
+    void ingestDropsCountsIncludingOnesInFlight() {
+        counter.countInBackground("a", () -> 1L);
+        runQueued();
+        counter.countInBackground("b", () -> 2L);
+
+        counter.onIngestJobFinished(new IngestJobFinishedEvent("job", null, null, 0, 0, null));
+        runQueued();
+
+        assertNull(counter.exactTotal("a"));
+        assertNull(counter.exactTotal("b"));
+    }
+
+    private void runQueued() {
+        List<Runnable> tasks = new ArrayList<>(queued);
+        queued.clear();
+        tasks.forEach(Runnable::run);
+    }
+}
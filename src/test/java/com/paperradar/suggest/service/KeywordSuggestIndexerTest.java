@@ -0,0 +1,142 @@
+package com.paperradar.suggest.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import com.paperradar.ingest.model.IngestJobFinishedEvent;
+import com.paperradar.ingest.model.IngestMode;
+import com.paperradar.ingest.model.IngestStatus;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class KeywordSuggestIndexerTest {
+
+    private static final Instant STARTED_AT = Instant.parse("2024-06-01T00:00:00Z");
+
+    private final StubStore store = new StubStore();
+    private final List<Runnable> queued = new ArrayList<>();
+    private final KeywordSuggestIndexer indexer = new KeywordSuggestIndexer(store, queued::add, true);
+
+    @Test
+    void rebuildKeepsStaleKeywordsWhenSomeWritesFail() {
+        store.keywords.put("deep learning", 5L);
+        store.keywords.put("graph", 2L);
+        store.failuresPerWrite = 1;
+
+        assertEquals(1, indexer.rebuild());
+        assertEquals(0, store.deletes);
+    }
+
+    @Test
+    void rebuildDeletesStaleKeywordsWhenAllWritesSucceed() {
+        store.keywords.put("deep learning", 5L);
+
+        assertEquals(1, indexer.rebuild());
+        assertEquals(1, store.deletes);
+    }
+
+    @Test
+    void firstIngestEventRebuildsBeforeRefreshing() {
+        store.keywords.put("deep learning", 5L);
+
+        indexer.onIngestJobFinished(finished(STARTED_AT));
+        assertEquals(1, queued.size());
+        runQueued();
+        // 아직 채운 적이 없으므로 since 없이 전체를 훑음
+        assertEquals(List.of("all"), store.scans);
+        assertEquals(1, store.deletes);
+
+        indexer.onIngestJobFinished(finished(STARTED_AT));
+        runQueued();
+        assertEquals(List.of("all", STARTED_AT.toString()), store.scans);
+        assertEquals(1, store.deletes);
+    }
+
+    @Test
+    void ingestEventWithoutChangesDoesNothing() {
+        indexer.onIngestJobFinished(new IngestJobFinishedEvent("job-1", IngestMode.incremental, IngestStatus.success, 0, 0, STARTED_AT));
+
+        assertTrue(queued.isEmpty());
+    }
+
+    @Test
+    void requestRefreshMergesToEarliestSince() {
+        Instant t1 = STARTED_AT;
+        Instant t2 = t1.plusSeconds(60);
+        Instant t3 = t1.plusSeconds(120);
+
+        indexer.requestRefresh(t2);
+        indexer.requestRefresh(t1);
+        indexer.requestRefresh(t3);
+        assertEquals(1, queued.size());
+
+        runQueued();
+        assertEquals(List.of(t1.toString()), store.scans);
+
+        indexer.requestRefresh(t3);
+        assertEquals(1, queued.size());
+        runQueued();
+        assertEquals(List.of(t1.toString(), t3.toString()), store.scans);
+    }
+
+    @Test
+    void disabledIndexerSchedulesNothing() {
+        KeywordSuggestIndexer disabled = new KeywordSuggestIndexer(store, queued::add, false);
+
+        disabled.requestRebuild();
+        disabled.requestRefresh(STARTED_AT);
+        assertFalse(disabled.isReady());
+        assertTrue(queued.isEmpty());
+    }
+
+    private void runQueued() {
+        List<Runnable> tasks = new ArrayList<>(queued);
+        queued.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    private static IngestJobFinishedEvent finished(Instant startedAt) {
+        return new IngestJobFinishedEvent("job-1", IngestMode.incremental, IngestStatus.success, 1, 2, startedAt);
+    }
+
+    private static final class StubStore implements KeywordSuggestIndexer.KeywordStore {
+        private final Map<String, Long> keywords = new LinkedHashMap<>();
+        private final List<String> scans = new ArrayList<>();
+        private int failuresPerWrite = 0;
+        private int deletes = 0;
+
+        @Override
+        public long countSuggestions() {
+            return 0;
+        }
+
+        @Override
+        public KeywordSuggestIndexer.KeywordPage scanKeywords(String updatedSince, Map<String, FieldValue> afterKey) {
+            scans.add(updatedSince == null ? "all" : updatedSince);
+            return new KeywordSuggestIndexer.KeywordPage(new LinkedHashMap<>(keywords), null);
+        }
+
+        @Override
+        public Map<String, Long> countDocFreqs(List<String> keywords) {
+            Map<String, Long> out = new LinkedHashMap<>();
+            keywords.forEach(k -> out.put(k, this.keywords.get(k)));
+            return out;
+        }
+
+        @Override
+        public int writeSuggestions(Map<String, Long> docFreqs, String stamp) {
+            return Math.min(failuresPerWrite, docFreqs.size());
+        }
+
+        @Override
+        public void deleteOlderThan(String stamp) {
+            deletes++;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.paperradar.suggest.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class PrefixSuggestIndexTest {
+
+    @Test
+    void returnsMatchesByWeightIgnoringCase() {
+        PrefixSuggestIndex index = PrefixSuggestIndex.build(List.of(
+                entry("machine learning", 50),
+                entry("Machine Vision", 80),
+                entry("materials", 99),
+                entry("machining", 5)
+        ));
+
+        assertEquals(List.of("Machine Vision", "machine learning", "machining"), labels(index.top("MACH", 10)));
+        assertEquals(List.of("Machine Vision", "machine learning"), labels(index.top("machine ", 10)));
+        assertEquals(List.of("materials", "Machine Vision"), labels(index.top("ma", 2)));
+        assertEquals(List.of(), labels(index.top("robot", 10)));
+        assertEquals(List.of(), labels(index.top(" ", 10)));
+    }
+
+    @Test
+    void matchesWordStartsAndAliasesOncePerEntry() {
+        PrefixSuggestIndex.Entry kaist = new PrefixSuggestIndex.Entry("I1", "Korea Advanced Institute of Science and Technology", 90);
+        PrefixSuggestIndex.Entry snu = new PrefixSuggestIndex.Entry("I2", "Seoul National University", 70);
+        PrefixSuggestIndex.Entry science = new PrefixSuggestIndex.Entry("I3", "Science and Technology University", 10);
+        Map<String, List<String>> aliases = Map.of("I1", List.of("KAIST"));
+        PrefixSuggestIndex index = PrefixSuggestIndex.build(List.of(kaist, snu, science), e -> {
+            List<String> keys = PrefixSuggestIndex.wordStarts(e.label());
+            keys.addAll(aliases.getOrDefault(e.value(), List.of()));
+            return keys;
+        });
+
+        assertEquals(List.of(kaist), index.top("advanced inst", 10));
+        assertEquals(List.of(kaist), index.top("kai", 10));
+        assertEquals(List.of(snu), index.top("national", 10));
+        // "science"/"technology"가 두 번 나오는 이름도 결과에는 한 번
+        assertEquals(List.of(kaist, science), index.top("sc", 10));
+        assertEquals(List.of(kaist, science), index.top("technology", 10));
+        assertEquals(List.of(), index.top("nology", 10));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void cachedAndScannedPrefixesMatchBruteForce() {
+        Random random = new Random(7);
+        List<PrefixSuggestIndex.Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            StringBuilder label = new StringBuilder();
+            int len = 2 + random.nextInt(6);
+            for (int j = 0; j < len; j++) {
+                label.append((char) ('a' + random.nextInt(4)));
+            }
+            entries.add(new PrefixSuggestIndex.Entry("v" + i, label.toString(), random.nextInt(100)));
+        }
+        PrefixSuggestIndex index = PrefixSuggestIndex.build(entries);
+
+        for (String prefix : List.of("ab", "abc", "abcd", "dd", "dada", "aaaaa")) {
+            List<PrefixSuggestIndex.Entry> expected = entries.stream()
+                    .filter(e -> e.label().startsWith(prefix))
+                    .sorted(Comparator.comparingLong(PrefixSuggestIndex.Entry::weight).reversed()
+                            .thenComparing(PrefixSuggestIndex.Entry::label))
+                    .limit(10)
+                    .toList();
+            assertEquals(weights(expected), weights(index.top(prefix, 10)), prefix);
+        }
+    }
+
+    private static PrefixSuggestIndex.Entry entry(String label, long weight) {
+        return new PrefixSuggestIndex.Entry(label, label, weight);
+    }
+
+    private static List<String> labels(List<PrefixSuggestIndex.Entry> entries) {
+        return entries.stream().map(PrefixSuggestIndex.Entry::label).toList();
+    }
+
+    private static List<String> weights(List<PrefixSuggestIndex.Entry> entries) {
+        return entries.stream().map(e -> e.label() + ":" + e.weight()).toList();
+    }
+}
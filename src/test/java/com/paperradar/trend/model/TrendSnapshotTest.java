@@ -0,0 +1,22 @@
+package com.paperradar.trend.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TrendSnapshotTest {
+
+    @Test
+    void returnsLeadingItemsUpToTopN() {
+        TrendItem a = new TrendItem("a", "a", 0.5, 2, 1, 30);
+        TrendItem b = new TrendItem("b", "b", 0.1, 1, 1, 30);
+        TrendSnapshot snapshot = new TrendSnapshot(List.of(a, b), null, Instant.EPOCH);
+
+        assertEquals(List.of(a), snapshot.keywordTrends(1));
+        assertEquals(List.of(a, b), snapshot.keywordTrends(10));
+        assertEquals(List.of(), snapshot.keywordTrends(0));
+        assertEquals(List.of(), snapshot.institutionTrends(10));
+    }
+}
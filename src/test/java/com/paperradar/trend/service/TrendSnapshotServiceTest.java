@@ -0,0 +1,132 @@
+package com.paperradar.trend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.paperradar.trend.model.TrendItem;
+import com.paperradar.trend.model.TrendSnapshot;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TrendSnapshotServiceTest {
+
+    private final StubTrendService trendService = new StubTrendService();
+    private final StubStore store = new StubStore();
+    private final List<Runnable> queued = new ArrayList<>();
+    private final TrendSnapshotService service = new TrendSnapshotService(trendService, store, queued::add, 10);
+
+    @Test
+    void failedRefreshKeepsPreviousSnapshot() {
+        TrendSnapshot first = snapshot("ai");
+        trendService.results.add(first);
+        assertSame(first, service.refresh());
+
+        // 결과가 더 없으면 계산 실패
+        assertSame(first, service.refresh());
+        assertSame(first, service.current());
+        assertEquals(List.of(first), store.saved);
+    }
+
+    @Test
+    void failedFirstRefreshReturnsNull() {
+        assertNull(service.refresh());
+        assertEquals(TrendSnapshot.empty(), service.current());
+    }
+
+    @Test
+    void requestRefreshCoalescesUntilItRuns() {
+        trendService.results.add(snapshot("ai"));
+        trendService.results.add(snapshot("ml"));
+
+        service.requestRefresh();
+        service.requestRefresh();
+        service.requestRefresh();
+        assertEquals(1, queued.size());
+
+        runQueued();
+        assertEquals(1, trendService.calls);
+        assertEquals("ai", service.current().keywordTrends().getFirst().key());
+
+        service.requestRefresh();
+        assertEquals(1, queued.size());
+        runQueued();
+        assertEquals(2, trendService.calls);
+        assertEquals("ml", service.current().keywordTrends().getFirst().key());
+    }
+
+    @Test
+    void currentPrefersPersistedSnapshot() {
+        TrendSnapshot persisted = snapshot("stored");
+        store.stored = persisted;
+        trendService.results.add(snapshot("fresh"));
+
+        assertSame(persisted, service.current());
+        assertSame(persisted, service.current());
+        assertEquals(0, trendService.calls);
+        assertEquals(1, store.loads);
+    }
+
+    @Test
+    void currentComputesAndSavesWithoutPersistedSnapshot() {
+        TrendSnapshot fresh = snapshot("fresh");
+        trendService.results.add(fresh);
+
+        assertSame(fresh, service.current());
+        assertEquals(1, trendService.calls);
+        assertEquals(List.of(fresh), store.saved);
+    }
+
+    private void runQueued() {
+        List<Runnable> tasks = new ArrayList<>(queued);
+        queued.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    private static TrendSnapshot snapshot(String keyword) {
+        return new TrendSnapshot(
+                List.of(new TrendItem(keyword, keyword, 1.5, 3, 2, 60)),
+                List.of(),
+                Instant.parse("2024-06-01T00:00:00Z")
+        );
+    }
+
+    private static final class StubTrendService extends ElasticsearchTrendService {
+        private final Deque<TrendSnapshot> results = new ArrayDeque<>();
+        private int calls = 0;
+
+        private StubTrendService() {
+            super(null, null, null);
+        }
+
+        @Override
+        TrendSnapshot computeSnapshot(int topN) throws Exception {
+            calls++;
+            if (results.isEmpty()) {
+                throw new IllegalStateException("es down");
+            }
+            return results.poll();
+        }
+    }
+
+    private static final class StubStore implements TrendSnapshotService.SnapshotStore {
+        private TrendSnapshot stored;
+        private int loads = 0;
+        private final List<TrendSnapshot> saved = new ArrayList<>();
+
+        @Override
+        public TrendSnapshot load() {
+            loads++;
+            return stored;
+        }
+
+        @Override
+        public void save(TrendSnapshot snapshot) {
+            saved.add(snapshot);
+        }
+    }
+}
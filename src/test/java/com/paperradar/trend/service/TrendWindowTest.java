@@ -0,0 +1,123 @@
+package com.paperradar.trend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.paperradar.trend.model.TrendItem;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class TrendWindowTest {
+
+    private final ObjectMapper om = new ObjectMapper();
+
+    @Test
+    void excludesCurrentBucketFromWindows() {
+        long[] counts = new long[31];
+        Arrays.fill(counts, 0, 23, 1);
+        Arrays.fill(counts, 23, 30, 4);
+        counts[30] = 100;
+
+        double ma30 = 51.0 / 30;
+        assertEquals(new TrendNumbers((4.0 - ma30) / ma30, 4.0, ma30, 51.0), TrendWindow.lastValues(counts));
+    }
+
+    @Test
+    void shortHistoriesUseAvailableBuckets() {
+        assertEquals(new TrendNumbers(0, 0, 0, 0), TrendWindow.lastValues(new long[0]));
+        assertEquals(new TrendNumbers(0, 0, 0, 0), TrendWindow.lastValues(new long[] {5}));
+        assertEquals(new TrendNumbers(0, 3.0, 3.0, 6.0), TrendWindow.lastValues(new long[] {2, 4, 9}));
+    }
+
+    @Test
+    void javaModeMatchesScriptModeOnFixture() {
+        Random random = new Random(42);
+        // faded: 31~90일 전에만 문서가 있는 term, java 모드도 같은 90일 범위로 term을 골라야 0점으로 함께 나옴
+        List<String> keys = List.of("llm", "robotics", "quiet", "bursty", "faded");
+        ArrayNode scripted = om.createArrayNode();
+        ArrayNode raw = om.createArrayNode();
+        for (String key : keys) {
+            long[] counts = new long[91];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = switch (key) {
+                    case "llm" -> 20 + random.nextInt(15) + i / 3;
+                    case "robotics" -> random.nextInt(6);
+                    case "quiet" -> 0;
+                    case "faded" -> i < 60 ? 3 : 0;
+                    default -> i > 80 && random.nextBoolean() ? 40 : 0;
+                };
+            }
+            scripted.add(termBucket(key, scriptedDays(counts)));
+            raw.add(termBucket(key, rawDays(Arrays.copyOfRange(counts, counts.length - 31, counts.length))));
+        }
+
+        List<TrendItem> expected = ElasticsearchTrendService.parseBuckets(scripted, true);
+        assertEquals(keys.size(), expected.size());
+        assertEquals(new TrendItem("faded", "faded", 0, 0, 0, 0), expected.getLast());
+        assertEquals(expected, ElasticsearchTrendService.parseBuckets(raw, false));
+
+        Map<String, Object> scriptQuery = ElasticsearchTrendService.trendQuery("keywords", keys, keys.size(), true);
+        Map<String, Object> javaQuery = ElasticsearchTrendService.trendQuery("keywords", keys, keys.size(), false);
+        assertEquals(scriptQuery.get("query"), javaQuery.get("query"));
+        assertEquals(Map.of("min", "now-30d/d", "max", "now/d"), histogram(javaQuery).get("hard_bounds"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> histogram(Map<String, Object> query) {
+        Map<String, Object> aggs = (Map<String, Object>) query.get("aggs");
+        Map<String, Object> byTerm = (Map<String, Object>) aggs.get("keywords");
+        Map<String, Object> perDay = (Map<String, Object>) ((Map<String, Object>) byTerm.get("aggs")).get("per_day");
+        return (Map<String, Object>) perDay.get("date_histogram");
+    }
+
+    private ObjectNode termBucket(String key, ArrayNode days) {
+        ObjectNode bucket = om.createObjectNode().put("key", key);
+        bucket.putObject("per_day").set("buckets", days);
+        return bucket;
+    }
+
+    private ArrayNode rawDays(long[] counts) {
+        ArrayNode days = om.createArrayNode();
+        for (long c : counts) {
+            days.addObject().put("doc_count", c);
+        }
+        return days;
+    }
+
+    /**
+     * ES 응답 모양 재현: moving_fn은 직전 window개 버킷(현재 제외), 빈 window의 평균은 null,
+     * bucket_script는 입력이 null이면 값이 없습니다.
+     */
+    private ArrayNode scriptedDays(long[] counts) {
+        ArrayNode days = om.createArrayNode();
+        for (int i = 0; i < counts.length; i++) {
+            ObjectNode day = days.addObject().put("doc_count", counts[i]);
+            Double ma7 = avg(counts, Math.max(0, i - 7), i);
+            Double ma30 = avg(counts, Math.max(0, i - 30), i);
+            day.putObject("ma7").put("value", ma7);
+            day.putObject("ma30").put("value", ma30);
+            day.putObject("total30").put("value", sum(counts, Math.max(0, i - 30), i));
+            if (ma7 != null && ma30 != null) {
+                day.putObject("trend_score").put("value", (ma7 - ma30) / Math.max(ma30, 1));
+            }
+        }
+        return days;
+    }
+
+    private static Double avg(long[] counts, int from, int to) {
+        return to > from ? sum(counts, from, to) / (to - from) : null;
+    }
+
+    private static double sum(long[] counts, int from, int to) {
+        double sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += counts[i];
+        }
+        return sum;
+    }
+}
@@ -1,7 +1,9 @@
 package com.paperradar.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
+import java.util.Locale;
 import org.junit.jupiter.api.Test;
 
 class KeywordNormalizeUtilTest {
@@ -18,5 +20,23 @@ class KeywordNormalizeUtilTest {
         assertEquals("", KeywordNormalizeUtil.normalize(""));
         assertEquals("", KeywordNormalizeUtil.normalize("   "));
     }
-}
 
+    @Test
+    void returnsSameInstanceWhenAlreadyNormalized() {
+        String normalized = "graph neural network";
+        assertSame(normalized, KeywordNormalizeUtil.normalize(normalized));
+        String korean = "그래프 신경망";
+        assertSame(korean, KeywordNormalizeUtil.normalize(korean));
+    }
+
+    @Test
+    void matchesRegexBasedNormalization() {
+        String[] inputs = {
+                "\u000B Deep\fLearning\r\n", "a\u0001b", " ÄRGER  Über ", "ΟΔΟΣ ΣΟΦΙΑ", "İstanbul", "x \t y", "ABC"
+        };
+        for (String raw : inputs) {
+            String expected = raw.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+            assertEquals(expected, KeywordNormalizeUtil.normalize(raw), raw);
+        }
+    }
+}